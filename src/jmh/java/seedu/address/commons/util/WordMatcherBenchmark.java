@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.order.util.SampleDataUtil;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Measures matching the keywords of a {@code find} command against the names and addresses of {@code customerCount}
+ * customers, with a {@code WordMatcher} created once per command and with the regular expression based matching
+ * that {@code StringUtil#containsWordIgnoreCase} used to do for each keyword of each customer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WordMatcherBenchmark {
+
+    private static final List<String> NAME_KEYWORDS = List.of("bernice", "Li", "Nguyen");
+    private static final List<String> ADDRESS_KEYWORDS = List.of("Serangoon", "street", "#11-04");
+
+    @Param({"1000", "100000"})
+    private int customerCount;
+
+    private List<String> names;
+    private List<String> addresses;
+
+    @Setup
+    public void setUp() {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        names = new ArrayList<>();
+        addresses = new ArrayList<>();
+        for (int i = 0; i < customerCount; i++) {
+            Person customer = LargeAddressBookGenerator.generateCustomer(samplePersons[i % samplePersons.length], i);
+            names.add(customer.getName().fullName);
+            addresses.add(customer.getAddress().value);
+        }
+    }
+
+    @Benchmark
+    public int matchNamesWithWordMatcher() {
+        return countMatches(names, NAME_KEYWORDS);
+    }
+
+    @Benchmark
+    public int matchNamesWithRegexSplit() {
+        return countRegexMatches(names, NAME_KEYWORDS);
+    }
+
+    @Benchmark
+    public int matchAddressesWithWordMatcher() {
+        return countMatches(addresses, ADDRESS_KEYWORDS);
+    }
+
+    @Benchmark
+    public int matchAddressesWithRegexSplit() {
+        return countRegexMatches(addresses, ADDRESS_KEYWORDS);
+    }
+
+    private static int countMatches(List<String> sentences, List<String> keywords) {
+        WordMatcher matcher = new WordMatcher(keywords);
+        int count = 0;
+        for (String sentence : sentences) {
+            if (matcher.matchesAnyWordIn(sentence)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countRegexMatches(List<String> sentences, List<String> keywords) {
+        int count = 0;
+        for (String sentence : sentences) {
+            if (keywords.stream().anyMatch(keyword -> containsWordWithRegexSplit(sentence, keyword))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The previous implementation of {@code StringUtil#containsWordIgnoreCase}, kept as the baseline.
+     */
+    private static boolean containsWordWithRegexSplit(String sentence, String word) {
+        String preppedWord = word.trim();
+        if (preppedWord.isEmpty() || preppedWord.split("\\s+").length != 1) {
+            throw new IllegalArgumentException(word);
+        }
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a command entered by the user, for each kind of command that is typed often.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AddressBookParserBenchmark {
+
+    private static final Map<String, String> USER_INPUTS = new HashMap<>();
+
+    static {
+        USER_INPUTS.put("add", "add n/Alex Yeoh p/87438807 e/alexyeoh@example.com "
+                + "a/Blk 30 Geylang Street 29, #06-40 t/friends t/regulars");
+        USER_INPUTS.put("order", "order p/87438807");
+        USER_INPUTS.put("product", "product m/1 pq/2");
+        USER_INPUTS.put("edit", "edit o/1 m/1 pq/2");
+        USER_INPUTS.put("stage", "stage o/1");
+        USER_INPUTS.put("find", "find n/Alex Bernice Charlotte");
+        USER_INPUTS.put("list", "list");
+    }
+
+    @Param({"add", "order", "product", "edit", "stage", "find", "list"})
+    private String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String userInput;
+
+    @Setup
+    public void setUp() {
+        userInput = USER_INPUTS.get(commandWord);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(userInput);
+    }
+}
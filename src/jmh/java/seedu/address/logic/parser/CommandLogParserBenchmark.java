@@ -0,0 +1,70 @@
+package seedu.address.logic.parser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how many times per second the commands of a recorded session can be parsed, including the invalid
+ * inputs a user typically enters along the way.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CommandLogParserBenchmark {
+
+    /** Commands entered during a session of taking and fulfilling orders, in the order they were entered. */
+    private static final List<String> COMMAND_LOG = List.of(
+            "list",
+            "menu pn/Cupcake pc/1.20 ps/3.50",
+            "menu pn/Chocolate Cookie pc/0.40 ps/1.50",
+            "add n/Alex Yeoh p/87438807 e/alexyeoh@example.com a/Blk 30 Geylang Street 29, #06-40 t/friends",
+            "order p/87438807 by/25/12/2030",
+            "product m/1 pq/12",
+            "product m/2 pq/30",
+            "find n/Alex Bernice",
+            "find p/87438807",
+            "ordr p/99272758",
+            "order p/99272758",
+            "product m/1 pq/six",
+            "product m/1 pq/6",
+            "edit o/2 m/1 pq/8",
+            "edit o/2 by/24/12/2030",
+            "edit c/1 a/Blk 31 Geylang Street 29, #06-40",
+            "stage o/1",
+            "stage o/1",
+            "due 3",
+            "complete 1",
+            "cancel 2",
+            "stats",
+            "history from/01/12/2030",
+            "list");
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public void parseCommandLog(Blackhole blackhole) {
+        for (String userInput : COMMAND_LOG) {
+            try {
+                blackhole.consume(parser.parseCommand(userInput));
+            } catch (ParseException pe) {
+                blackhole.consume(pe);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.parser.CommandCompleter;
+import seedu.address.model.CompletionIndex.Field;
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Measures suggesting completions for one keystroke among {@code customerCount} customers, whose phone numbers and
+ * names make up twice as many entries. Each keystroke should take well under 2 milliseconds, including searches for
+ * values with a similar start that find nothing, which visit the most nodes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CompletionBenchmark {
+
+    @Param({"1000", "100000"})
+    private int customerCount;
+
+    private CompletionIndex completionIndex;
+    private CommandCompleter commandCompleter;
+
+    @Setup
+    public void setUp() {
+        Model model = new ModelManager(LargeAddressBookGenerator.generate(customerCount, 0), new UserPrefs());
+        completionIndex = model.getCompletionIndex();
+        commandCompleter = new CommandCompleter(completionIndex);
+    }
+
+    @Benchmark
+    public List<String> suggestPhoneWithPrefix() {
+        return completionIndex.suggest(Field.PHONE, "8000", CommandCompleter.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<String> suggestPhoneWithTypingError() {
+        return completionIndex.suggest(Field.PHONE, "8100", CommandCompleter.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<String> suggestNameWithoutMatches() {
+        return completionIndex.suggest(Field.NAME, "zqzq", CommandCompleter.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public List<String> completeCommand() {
+        return commandCompleter.complete("order p/8000 by/01/01/2030 n/Alex Ye");
+    }
+}
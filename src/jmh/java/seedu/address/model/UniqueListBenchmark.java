@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.order.Product;
+import seedu.address.model.order.ProductMenu;
+import seedu.address.model.order.util.SampleDataUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.LargeAddressBookGenerator;
+import seedu.address.testutil.ProductBuilder;
+
+/**
+ * Measures replacing the contents of, and checking for duplicates in, a {@code UniquePersonList} and a
+ * {@code ProductMenu} of {@code entryCount} entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniqueListBenchmark {
+
+    @Param({"1000", "100000"})
+    private int entryCount;
+
+    private List<Person> persons;
+    private List<Product> products;
+    private UniquePersonList personList;
+    private ProductMenu menu;
+    private Person absentPerson;
+    private Product absentProduct;
+
+    @Setup
+    public void setUp() {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        persons = new ArrayList<>();
+        products = new ArrayList<>();
+        for (int i = 0; i < entryCount; i++) {
+            persons.add(LargeAddressBookGenerator.generateCustomer(samplePersons[i % samplePersons.length], i));
+            products.add(new ProductBuilder().withName("Product " + i).build());
+        }
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        menu = new ProductMenu();
+        menu.setProducts(products);
+        absentPerson = LargeAddressBookGenerator.generateCustomer(samplePersons[0], entryCount);
+        absentProduct = new ProductBuilder().withName("Product " + entryCount).build();
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPerson() {
+        return personList.contains(absentPerson);
+    }
+
+    @Benchmark
+    public ProductMenu setProducts() {
+        ProductMenu productMenu = new ProductMenu();
+        productMenu.setProducts(products);
+        return productMenu;
+    }
+
+    @Benchmark
+    public boolean containsProduct() {
+        return menu.contains(absentProduct);
+    }
+}
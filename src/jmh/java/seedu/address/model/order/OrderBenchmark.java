@@ -0,0 +1,68 @@
+package seedu.address.model.order;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recomputing the totals of an order of {@code productCount} products, against
+ * {@code updateNumbersParsingPrices}, which recomputes them the way orders did before prices were parsed once into
+ * {@code Money}, and changing the quantity of one product of such an order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100", "500"})
+    private int productCount;
+
+    private Order order;
+    private Product firstProduct;
+
+    @Setup
+    public void setUp() {
+        order = new Order();
+        for (int i = 0; i < productCount; i++) {
+            order.addProduct(new Product("Product " + i, Integer.toString(i + 1), Integer.toString(2 * i + 2)),
+                    new Quantity(i % 5 + 1));
+        }
+        firstProduct = new Product("Product 0");
+    }
+
+    @Benchmark
+    public Order changeQuantity() {
+        return order.changeQuantity(firstProduct, new Quantity(7));
+    }
+
+    @Benchmark
+    public long updateNumbers() {
+        order.updateNumbers();
+        return order.getProfit().getCents();
+    }
+
+    @Benchmark
+    public float updateNumbersParsingPrices() {
+        float totalCost = 0;
+        float totalSales = 0;
+        for (Map.Entry<Product, Quantity> entry : order.getProductMap().entrySet()) {
+            totalCost += Float.parseFloat(entry.getKey().getCost()) * entry.getValue().getValue();
+            totalSales += Float.parseFloat(entry.getKey().getSales()) * entry.getValue().getValue();
+        }
+        return totalSales - totalCost;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Measures adding, editing, advancing the stage of, and deleting random orders in an {@code OrderList} of
+ * {@code orderCount} active orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OrderListBenchmark {
+
+    private static final int ORDERS_PER_CUSTOMER = 10;
+
+    @Param({"1000", "10000", "50000"})
+    private int orderCount;
+
+    private List<Order> orders;
+    private OrderList orderList;
+    private int[] liveOrderIds;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void generateOrders() {
+        orders = new ArrayList<>(LargeAddressBookGenerator.generate(orderCount / ORDERS_PER_CUSTOMER,
+                ORDERS_PER_CUSTOMER).getOrderList());
+    }
+
+    /**
+     * Resets the order list before each iteration, so that orders added by {@link #addOrder()} do not accumulate.
+     */
+    @Setup(Level.Iteration)
+    public void resetOrderList() {
+        orderList = new OrderList();
+        orderList.setOrders(orders);
+        orderList.setOrderIdCounter(orders.size() + 1);
+        liveOrderIds = new int[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            liveOrderIds[i] = orders.get(i).getId();
+        }
+        random = new Random(0);
+    }
+
+    @Benchmark
+    public void addOrder() {
+        orderList.addOrder(new Order(orders.get(random.nextInt(orders.size()))));
+    }
+
+    @Benchmark
+    public void editOrder() {
+        int orderId = liveOrderIds[random.nextInt(liveOrderIds.length)];
+        orderList.editOrder(orderId, new Order(orderList.getOrder(orderId)));
+    }
+
+    @Benchmark
+    public void goToNextStage() {
+        Order target = orderList.getOrder(liveOrderIds[random.nextInt(liveOrderIds.length)]);
+        orderList.setOrder(target, target.goToNextStage());
+    }
+
+    /**
+     * Deletes a random order and adds a copy of it back, so that the number of orders stays the same.
+     */
+    @Benchmark
+    public void deleteAndAddOrder() {
+        int position = random.nextInt(liveOrderIds.length);
+        Order deletedOrder = orderList.getOrder(liveOrderIds[position]);
+        orderList.deleteOrder(liveOrderIds[position]);
+        Order addedOrder = new Order(deletedOrder);
+        orderList.addOrder(addedOrder);
+        liveOrderIds[position] = addedOrder.getId();
+    }
+}
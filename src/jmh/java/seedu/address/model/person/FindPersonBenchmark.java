@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindPersonCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonSearchIndex.Field;
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Measures finding customers by name among {@code customerCount} customers, through the search index alone and
+ * through a {@code find} command that filters the displayed customers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FindPersonBenchmark {
+
+    @Param({"1000", "200000"})
+    private int customerCount;
+
+    private Model model;
+    private List<String> keywords;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(LargeAddressBookGenerator.generate(customerCount, 0), new UserPrefs());
+        keywords = List.of(Integer.toString(customerCount / 2), "Yeoh");
+    }
+
+    @Benchmark
+    public Predicate<Person> searchIndex() {
+        return model.getPersonSearchIndex().getPredicate(Field.NAME, keywords);
+    }
+
+    @Benchmark
+    public CommandResult findPersonCommand() {
+        return new FindPersonCommand(new NameContainsKeywordsPredicate(keywords)).execute(model);
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Measures appending {@code completedOrderCount} completed orders to the completed orders file, flushing every
+ * {@code flushRowCount} rows, or only on close if it is 0.
+ * The file is emptied before each iteration, since every save appends to it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CsvCompletedOrderStorageBenchmark {
+
+    private static final int ORDERS_PER_CUSTOMER = 10;
+
+    @Param({"1", "100", "10000"})
+    private int completedOrderCount;
+
+    @Param({"1", "0"})
+    private int flushRowCount;
+
+    private AddressBook completedOrdersHolder;
+    private Path file;
+    private CsvCompletedOrderStorage storage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        AddressBook addressBook = LargeAddressBookGenerator.generate(
+                Math.max(1, completedOrderCount / ORDERS_PER_CUSTOMER), ORDERS_PER_CUSTOMER);
+        completedOrdersHolder = new AddressBook();
+        completedOrdersHolder.setCompletedOrders(
+                new ArrayList<>(addressBook.getOrderList().subList(0, completedOrderCount)));
+        file = Files.createTempFile("CsvCompletedOrderStorageBenchmark", ".csv");
+        storage = new CsvCompletedOrderStorage(file, flushRowCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyFile() throws IOException {
+        Files.write(file, new byte[0]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        storage.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void saveCompletedOrders() throws IOException {
+        storage.saveCompletedOrders(completedOrdersHolder);
+    }
+}
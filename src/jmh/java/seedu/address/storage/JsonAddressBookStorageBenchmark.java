@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.LargeAddressBookGenerator;
+
+/**
+ * Measures saving and loading an address book of {@code customerCount} customers who each placed
+ * {@code ORDERS_PER_CUSTOMER} orders. Run with {@code -prof gc} to also measure the memory allocated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonAddressBookStorageBenchmark {
+
+    private static final int ORDERS_PER_CUSTOMER = 10;
+
+    @Param({"100", "1000", "5000"})
+    private int customerCount;
+
+    private AddressBook addressBook;
+    private Path folder;
+    private JsonAddressBookStorage saveStorage;
+    private JsonAddressBookStorage loadStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = LargeAddressBookGenerator.generate(customerCount, ORDERS_PER_CUSTOMER);
+        folder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+        saveStorage = new JsonAddressBookStorage(folder.resolve("saved.json"));
+        loadStorage = new JsonAddressBookStorage(folder.resolve("loaded.json"));
+        loadStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(folder.resolve("saved.json"));
+        Files.deleteIfExists(folder.resolve("loaded.json"));
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException, IOException {
+        return loadStorage.readAddressBook();
+    }
+}
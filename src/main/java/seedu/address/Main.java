@@ -4,6 +4,7 @@ import java.util.logging.Logger;
 
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.ui.StartupPreloader;
 
 /**
  * The main entry point to the application.
@@ -35,6 +36,9 @@ public class Main {
         // the user (if looking at the log output) that the said warning appearing in the log
         // can be ignored.
         logger.warning("The warning about Unsupported JavaFX configuration below can be ignored.");
+
+        // Shows the progress of loading the data file while MainApp is initializing.
+        System.setProperty("javafx.preloader", StartupPreloader.class.getName());
         Application.launch(MainApp.class, args);
     }
 }
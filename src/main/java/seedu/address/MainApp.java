@@ -2,10 +2,13 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Preloader;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +16,8 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.JournalReplayException;
+import seedu.address.logic.JournalReplayer;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -23,12 +28,17 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.order.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryOrderArchiveStorage;
 import seedu.address.storage.CompletedOrderStorage;
 import seedu.address.storage.CsvCompletedOrderStorage;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.OrderArchiveStorage;
+import seedu.address.storage.PartitionPolicy;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextJournalStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -60,11 +70,19 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        PartitionPolicy partitionPolicy = new PartitionPolicy(userPrefs.getCompletedOrderPartitionMonths(),
+                userPrefs.getCompletedOrderRetentionMonths());
         CompletedOrderStorage completedOrderStorage =
-                new CsvCompletedOrderStorage(userPrefs.getCompletedOrderFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, completedOrderStorage);
+                new CsvCompletedOrderStorage(userPrefs.getCompletedOrderFilePath(),
+                        userPrefs.getCompletedOrderFlushRowCount(), partitionPolicy, Clock.systemDefaultZone());
+        OrderArchiveStorage orderArchiveStorage = new BinaryOrderArchiveStorage(
+                userPrefs.getOrderArchiveDirectoryPath(), partitionPolicy, Clock.systemDefaultZone());
+        JournalStorage journalStorage = new TextJournalStorage(userPrefs.getJournalFilePath());
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, completedOrderStorage, orderArchiveStorage,
+                journalStorage, userPrefs.getMaxSaveStalenessMillis(), userPrefs.getJournalCompactionThreshold());
 
         model = initModelManager(storage, userPrefs);
+        model.setOrderArchive(storage.getOrderArchive());
 
         logic = new LogicManager(model, storage);
 
@@ -75,6 +93,8 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Commands journalled since the address book was last written are then replayed on top of it, unless it could
+     * not be read, in which case the journal is left as it is so that both files can still be recovered.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
@@ -82,7 +102,8 @@ public class MainApp extends Application {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = storage.readAddressBook(progress ->
+                    notifyPreloader(new Preloader.ProgressNotification(progress)));
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
@@ -91,14 +112,49 @@ public class MainApp extends Application {
         } catch (DataLoadingException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new ModelManager(new AddressBook(), userPrefs);
         } catch (IOException e) {
             logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
+            return new ModelManager(new AddressBook(), userPrefs);
         }
 
-        return new ModelManager(initialData, userPrefs);
+        Model initialModel = new ModelManager(initialData, userPrefs);
+        try {
+            List<String> journal = storage.readJournal();
+            if (!journal.isEmpty()) {
+                int replayedCount = new JournalReplayer().replay(journal, initialModel);
+                logger.info("Replayed " + replayedCount + " of " + journal.size() + " journalled commands.");
+                // Saving the replayed address book lets the journal be folded into the data file once it is
+                // long enough or the app exits, instead of being replayed again on every launch.
+                storage.saveAddressBook(initialModel.getAddressBook());
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Journal file could not be loaded. Changes made since the data file was last written"
+                    + " will be lost.");
+        } catch (IOException e) {
+            logger.warning("The replayed journal could not be written to the data file: " + StringUtil.getDetails(e));
+        } catch (JournalReplayException e) {
+            logger.severe(e.getMessage() + ". Recovery stopped after " + e.getReplayedCount() + " journal records.");
+            setAsideJournal(storage, initialModel);
+        }
+
+        return initialModel;
+    }
+
+    /**
+     * Moves the journal of {@code storage} aside, so that the commands that could not be replayed are kept for
+     * inspection, and writes the commands that were replayed into {@code model} to the data file.
+     */
+    private void setAsideJournal(Storage storage, Model model) {
+        try {
+            storage.setAsideJournal().ifPresent(setAsideFilePath ->
+                    logger.severe("The journal was moved to " + setAsideFilePath + "."));
+            storage.saveAddressBookSnapshot(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("The journal could not be set aside or the data file could not be written: "
+                    + StringUtil.getDetails(e));
+        }
     }
 
     private void initLogging(Config config) {
@@ -190,5 +246,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,272 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A ternary search tree of strings, which finds the strings that start with a prefix, ignoring case, in time that
+ * depends on the length of the prefix and the number of strings returned, rather than on the number of strings in
+ * the tree. It can also find the strings that start with a prefix within a number of typing errors of the prefix,
+ * visiting at most a fixed number of nodes so that the time taken stays bounded however many strings are in the tree.
+ *
+ * A string can be added several times, and is kept until it has been removed as many times as it was added.
+ * Strings are returned in lexicographic order of their lower case forms, and each string is returned once.
+ */
+public class TernarySearchTree {
+
+    public static final String MESSAGE_NON_POSITIVE_LIMIT = "Limit must be positive.";
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code value} to the tree. Empty strings are ignored.
+     */
+    public void add(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        if (key.isEmpty()) {
+            return;
+        }
+        if (root == null) {
+            root = new Node(key.charAt(0));
+        }
+        Node node = root;
+        int depth = 0;
+        while (true) {
+            char c = key.charAt(depth);
+            if (c < node.c) {
+                if (node.lo == null) {
+                    node.lo = new Node(c);
+                }
+                node = node.lo;
+            } else if (c > node.c) {
+                if (node.hi == null) {
+                    node.hi = new Node(c);
+                }
+                node = node.hi;
+            } else if (depth < key.length() - 1) {
+                depth++;
+                if (node.eq == null) {
+                    node.eq = new Node(key.charAt(depth));
+                }
+                node = node.eq;
+            } else {
+                if (node.values == null) {
+                    node.values = new ArrayList<>(1);
+                }
+                node.values.add(value);
+                size++;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code value} from the tree, if it is in the tree.
+     * Nodes that no longer lead to any string are removed with it.
+     */
+    public void remove(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        if (!key.isEmpty()) {
+            root = remove(root, key, 0, value);
+        }
+    }
+
+    /**
+     * Returns the number of strings in the tree, counting each occurrence of a string added several times.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns up to {@code limit} of the strings that start with {@code prefix}, ignoring case.
+     */
+    public List<String> getStringsWithPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, MESSAGE_NON_POSITIVE_LIMIT);
+        String key = toKey(prefix);
+        Set<String> matches = new LinkedHashSet<>();
+        if (key.isEmpty()) {
+            collectAll(root, matches, limit);
+            return new ArrayList<>(matches);
+        }
+        Node node = find(key);
+        if (node != null) {
+            collectValues(node, matches, limit);
+            collectAll(node.eq, matches, limit);
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns up to {@code limit} of the strings that start with a prefix that is at most {@code maxEdits} single
+     * character insertions, deletions or substitutions away from {@code prefix}, ignoring case.
+     * At most {@code maxVisitedNodes} nodes are visited, so fewer strings may be returned from a large tree.
+     */
+    public List<String> getStringsWithSimilarPrefix(String prefix, int maxEdits, int limit, int maxVisitedNodes) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, MESSAGE_NON_POSITIVE_LIMIT);
+        String key = toKey(prefix);
+        int[] firstRow = new int[key.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+        Set<String> matches = new LinkedHashSet<>();
+        if (firstRow[key.length()] <= maxEdits) {
+            collectAll(root, matches, limit);
+        } else {
+            new FuzzySearch(key, maxEdits, limit, maxVisitedNodes, matches).search(root, firstRow);
+        }
+        return new ArrayList<>(matches);
+    }
+
+    private static String toKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the node of the last character of {@code key}, or null if no string in the tree starts with it.
+     */
+    private Node find(String key) {
+        Node node = root;
+        int depth = 0;
+        while (node != null) {
+            char c = key.charAt(depth);
+            if (c < node.c) {
+                node = node.lo;
+            } else if (c > node.c) {
+                node = node.hi;
+            } else if (depth < key.length() - 1) {
+                depth++;
+                node = node.eq;
+            } else {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes one occurrence of {@code value}, whose key is {@code key}, from the subtree of {@code node}, which is
+     * at {@code depth} characters into the key.
+     * @return the subtree without {@code value}, or null if it no longer leads to any string.
+     */
+    private Node remove(Node node, String key, int depth, String value) {
+        if (node == null) {
+            return null;
+        }
+        char c = key.charAt(depth);
+        if (c < node.c) {
+            node.lo = remove(node.lo, key, depth, value);
+        } else if (c > node.c) {
+            node.hi = remove(node.hi, key, depth, value);
+        } else if (depth < key.length() - 1) {
+            node.eq = remove(node.eq, key, depth + 1, value);
+        } else if (node.values != null && node.values.remove(value)) {
+            size--;
+            if (node.values.isEmpty()) {
+                node.values = null;
+            }
+        }
+        return node.values == null && node.lo == null && node.eq == null && node.hi == null ? null : node;
+    }
+
+    private static void collectValues(Node node, Set<String> matches, int limit) {
+        if (node.values == null) {
+            return;
+        }
+        for (String value : node.values) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.add(value);
+        }
+    }
+
+    /**
+     * Adds the strings in the subtree of {@code node} to {@code matches}, in order, until there are {@code limit}.
+     */
+    private static void collectAll(Node node, Set<String> matches, int limit) {
+        if (node == null || matches.size() >= limit) {
+            return;
+        }
+        collectAll(node.lo, matches, limit);
+        collectValues(node, matches, limit);
+        collectAll(node.eq, matches, limit);
+        collectAll(node.hi, matches, limit);
+    }
+
+    /**
+     * A search for the strings with a prefix similar to a key, which keeps the edit distances from the key to the
+     * path of the current node as a row of the Levenshtein distance table.
+     */
+    private static class FuzzySearch {
+        private final String key;
+        private final int maxEdits;
+        private final int limit;
+        private final Set<String> matches;
+        private int remainingVisits;
+
+        FuzzySearch(String key, int maxEdits, int limit, int maxVisitedNodes, Set<String> matches) {
+            this.key = key;
+            this.maxEdits = maxEdits;
+            this.limit = limit;
+            this.remainingVisits = maxVisitedNodes;
+            this.matches = matches;
+        }
+
+        /**
+         * Searches the subtree of {@code node}, where {@code row} holds the edit distances from each prefix of the
+         * key to the path leading to {@code node}, excluding the character of {@code node}.
+         */
+        void search(Node node, int[] row) {
+            if (node == null || matches.size() >= limit || remainingVisits <= 0) {
+                return;
+            }
+            remainingVisits--;
+            search(node.lo, row);
+
+            int[] nextRow = new int[row.length];
+            nextRow[0] = row[0] + 1;
+            int minDistance = nextRow[0];
+            for (int i = 1; i < row.length; i++) {
+                int substitutionCost = key.charAt(i - 1) == node.c ? 0 : 1;
+                nextRow[i] = Math.min(Math.min(nextRow[i - 1] + 1, row[i] + 1), row[i - 1] + substitutionCost);
+                minDistance = Math.min(minDistance, nextRow[i]);
+            }
+            if (nextRow[key.length()] <= maxEdits) {
+                // every string through this node starts with a prefix similar to the key
+                collectValues(node, matches, limit);
+                collectAll(node.eq, matches, limit);
+            } else if (minDistance <= maxEdits) {
+                search(node.eq, nextRow);
+            }
+
+            search(node.hi, row);
+        }
+    }
+
+    /**
+     * A node of the tree, holding the strings that end at it, if any.
+     */
+    private static class Node {
+        private final char c;
+        private Node lo;
+        private Node eq;
+        private Node hi;
+        private List<String> values;
+
+        Node(char c) {
+            this.c = c;
+        }
+    }
+}
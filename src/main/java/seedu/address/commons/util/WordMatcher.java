@@ -0,0 +1,126 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tests whether a sentence contains any of a set of keywords as a full word, ignoring case.
+ * The keywords are split into words and case folded once, when the matcher is created, so that a matcher can be
+ * reused for many sentences. Each sentence is scanned in place, without a regular expression or an array of its
+ * words, so testing a sentence allocates nothing.
+ *
+ * Words are separated by the same whitespace characters as {@code \s} in a regular expression.
+ */
+public class WordMatcher {
+
+    /** Keyword words in lower case, indexed by their length. Lengths without any word have no entry. */
+    private final String[][] wordsByLength;
+
+    /**
+     * Creates a {@code WordMatcher} of the words of {@code keywords}, so that a keyword of several words matches a
+     * sentence containing any of them.
+     */
+    public WordMatcher(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<List<String>> words = new ArrayList<>();
+        for (String keyword : keywords) {
+            int end = 0;
+            while (true) {
+                int start = skipWhitespace(keyword, end);
+                if (start == keyword.length()) {
+                    break;
+                }
+                end = skipWord(keyword, start);
+                String word = keyword.substring(start, end).toLowerCase(Locale.ROOT);
+                while (words.size() <= word.length()) {
+                    words.add(null);
+                }
+                if (words.get(word.length()) == null) {
+                    words.set(word.length(), new ArrayList<>(1));
+                }
+                if (!words.get(word.length()).contains(word)) {
+                    words.get(word.length()).add(word);
+                }
+            }
+        }
+        wordsByLength = new String[words.size()][];
+        for (int length = 0; length < words.size(); length++) {
+            if (words.get(length) != null) {
+                wordsByLength[length] = words.get(length).toArray(new String[0]);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the matcher has no words, in which case it matches no sentence.
+     */
+    public boolean isEmpty() {
+        return wordsByLength.length == 0;
+    }
+
+    /**
+     * Returns true if {@code sentence} contains any of the words of the keywords as a full word, ignoring case.
+     */
+    public boolean matchesAnyWordIn(String sentence) {
+        requireNonNull(sentence);
+        int end = 0;
+        while (true) {
+            int start = skipWhitespace(sentence, end);
+            if (start == sentence.length()) {
+                return false;
+            }
+            end = skipWord(sentence, start);
+            int length = end - start;
+            if (length < wordsByLength.length && wordsByLength[length] != null) {
+                for (String word : wordsByLength[length]) {
+                    if (sentence.regionMatches(true, start, word, 0, length)) {
+                        return true;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code sentence} contains {@code word} as a full word, ignoring case.
+     * {@code word} must be a single word without whitespace.
+     */
+    static boolean containsWord(String sentence, String word) {
+        int end = 0;
+        while (true) {
+            int start = skipWhitespace(sentence, end);
+            if (start == sentence.length()) {
+                return false;
+            }
+            end = skipWord(sentence, start);
+            if (end - start == word.length() && sentence.regionMatches(true, start, word, 0, word.length())) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code c} separates words, as a whitespace character matched by {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static int skipWhitespace(String s, int index) {
+        while (index < s.length() && isWhitespace(s.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int skipWord(String s, int index) {
+        while (index < s.length() && !isWhitespace(s.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+}
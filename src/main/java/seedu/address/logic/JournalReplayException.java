@@ -0,0 +1,40 @@
+package seedu.address.logic;
+
+/**
+ * Signals that a journal record could not be replayed, which stops the replay of the records after it.
+ */
+public class JournalReplayException extends Exception {
+
+    private final int replayedCount;
+    private final String record;
+
+    /**
+     * Creates a {@code JournalReplayException} for {@code record}, which could not be replayed for {@code reason}
+     * after {@code replayedCount} records were replayed.
+     */
+    public JournalReplayException(int replayedCount, String record, String reason) {
+        super("Journal record [" + record + "] could not be replayed: " + reason);
+        this.replayedCount = replayedCount;
+        this.record = record;
+    }
+
+    /**
+     * Creates a {@code JournalReplayException} for {@code record}, which could not be replayed because of
+     * {@code cause} after {@code replayedCount} records were replayed.
+     */
+    public JournalReplayException(int replayedCount, String record, Throwable cause) {
+        this(replayedCount, record, cause.getMessage());
+        initCause(cause);
+    }
+
+    /**
+     * Returns the number of records that were replayed before the one that failed.
+     */
+    public int getReplayedCount() {
+        return replayedCount;
+    }
+
+    public String getRecord() {
+        return record;
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RestoreOrderLineCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.RestoreOrderLineCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+
+/**
+ * Re-executes journalled commands against a {@code Model} to restore the changes made since its data file
+ * was last written.
+ */
+public class JournalReplayer {
+
+    public static final String MESSAGE_UNFINISHED_BATCH = "The batch it begins was not fully journalled";
+
+    private final AddressBookParser addressBookParser = new AddressBookParser();
+
+    /**
+     * Creates a {@code JournalReplayer} that also accepts the records that are only written to the journal.
+     */
+    public JournalReplayer() {
+        addressBookParser.registerCommand(new RestoreOrderLineCommandParser(), RestoreOrderLineCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Executes each of {@code commandTexts}, oldest first, on {@code model} and returns the number of records
+     * replayed. The records of a batch, between {@link BatchCommand#JOURNAL_BEGIN} and
+     * {@link BatchCommand#JOURNAL_COMMIT}, are replayed together or not at all. Completed orders produced by the
+     * replayed commands were already saved before the commands were journalled, so they are discarded instead of
+     * being saved again.
+     *
+     * @throws JournalReplayException if a command can no longer be parsed or executed, or a batch was not fully
+     *     journalled. The records before it stay replayed, and the records after it are not replayed, since they
+     *     may depend on its changes.
+     */
+    public int replay(List<String> commandTexts, Model model) throws JournalReplayException {
+        requireNonNull(commandTexts);
+        requireNonNull(model);
+
+        int replayedCount = 0;
+        try {
+            while (replayedCount < commandTexts.size()) {
+                int unitEnd = findUnitEnd(commandTexts, replayedCount);
+                if (unitEnd < 0) {
+                    throw new JournalReplayException(replayedCount, commandTexts.get(replayedCount),
+                            MESSAGE_UNFINISHED_BATCH);
+                }
+                replayUnit(commandTexts.subList(replayedCount, unitEnd), model, replayedCount);
+                replayedCount = unitEnd;
+            }
+        } finally {
+            model.clearCompletedOrders();
+        }
+        return replayedCount;
+    }
+
+    /**
+     * Returns the index after the last record of the unit that starts at {@code start}, which is either a single
+     * record or a whole batch, or -1 if the batch is not committed.
+     */
+    private static int findUnitEnd(List<String> commandTexts, int start) {
+        int depth = 0;
+        for (int i = start; i < commandTexts.size(); i++) {
+            if (commandTexts.get(i).equals(BatchCommand.JOURNAL_BEGIN)) {
+                depth++;
+            } else if (commandTexts.get(i).equals(BatchCommand.JOURNAL_COMMIT)) {
+                depth--;
+            }
+            if (depth <= 0) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Replays the records of {@code unit}, and rolls {@code model} back if any of them fails.
+     */
+    private void replayUnit(List<String> unit, Model model, int replayedCount) throws JournalReplayException {
+        AddressBook copy = unit.size() > 1 ? model.copyAddressBook() : null;
+        for (String commandText : unit) {
+            if (commandText.equals(BatchCommand.JOURNAL_BEGIN) || commandText.equals(BatchCommand.JOURNAL_COMMIT)) {
+                continue;
+            }
+            try {
+                Command command = addressBookParser.parseCommand(commandText);
+                command.execute(model);
+            } catch (ParseException | CommandException e) {
+                if (copy != null) {
+                    model.restoreAddressBook(copy);
+                }
+                throw new JournalReplayException(replayedCount, commandText, e);
+            }
+        }
+    }
+}
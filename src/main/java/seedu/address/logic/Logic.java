@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,7 +10,10 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDeadlines;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
 
 /**
@@ -41,6 +45,25 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of menu items */
     ObservableList<Product> getFilteredMenuList();
 
+    /** Returns the running totals of the active orders */
+    OrderStatistics getOrderStatistics();
+
+    /** Returns the running totals of the orders completed since the address book was loaded */
+    OrderStatistics getCompletedOrderStatistics();
+
+    /** Returns the index of the active orders by deadline */
+    OrderDeadlines getOrderDeadlines();
+
+    /**
+     * Returns {@code commandText} with the value of its last argument completed by each suggested value, best first.
+     *
+     * @see seedu.address.logic.parser.CommandCompleter#complete(String)
+     */
+    List<String> getCommandCompletions(String commandText);
+
+    /** Returns an unmodifiable view of the active orders at {@code stage} */
+    ObservableList<Order> getOrderListAtStage(StageState stage);
+
     /**
      * Returns the user prefs' address book file path.
      */
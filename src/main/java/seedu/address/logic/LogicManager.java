@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,11 +13,16 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandCompleter;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDeadlines;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -34,6 +40,8 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    /** Created when completions are first requested, which builds the completion index of the model. */
+    private CommandCompleter commandCompleter;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -50,21 +58,49 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveCompletedOrders(model.getAddressBook());
-            model.clearCompletedOrders();
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+
+        // Storage may write the address book from a background thread while holding its lock,
+        // so the address book is only mutated while holding that same lock.
+        synchronized (model.getAddressBook()) {
+            commandResult = command.isAtomic() ? executeAtomically(command) : command.execute(model);
+
+            try {
+                // Replaying the journal does not save the orders it completes again, so they are saved before the
+                // command that completed them is journalled.
+                storage.saveCompletedOrders(model.getAddressBook());
+                model.clearCompletedOrders();
+                if (command.isReplayable()) {
+                    for (String journalEntry : command.getJournalEntries(commandText)) {
+                        storage.appendToJournal(journalEntry);
+                    }
+                    storage.saveAddressBook(model.getAddressBook());
+                } else {
+                    storage.saveAddressBookSnapshot(model.getAddressBook());
+                }
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
         }
 
         return commandResult;
     }
 
+    /**
+     * Executes {@code command} against a model of an in-memory copy of the address book, and replaces the address
+     * book with that copy only if the command succeeds, so that it changes the address book either completely or not
+     * at all. Each list of the address book is then replaced at once, so its listeners see a single change however
+     * many changes the command made.
+     */
+    private CommandResult executeAtomically(Command command) throws CommandException {
+        AddressBook workingCopy = model.copyAddressBook();
+        Model workingModel = model.createWorkingModel(workingCopy);
+        CommandResult commandResult = command.execute(workingModel);
+        model.restoreAddressBook(workingCopy);
+        return commandResult;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -85,6 +121,34 @@ public class LogicManager implements Logic {
         return model.getFilteredMenuList();
     }
 
+    @Override
+    public OrderStatistics getOrderStatistics() {
+        return model.getOrderStatistics();
+    }
+
+    @Override
+    public OrderStatistics getCompletedOrderStatistics() {
+        return model.getCompletedOrderStatistics();
+    }
+
+    @Override
+    public OrderDeadlines getOrderDeadlines() {
+        return model.getOrderDeadlines();
+    }
+
+    @Override
+    public List<String> getCommandCompletions(String commandText) {
+        if (commandCompleter == null) {
+            commandCompleter = new CommandCompleter(model.getCompletionIndex());
+        }
+        return commandCompleter.complete(commandText);
+    }
+
+    @Override
+    public ObservableList<Order> getOrderListAtStage(StageState stage) {
+        return model.getOrderListAtStage(stage);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -9,8 +9,11 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.order.ArchivedOrder;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
+import seedu.address.model.order.TimeManager;
 import seedu.address.model.person.Person;
 
 /**
@@ -96,4 +99,26 @@ public class Messages {
     public static String format(Product product) {
         return product.getName();
     }
+
+    /**
+     * Formats the {@code archivedOrder} for display to the user.
+     */
+    public static String format(ArchivedOrder archivedOrder) {
+        return "#" + archivedOrder.getId() + " completed " + TimeManager.formatter(archivedOrder.getCompletionDate())
+                + " for " + archivedOrder.getCustomerName()
+                + ": " + archivedOrder.getLines().stream().map(ArchivedOrder.Line::toString)
+                        .collect(Collectors.joining(", "))
+                + "; Sales: $" + archivedOrder.getTotalSales()
+                + "; Profit: $" + archivedOrder.getProfit();
+    }
+
+    /**
+     * Formats the {@code totals} for display to the user.
+     */
+    public static String format(OrderStatistics.Totals totals) {
+        return totals.getOrderCount() + " orders, " + totals.getQuantity() + " items"
+                + "; Sales: $" + totals.getTotalSales()
+                + "; Cost: $" + totals.getTotalCost()
+                + "; Profit: $" + totals.getProfit();
+    }
 }
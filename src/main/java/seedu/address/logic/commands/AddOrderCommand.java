@@ -101,6 +101,14 @@ public class AddOrderCommand extends Command {
         return String.format(message, personToEdit);
     }
 
+    /**
+     * The order is only added to the address book, and journalled, by the {@code product} commands that follow.
+     */
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MENU;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_QUANTITY;
 
+import java.util.List;
+
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -33,6 +35,8 @@ public class AddProductCommand extends Command {
     private final Index productId;
     private final Quantity quantity;
 
+    private String journalEntry;
+
     /**
      * Class constructor for AddProductCommand.
      * @param productId the one-based {@code Index} of the product to be added
@@ -83,26 +87,41 @@ public class AddProductCommand extends Command {
 
         Product product = model.findProductByIndex(productId.getZeroBased());
         //Add ability to add product to order
-        if (lastOrder.getProductMap().containsKey(product)) {
-            Order newOrder = lastOrder.changeQuantity(
-                    product, new Quantity(lastOrder.getQuantityValue(product) + quantity.getValue()));
-            model.setOrder(lastOrder, newOrder);
-            lastOrder = newOrder;
-        } else {
-            if (!model.hasOrder(lastOrder)) {
-                lastOrder.addProduct(product, quantity);
-                Person customer = lastOrder.getCustomer();
-                model.addOrder(lastOrder, customer);
-            } else {
-                Order newOrder = lastOrder;
-                newOrder.addProduct(product, quantity);
+        try {
+            if (lastOrder.getProductMap().containsKey(product)) {
+                Order newOrder = lastOrder.changeQuantity(product,
+                        new Quantity(Math.addExact(lastOrder.getQuantityValue(product), quantity.getValue())));
                 model.setOrder(lastOrder, newOrder);
                 lastOrder = newOrder;
+            } else {
+                if (!model.hasOrder(lastOrder)) {
+                    lastOrder.addProduct(product, quantity);
+                    Person customer = lastOrder.getCustomer();
+                    model.addOrder(lastOrder, customer);
+                } else {
+                    Order newOrder = lastOrder;
+                    newOrder.addProduct(product, quantity);
+                    model.setOrder(lastOrder, newOrder);
+                    lastOrder = newOrder;
+                }
             }
+        } catch (ArithmeticException e) {
+            // the quantity or the totals overflowed before the order was changed
+            throw new CommandException(Order.MESSAGE_TOTALS_TOO_LARGE);
         }
 
+        journalEntry = RestoreOrderLineCommand.toJournalEntry(lastOrder, product);
         return new CommandResult(generateSuccessMessage(product));
     }
+
+    /**
+     * Records the resulting line of the order instead of {@code commandText}, since the product index and the last
+     * created order it refers to are not journalled.
+     */
+    @Override
+    public List<String> getJournalEntries(String commandText) {
+        return journalEntry == null ? List.of() : List.of(journalEntry);
+    }
     private String generateSuccessMessage(Product product) {
         String message = "Successfully added " + product.toString() + " to the order.";
         return message;
@@ -0,0 +1,156 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Executes the commands in a script file, one command per line, as a single change to the address book.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Executes the commands in a script file, one command per line. "
+            + "If any command fails, none of the commands take effect.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/orders.txt";
+
+    public static final String MESSAGE_SUCCESS = "Executed %1$d commands from %2$s.";
+    public static final String MESSAGE_LINE_FAILED = "Line %1$d (%2$s) failed, so no command in the script "
+            + "was executed: %3$s";
+
+    /** Journal records around the journal entries of a script, which are replayed together or not at all. */
+    public static final String JOURNAL_BEGIN = "batch-begin";
+    public static final String JOURNAL_COMMIT = "batch-commit";
+
+    private final Path scriptFile;
+    private final List<ScriptLine> scriptLines;
+
+    /**
+     * Creates a {@code BatchCommand} to execute the commands parsed from the lines of {@code scriptFile}.
+     */
+    public BatchCommand(Path scriptFile, List<ScriptLine> scriptLines) {
+        requireNonNull(scriptFile);
+        requireNonNull(scriptLines);
+        this.scriptFile = scriptFile;
+        this.scriptLines = new ArrayList<>(scriptLines);
+    }
+
+    /**
+     * Executes the commands in order and stops at the first command that fails.
+     * The commands that were executed before it are not undone here; {@code LogicManager} executes this command
+     * against a copy of the address book, which is discarded if this command fails.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // products can only be added to an order created by the same script
+        AddProductCommand.setLastOrder(null);
+        for (ScriptLine scriptLine : scriptLines) {
+            try {
+                scriptLine.command.execute(model);
+            } catch (CommandException e) {
+                AddProductCommand.setLastOrder(null);
+                throw new CommandException(String.format(MESSAGE_LINE_FAILED, scriptLine.lineNumber,
+                        scriptLine.commandText, e.getMessage()), e);
+            }
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, scriptLines.size(), scriptFile));
+    }
+
+    @Override
+    public boolean isMutating() {
+        return scriptLines.stream().anyMatch(scriptLine -> scriptLine.command.isMutating());
+    }
+
+    @Override
+    public boolean isReplayable() {
+        return scriptLines.stream().allMatch(scriptLine -> scriptLine.command.isReplayable());
+    }
+
+    @Override
+    public boolean isAtomic() {
+        return true;
+    }
+
+    /**
+     * Returns the journal entries of the commands in the script between {@link #JOURNAL_BEGIN} and
+     * {@link #JOURNAL_COMMIT}, so that the script is replayed as a whole, and not at all if only part of it was
+     * journalled.
+     */
+    @Override
+    public List<String> getJournalEntries(String commandText) {
+        List<String> journalEntries = new ArrayList<>();
+        for (ScriptLine scriptLine : scriptLines) {
+            journalEntries.addAll(scriptLine.command.getJournalEntries(scriptLine.commandText));
+        }
+        if (journalEntries.isEmpty()) {
+            return journalEntries;
+        }
+        journalEntries.add(0, JOURNAL_BEGIN);
+        journalEntries.add(JOURNAL_COMMIT);
+        return journalEntries;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return scriptFile.equals(otherBatchCommand.scriptFile)
+                && scriptLines.equals(otherBatchCommand.scriptLines);
+    }
+
+    /**
+     * A command parsed from a line of a script file.
+     */
+    public static class ScriptLine {
+        private final int lineNumber;
+        private final String commandText;
+        private final Command command;
+
+        /**
+         * Creates a {@code ScriptLine} of {@code command}, parsed from {@code commandText} on line
+         * {@code lineNumber} of a script file.
+         */
+        public ScriptLine(int lineNumber, String commandText, Command command) {
+            requireNonNull(commandText);
+            requireNonNull(command);
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.command = command;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScriptLine)) {
+                return false;
+            }
+
+            ScriptLine otherScriptLine = (ScriptLine) other;
+            return lineNumber == otherScriptLine.lineNumber
+                    && commandText.equals(otherScriptLine.commandText)
+                    && command.equals(otherScriptLine.command);
+        }
+    }
+}
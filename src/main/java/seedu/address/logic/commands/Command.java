@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 
@@ -17,4 +19,38 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book.
+     * Only such commands are recorded in the command journal and replayed on startup.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
+    /**
+     * Returns true if this command must change the address book either completely or not at all.
+     * Such a command is executed against a copy of the address book, which replaces the address book only if the
+     * command succeeds.
+     */
+    public boolean isAtomic() {
+        return false;
+    }
+
+    /**
+     * Returns true if replaying the journal entries of this command on startup redoes its changes.
+     * The whole address book is saved after executing a command that is not replayable, instead of journalling it.
+     */
+    public boolean isReplayable() {
+        return true;
+    }
+
+    /**
+     * Returns the command texts to record in the command journal for this command, which was entered as
+     * {@code commandText}. Replaying them on startup must redo the changes made by this command, so they cannot
+     * depend on anything that is not journalled, such as the displayed lists or the current date.
+     */
+    public List<String> getJournalEntries(String commandText) {
+        return isMutating() ? List.of(commandText) : List.of();
+    }
+
 }
@@ -47,6 +47,15 @@ public class DeleteCustomerCommand extends DeleteCommand {
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
+    /**
+     * The customer is picked by its index in the displayed list, which depends on earlier commands that filter the list
+     * and are not journalled, so replaying the command could change a different customer.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
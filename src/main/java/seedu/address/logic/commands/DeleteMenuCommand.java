@@ -45,6 +45,15 @@ public class DeleteMenuCommand extends DeleteCommand {
         return new CommandResult(String.format(MESSAGE_DELETE_PRODUCT_SUCCESS, Messages.format(productToDelete)));
     }
 
+    /**
+     * The product is picked by its index in the displayed list, which depends on earlier commands that filter the list
+     * and are not journalled, so replaying the command could change a different product.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.TimeManager;
+
+/**
+ * Lists the active orders due within a number of days from today, including overdue orders, earliest deadline first.
+ */
+public class DueCommand extends Command {
+
+    public static final String COMMAND_WORD = "due";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the orders due within the given number of days from today, including overdue orders, "
+            + "earliest deadline first. Lists the orders due within " + Deadline.URGENT_DAYS
+            + " days if no number is given.\n"
+            + "Parameters: [DAYS]\n"
+            + "Example: " + COMMAND_WORD + " 7";
+
+    public static final String MESSAGE_SUCCESS = "%1$d orders due by %2$s.";
+    public static final String MESSAGE_DUE_ORDER = "\nOrder %1$d for %2$s: due %3$s";
+
+    private final int days;
+
+    /**
+     * Creates a {@code DueCommand} to list the orders due within {@code days} days from today.
+     */
+    public DueCommand(int days) {
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDate lastDueDate = LocalDate.now().plusDays(days);
+        List<Integer> dueOrderIds = model.getOrderDeadlines().getOrderIdsDueBetween(LocalDate.MIN, lastDueDate);
+
+        Set<Integer> dueOrderIdSet = new HashSet<>(dueOrderIds);
+        model.updateFilteredOrderList(order -> dueOrderIdSet.contains(order.getId()));
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, dueOrderIds.size(),
+                TimeManager.formatter(lastDueDate)));
+        for (int orderId : dueOrderIds) {
+            Order order = model.getOrder(orderId);
+            message.append(String.format(MESSAGE_DUE_ORDER, orderId, order.getCustomer().getName().fullName,
+                    order.getDeadline()));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DueCommand)) {
+            return false;
+        }
+
+        DueCommand otherDueCommand = (DueCommand) other;
+        return days == otherDueCommand.days;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("days", days)
+                .toString();
+    }
+}
@@ -111,6 +111,15 @@ public class EditCustomerCommand extends EditCommand {
         return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedTags);
     }
 
+    /**
+     * The customer is picked by its index in the displayed list, which depends on earlier commands that filter the list
+     * and are not journalled, so replaying the command could change a different customer.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
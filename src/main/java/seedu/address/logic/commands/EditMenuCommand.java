@@ -89,6 +89,15 @@ public class EditMenuCommand extends EditCommand {
         return new Product(name, cost, sales);
     }
 
+    /**
+     * The product is picked by its index in the displayed list, which depends on earlier commands that filter the list
+     * and are not journalled, so replaying the command could change a different product.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
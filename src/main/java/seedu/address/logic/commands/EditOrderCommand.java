@@ -88,7 +88,12 @@ public class EditOrderCommand extends EditCommand {
         }
 
         Order orderToEdit = new Order(model.getOrder(orderIndex.getOneBased()));
-        Order editedOrder = createEditOrder(model, orderToEdit);
+        Order editedOrder;
+        try {
+            editedOrder = createEditOrder(model, orderToEdit);
+        } catch (ArithmeticException e) {
+            throw new CommandException(Order.MESSAGE_TOTALS_TOO_LARGE);
+        }
 
         model.setOrder(orderToEdit, editedOrder);
         model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
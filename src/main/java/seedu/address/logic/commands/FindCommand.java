@@ -5,4 +5,9 @@ package seedu.address.logic.commands;
  */
 public abstract class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
 }
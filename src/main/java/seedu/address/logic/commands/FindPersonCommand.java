@@ -6,16 +6,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchPredicate;
 
 /**
  * Finds and lists all persons in address book whose field contains any of the argument keywords.
  * Keyword matching is case insensitive. Email and Phone is considered a word.
+ * Persons are looked up in the search index of the model, rather than by reading the field of every person.
  */
 public class FindPersonCommand extends FindCommand {
 
@@ -31,16 +30,16 @@ public class FindPersonCommand extends FindCommand {
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_PHONE + "91234567 ";
 
-    private final Predicate<Person> predicate;
+    private final PersonSearchPredicate predicate;
 
-    public FindPersonCommand(Predicate<Person> predicate) {
+    public FindPersonCommand(PersonSearchPredicate predicate) {
         this.predicate = predicate;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate.using(model.getPersonSearchIndex()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.ArchivedOrder;
+import seedu.address.model.order.Money;
+import seedu.address.model.order.OrderArchive;
+
+/**
+ * Lists the archived orders with an order id, or of a customer, completed within a range of dates.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the completed orders of a customer, or of all customers, completed within a range of dates, "
+            + "or the completed order with an order ID.\n"
+            + "Parameters: "
+            + "[" + PREFIX_NAME + "CUSTOMER_NAME] "
+            + "[" + PREFIX_FROM + "DATE] "
+            + "[" + PREFIX_TO + "DATE] "
+            + "or " + PREFIX_ORDER + "ORDER_ID\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_NAME + "Alex Yeoh "
+            + PREFIX_FROM + "01/09/2024 "
+            + PREFIX_TO + "30/09/2024";
+
+    public static final String MESSAGE_SUCCESS = "%1$d completed orders found.";
+    public static final String MESSAGE_MORE_ORDERS = "\n...and %1$d more.";
+    public static final String MESSAGE_TOTALS = "\nTotal sales: $%1$s; Cost: $%2$s; Profit: $%3$s";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read the order archive due to the following error: "
+            + "%1$s";
+
+    /** Maximum number of orders that are listed in the result. */
+    public static final int MAX_ORDERS_SHOWN = 50;
+
+    private final Integer orderId;
+    private final String customerName;
+    private final LocalDate from;
+    private final LocalDate to;
+
+    /**
+     * Creates a {@code HistoryCommand} to list the orders of the customer named {@code customerName}, or of all
+     * customers if it is null, completed from {@code from} to {@code to}, both inclusive.
+     */
+    public HistoryCommand(String customerName, LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.orderId = null;
+        this.customerName = customerName;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Creates a {@code HistoryCommand} to show the archived order with {@code orderId}.
+     */
+    public HistoryCommand(int orderId) {
+        this.orderId = orderId;
+        this.customerName = null;
+        this.from = LocalDate.MIN;
+        this.to = LocalDate.MAX;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        OrderArchive orderArchive = model.getOrderArchive();
+
+        List<ArchivedOrder> archivedOrders;
+        try {
+            if (orderId != null) {
+                archivedOrders = orderArchive.findById(orderId).map(List::of).orElse(List.of());
+            } else if (customerName != null) {
+                archivedOrders = orderArchive.findByCustomer(customerName, from, to);
+            } else {
+                archivedOrders = orderArchive.findByCompletionDate(from, to);
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, e.getMessage()), e);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, archivedOrders.size()));
+        archivedOrders.stream().limit(MAX_ORDERS_SHOWN)
+                .forEach(archivedOrder -> message.append("\n").append(Messages.format(archivedOrder)));
+        if (archivedOrders.size() > MAX_ORDERS_SHOWN) {
+            message.append(String.format(MESSAGE_MORE_ORDERS, archivedOrders.size() - MAX_ORDERS_SHOWN));
+        }
+        if (!archivedOrders.isEmpty()) {
+            long totalCostCents = archivedOrders.stream().mapToLong(order -> order.getTotalCost().getCents()).sum();
+            long totalSalesCents = archivedOrders.stream().mapToLong(order -> order.getTotalSales().getCents()).sum();
+            message.append(String.format(MESSAGE_TOTALS, Money.ofCents(totalSalesCents),
+                    Money.ofCents(totalCostCents), Money.ofCents(totalSalesCents - totalCostCents)));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HistoryCommand)) {
+            return false;
+        }
+
+        HistoryCommand otherHistoryCommand = (HistoryCommand) other;
+        return Objects.equals(orderId, otherHistoryCommand.orderId)
+                && Objects.equals(customerName, otherHistoryCommand.customerName)
+                && from.equals(otherHistoryCommand.from)
+                && to.equals(otherHistoryCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("orderId", orderId)
+                .add("customerName", customerName)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,362 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ImportCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Product;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageContext;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Adds the products, customers and orders in a csv file to the address book.
+ * The file is read when the command is executed, so that the rows imported are those in the file at that time.
+ * Rows that are invalid, or that duplicate existing data, are rejected without stopping the import.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the products, customers and orders in a csv file. Each row starts with its type:\n"
+            + "product,NAME,COST,SALES\n"
+            + "customer,NAME,PHONE,EMAIL,ADDRESS[,TAG;TAG...]\n"
+            + "order,PHONE,PRODUCT:QUANTITY[;PRODUCT:QUANTITY...][,DEADLINE[,STAGE[,CREATION_DATE]]]\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/outlet.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d products, %2$d customers and %3$d orders from %4$s "
+            + "(%5$d rows in %6$d ms, %7$d rows per second).";
+    public static final String MESSAGE_UNREADABLE_FILE = "Could not read csv file %1$s.";
+    public static final String MESSAGE_REJECTED_ROWS = "\nRejected %1$d rows:";
+    public static final String MESSAGE_REJECTED_ROW = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_REJECTED_ROWS = "\n...and %1$d more.";
+    public static final String MESSAGE_CUSTOMER_NOT_FOUND = "No customer has the phone number %1$s.";
+    public static final String MESSAGE_PRODUCT_NOT_FOUND = "%1$s is not on the menu.";
+
+    /** Maximum number of rejected rows that are listed in the result. */
+    public static final int MAX_REJECTED_ROWS_SHOWN = 20;
+
+    private final Path file;
+
+    /**
+     * Creates an {@code ImportCommand} to add the data in the csv file {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        long startTime = System.nanoTime();
+        ImportRows rows;
+        try {
+            rows = ImportCommandParser.parseRows(file);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_UNREADABLE_FILE, file), e);
+        }
+        SortedMap<Integer, String> rejectedRows = new TreeMap<>(rows.rejectedRows);
+
+        List<Product> products = new ArrayList<>();
+        Set<String> productNames = new HashSet<>();
+        for (ImportRow<Product> row : rows.products) {
+            if (model.hasProduct(row.value) || !productNames.add(row.value.getName())) {
+                rejectedRows.put(row.lineNumber, AddMenuCommand.MESSAGE_DUPLICATE_PRODUCT);
+            } else {
+                products.add(row.value);
+            }
+        }
+
+        List<Person> persons = new ArrayList<>();
+        Set<String> personNames = new HashSet<>();
+        Map<Phone, Person> importedPersonsByPhone = new HashMap<>();
+        for (ImportRow<Person> row : rows.persons) {
+            if (model.hasPerson(row.value) || !personNames.add(row.value.getName().fullName)) {
+                rejectedRows.put(row.lineNumber, AddCommand.MESSAGE_DUPLICATE_PERSON);
+            } else {
+                persons.add(row.value);
+                importedPersonsByPhone.putIfAbsent(row.value.getPhone(), row.value);
+            }
+        }
+
+        Map<String, Product> menuByName = new HashMap<>();
+        model.getAddressBook().getMenuList().forEach(product -> menuByName.put(product.getName(), product));
+        products.forEach(product -> menuByName.put(product.getName(), product));
+        List<Order> orders = new ArrayList<>();
+        for (ImportRow<OrderRow> row : rows.orders) {
+            try {
+                orders.add(row.value.toModelType(model, importedPersonsByPhone, menuByName));
+            } catch (IllegalValueException e) {
+                rejectedRows.put(row.lineNumber, e.getMessage());
+            }
+        }
+
+        model.importData(products, persons, orders);
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        long rowsPerSecond = rows.rowCount * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, products.size(), persons.size(),
+                orders.size(), file, rows.rowCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsPerSecond));
+        appendRejectedRows(message, rejectedRows);
+        return new CommandResult(message.toString());
+    }
+
+    private static void appendRejectedRows(StringBuilder message, SortedMap<Integer, String> rejectedRows) {
+        if (rejectedRows.isEmpty()) {
+            return;
+        }
+        message.append(String.format(MESSAGE_REJECTED_ROWS, rejectedRows.size()));
+        rejectedRows.entrySet().stream().limit(MAX_REJECTED_ROWS_SHOWN).forEach(rejectedRow ->
+                message.append(String.format(MESSAGE_REJECTED_ROW, rejectedRow.getKey(), rejectedRow.getValue())));
+        if (rejectedRows.size() > MAX_REJECTED_ROWS_SHOWN) {
+            message.append(String.format(MESSAGE_MORE_REJECTED_ROWS, rejectedRows.size() - MAX_REJECTED_ROWS_SHOWN));
+        }
+    }
+
+    /**
+     * The imported data depends on the file, which may have changed by the time the journal is replayed.
+     */
+    @Override
+    public boolean isReplayable() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file);
+    }
+
+    /**
+     * A value read from a row of a csv file.
+     */
+    public static class ImportRow<T> {
+        private final int lineNumber;
+        private final T value;
+
+        /**
+         * Creates an {@code ImportRow} of {@code value}, read from line {@code lineNumber} of a csv file.
+         */
+        public ImportRow(int lineNumber, T value) {
+            requireNonNull(value);
+            this.lineNumber = lineNumber;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ImportRow)) {
+                return false;
+            }
+
+            ImportRow<?> otherImportRow = (ImportRow<?>) other;
+            return lineNumber == otherImportRow.lineNumber
+                    && value.equals(otherImportRow.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(lineNumber, value);
+        }
+    }
+
+    /**
+     * The valid rows and the rejected rows of a csv file, in the order in which they appear in the file.
+     */
+    public static class ImportRows {
+        private final List<ImportRow<Product>> products = new ArrayList<>();
+        private final List<ImportRow<Person>> persons = new ArrayList<>();
+        private final List<ImportRow<OrderRow>> orders = new ArrayList<>();
+        private final SortedMap<Integer, String> rejectedRows = new TreeMap<>();
+        private int rowCount;
+
+        /**
+         * Adds a valid product row.
+         */
+        public void addProduct(int lineNumber, Product product) {
+            products.add(new ImportRow<>(lineNumber, product));
+            rowCount++;
+        }
+
+        /**
+         * Adds a valid customer row.
+         */
+        public void addPerson(int lineNumber, Person person) {
+            persons.add(new ImportRow<>(lineNumber, person));
+            rowCount++;
+        }
+
+        /**
+         * Adds a valid order row.
+         */
+        public void addOrder(int lineNumber, OrderRow order) {
+            orders.add(new ImportRow<>(lineNumber, order));
+            rowCount++;
+        }
+
+        /**
+         * Adds a row that is rejected because of {@code reason}.
+         */
+        public void reject(int lineNumber, String reason) {
+            rejectedRows.put(lineNumber, reason);
+            rowCount++;
+        }
+
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        public SortedMap<Integer, String> getRejectedRows() {
+            return rejectedRows;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ImportRows)) {
+                return false;
+            }
+
+            ImportRows otherImportRows = (ImportRows) other;
+            return products.equals(otherImportRows.products)
+                    && persons.equals(otherImportRows.persons)
+                    && orders.equals(otherImportRows.orders)
+                    && rejectedRows.equals(otherImportRows.rejectedRows)
+                    && rowCount == otherImportRows.rowCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(products, persons, orders, rejectedRows, rowCount);
+        }
+    }
+
+    /**
+     * An order read from a csv file, whose customer and products are looked up when it is imported.
+     */
+    public static class OrderRow {
+        private final Phone phone;
+        private final Map<String, Quantity> quantitiesByProductName;
+        private final Deadline deadline;
+        private final String stage;
+        private final String creationDate;
+
+        /**
+         * Creates an {@code OrderRow} of the customer with {@code phone}.
+         * {@code deadline} and {@code creationDate} may be null, and {@code stage} must be a valid stage name.
+         */
+        public OrderRow(Phone phone, Map<String, Quantity> quantitiesByProductName, Deadline deadline, String stage,
+                        String creationDate) {
+            requireNonNull(phone);
+            requireNonNull(quantitiesByProductName);
+            requireNonNull(stage);
+            this.phone = phone;
+            this.quantitiesByProductName = new LinkedHashMap<>(quantitiesByProductName);
+            this.deadline = deadline;
+            this.stage = stage;
+            this.creationDate = creationDate;
+        }
+
+        /**
+         * Returns the order of the customer with the phone number of this row, who is either in {@code model} or in
+         * {@code importedPersonsByPhone}, of the products in {@code menuByName}.
+         *
+         * @throws IllegalValueException if the customer or any of the products does not exist, or the totals of the
+         *     order would be too large.
+         */
+        private Order toModelType(Model model, Map<Phone, Person> importedPersonsByPhone,
+                                  Map<String, Product> menuByName) throws IllegalValueException {
+            Person customer = model.findPersonByPhoneNumber(phone.value).orElse(importedPersonsByPhone.get(phone));
+            if (customer == null) {
+                throw new IllegalValueException(String.format(MESSAGE_CUSTOMER_NOT_FOUND, phone));
+            }
+
+            Map<Product, Quantity> productMap = new HashMap<>();
+            for (Map.Entry<String, Quantity> line : quantitiesByProductName.entrySet()) {
+                Product product = menuByName.get(line.getKey());
+                if (product == null) {
+                    throw new IllegalValueException(String.format(MESSAGE_PRODUCT_NOT_FOUND, line.getKey()));
+                }
+                productMap.put(product, line.getValue());
+            }
+
+            Order order = new Order();
+            try {
+                order.setProductMap(productMap);
+            } catch (ArithmeticException e) {
+                throw new IllegalValueException(Order.MESSAGE_TOTALS_TOO_LARGE);
+            }
+            order.setCustomer(customer);
+            order.setDeadline(deadline);
+            order.setStageContext(new StageContext(stage));
+            if (creationDate != null) {
+                order.setCreationDate(creationDate);
+            }
+            return order;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof OrderRow)) {
+                return false;
+            }
+
+            OrderRow otherOrderRow = (OrderRow) other;
+            return phone.equals(otherOrderRow.phone)
+                    && quantitiesByProductName.equals(otherOrderRow.quantitiesByProductName)
+                    && Objects.equals(deadline, otherOrderRow.deadline)
+                    && stage.equals(otherOrderRow.stage)
+                    && Objects.equals(creationDate, otherOrderRow.creationDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(phone, quantitiesByProductName, deadline, stage, creationDate);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CREATION_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_QUANTITY;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.order.CreationDate;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Product;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Sets the quantity of a product in an order, creating the order if it does not exist yet.
+ * This command is only read from the command journal, where it records the effect of an {@link AddProductCommand}
+ * without depending on the last created order or the displayed menu, which are not journalled.
+ */
+public class RestoreOrderLineCommand extends Command {
+
+    public static final String COMMAND_WORD = "restore-order-line";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Sets the quantity of a product in an order, creating the order for the customer if needed.\n"
+            + "Parameters: "
+            + PREFIX_ORDER + "ORDER_ID "
+            + PREFIX_PHONE + "PHONE "
+            + PREFIX_CREATION_DATE + "CREATION_DATE "
+            + "[" + PREFIX_DEADLINE + "DEADLINE] "
+            + PREFIX_PRODUCT_NAME + "PRODUCT_NAME "
+            + PREFIX_PRODUCT_QUANTITY + "QUANTITY";
+
+    public static final String MESSAGE_SUCCESS = "Restored %1$s x%2$s in order %3$d";
+    public static final String MESSAGE_PRODUCT_NOT_ON_MENU = "The product %1$s is not on the menu";
+    public static final String MESSAGE_ORDER_ID_TAKEN = "Order %1$d cannot be created, the next order ID is %2$d";
+
+    private final int orderId;
+    private final Phone phone;
+    private final CreationDate creationDate;
+    private final Deadline deadline;
+    private final Product product;
+    private final Quantity quantity;
+
+    /**
+     * Creates a RestoreOrderLineCommand to set the quantity of {@code product} in the order with {@code orderId} of
+     * the customer with {@code phone}. {@code deadline} may be null if the order has none.
+     */
+    public RestoreOrderLineCommand(int orderId, Phone phone, CreationDate creationDate, Deadline deadline,
+            Product product, Quantity quantity) {
+        requireAllNonNull(phone, creationDate, product, quantity);
+        this.orderId = orderId;
+        this.phone = phone;
+        this.creationDate = creationDate;
+        this.deadline = deadline;
+        this.product = product;
+        this.quantity = quantity;
+    }
+
+    /**
+     * Returns the journal entry that restores the line of {@code product} in {@code order}, as it is after a change.
+     */
+    public static String toJournalEntry(Order order, Product product) {
+        requireAllNonNull(order, product);
+        StringBuilder entry = new StringBuilder(COMMAND_WORD)
+                .append(' ').append(PREFIX_ORDER).append(order.getId())
+                .append(' ').append(PREFIX_PHONE).append(order.getCustomer().getPhone())
+                .append(' ').append(PREFIX_CREATION_DATE).append(order.getCreationDate());
+        if (order.getDeadlineObject() != null) {
+            entry.append(' ').append(PREFIX_DEADLINE).append(order.getDeadlineObject());
+        }
+        return entry.append(' ').append(PREFIX_PRODUCT_NAME).append(product.getName())
+                .append(' ').append(PREFIX_PRODUCT_QUANTITY).append(order.getQuantityValue(product))
+                .toString();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Product> menu = model.getAddressBook().getMenuList();
+        int menuIndex = menu.indexOf(product);
+        if (menuIndex < 0) {
+            throw new CommandException(String.format(MESSAGE_PRODUCT_NOT_ON_MENU, product.getName()));
+        }
+        Product menuProduct = menu.get(menuIndex);
+
+        if (model.orderIdExists(orderId)) {
+            Order order = model.getOrder(orderId);
+            Order restoredOrder = changeQuantity(order, menuProduct);
+            setDates(restoredOrder);
+            model.setOrder(order, restoredOrder);
+        } else {
+            Optional<Person> customer = model.findPersonByPhoneNumber(phone.value);
+            if (customer.isEmpty()) {
+                throw new CommandException(Messages.MESSAGE_PHONE_NUMBER_NOT_FOUND);
+            }
+            int nextOrderId = model.getAddressBook().getOrderListCounter();
+            if (nextOrderId != orderId) {
+                throw new CommandException(String.format(MESSAGE_ORDER_ID_TAKEN, orderId, nextOrderId));
+            }
+            Order order = changeQuantity(new Order(), menuProduct);
+            order.setCustomer(customer.get());
+            setDates(order);
+            model.addOrder(order, customer.get());
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, product.getName(), quantity, orderId));
+    }
+
+    /**
+     * Returns a copy of {@code order} with the line of {@code menuProduct} set to the restored quantity.
+     */
+    private Order changeQuantity(Order order, Product menuProduct) throws CommandException {
+        try {
+            return order.changeQuantity(menuProduct, quantity);
+        } catch (ArithmeticException e) {
+            throw new CommandException(Order.MESSAGE_TOTALS_TOO_LARGE);
+        }
+    }
+
+    private void setDates(Order order) {
+        order.setCreationDate(creationDate.toString());
+        order.setDeadline(deadline);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RestoreOrderLineCommand)) {
+            return false;
+        }
+
+        RestoreOrderLineCommand otherCommand = (RestoreOrderLineCommand) other;
+        return orderId == otherCommand.orderId
+                && phone.equals(otherCommand.phone)
+                && creationDate.equals(otherCommand.creationDate)
+                && Objects.equals(deadline, otherCommand.deadline)
+                && product.equals(otherCommand.product)
+                && quantity.equals(otherCommand.quantity);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("orderId", orderId)
+                .add("phone", phone)
+                .add("creationDate", creationDate)
+                .add("deadline", deadline)
+                .add("product", product)
+                .add("quantity", quantity)
+                .toString();
+    }
+}
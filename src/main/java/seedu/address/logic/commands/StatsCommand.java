@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.order.OrderStatistics;
+import seedu.address.model.order.OrderStatistics.Totals;
+import seedu.address.model.order.TimeManager;
+import seedu.address.model.person.Name;
+
+/**
+ * Shows the total sales, cost and profit of the active orders, overall and by stage, product, customer and
+ * creation date, and of the orders completed since the address book was loaded.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Active orders: %1$s\n"
+            + "By stage:\n%2$s"
+            + "By product:\n%3$s"
+            + "By customer:\n%4$s"
+            + "By creation date:\n%5$s"
+            + "Completed orders: %6$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        OrderStatistics statistics = model.getOrderStatistics();
+
+        StringBuilder byStage = new StringBuilder();
+        statistics.getTotalsByStage().forEach((stage, totals) -> appendLine(byStage, stage, totals));
+
+        StringBuilder byProduct = new StringBuilder();
+        new TreeMap<>(statistics.getTotalsByProduct())
+                .forEach((product, totals) -> appendLine(byProduct, product, totals));
+
+        StringBuilder byCustomer = new StringBuilder();
+        Map<String, Totals> totalsByCustomerName = new TreeMap<>();
+        for (Map.Entry<Name, Totals> entry : statistics.getTotalsByCustomer().entrySet()) {
+            totalsByCustomerName.put(entry.getKey().fullName, entry.getValue());
+        }
+        totalsByCustomerName.forEach((customer, totals) -> appendLine(byCustomer, customer, totals));
+
+        StringBuilder byCreationDate = new StringBuilder();
+        for (Map.Entry<LocalDate, Totals> entry : statistics.getTotalsByCreationDate().entrySet()) {
+            appendLine(byCreationDate, TimeManager.formatter(entry.getKey()), entry.getValue());
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(statistics.getOverall()),
+                byStage, byProduct, byCustomer, byCreationDate,
+                Messages.format(model.getCompletedOrderStatistics().getOverall())));
+    }
+
+    private static void appendLine(StringBuilder builder, String label, Totals totals) {
+        builder.append("  ").append(label).append(": ").append(Messages.format(totals)).append("\n");
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+}
@@ -16,7 +16,7 @@ import seedu.address.model.person.Phone;
 /**
  * Parses input for AddOrderCommand
  */
-public class AddOrderCommandParser {
+public class AddOrderCommandParser implements Parser<AddOrderCommand> {
     /**
      * Parses the user input to create a AddOrderCommand
      * @param args user input.
@@ -17,7 +17,7 @@ import seedu.address.model.order.Quantity;
 /**
  * Parses input for AddProductCommand
  */
-public class AddProductCommandParser {
+public class AddProductCommandParser implements Parser<AddProductCommand> {
     /**
      * Parses the user input to create a AddOrderCommand
      * @param args user input.
@@ -1,40 +1,112 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.WordMatcher;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddMenuCommand;
 import seedu.address.logic.commands.AddOrderCommand;
 import seedu.address.logic.commands.AddProductCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CancelCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CompleteOrderCommand;
 import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DueCommand;
 import seedu.address.logic.commands.EditCustomerCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindPersonCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.StageCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ *
+ * Each command word is registered with the parser of its command, so that a command is parsed by looking its
+ * command word up instead of by comparing it with every command word. Parsers hold no state between inputs, so one
+ * instance of each is registered and reused for every input.
  */
 public class AddressBookParser {
 
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %1$s is already registered.";
+    public static final String MESSAGE_INVALID_COMMAND_WORD = "Command word must be a single word: '%1$s'.";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
+    private final Map<String, Parser<? extends Command>> parsersByCommandWord = new HashMap<>();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates an {@code AddressBookParser} that parses all the commands of the app.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    public AddressBookParser() {
+        registerCommand(new AddCommandParser(), AddCommand.COMMAND_WORD);
+        registerCommand(new EditCommandParser(), EditCustomerCommand.COMMAND_WORD);
+        registerCommand(new DeleteCommandParser(), DeleteCommand.COMMAND_WORD);
+        registerCommand(arguments -> new ClearCommand(), ClearCommand.COMMAND_WORD);
+        registerCommand(new FindCommandParser(), FindPersonCommand.COMMAND_WORD);
+        registerCommand(arguments -> new ListCommand(), ListCommand.COMMAND_WORD);
+        registerCommand(arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        registerCommand(arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+        registerCommand(new CancelCommandParser(), CancelCommand.COMMAND_WORD);
+        registerCommand(new AddOrderCommandParser(), AddOrderCommand.COMMAND_WORD);
+        registerCommand(new AddProductCommandParser(), AddProductCommand.COMMAND_WORD);
+        registerCommand(new CompleteOrderCommandParser(), CompleteOrderCommand.COMMAND_WORD);
+        registerCommand(new AddMenuCommandParser(), AddMenuCommand.COMMAND_WORD);
+        registerCommand(new StageCommandParser(), StageCommand.COMMAND_WORD);
+        registerCommand(arguments -> new StatsCommand(), StatsCommand.COMMAND_WORD);
+        registerCommand(new BatchCommandParser(this), BatchCommand.COMMAND_WORD);
+        registerCommand(new ImportCommandParser(), ImportCommand.COMMAND_WORD);
+        registerCommand(new HistoryCommandParser(), HistoryCommand.COMMAND_WORD);
+        registerCommand(new DueCommandParser(), DueCommand.COMMAND_WORD);
+        //registerCommand(new DeleteMenuCommandParser(), DeleteMenuCommand.COMMAND_WORD);
+        //registerCommand(new EditMenuCommandParser(), EditMenuCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Registers {@code parser} to parse the arguments of inputs starting with {@code commandWord} or any of
+     * {@code aliases}. {@code parser} must not keep any state between inputs, as it is reused for each of them.
+     *
+     * @throws IllegalArgumentException if any of the words is not a single word, or is already registered.
+     */
+    public void registerCommand(Parser<? extends Command> parser, String commandWord, String... aliases) {
+        requireNonNull(parser);
+        List<String> words = new ArrayList<>();
+        words.add(commandWord);
+        words.addAll(Arrays.asList(aliases));
+        for (String word : words) {
+            requireNonNull(word);
+            checkArgument(!word.isEmpty() && word.equals(word.trim()) && splitCommandWord(word) == word.length(),
+                    String.format(MESSAGE_INVALID_COMMAND_WORD, word));
+            checkArgument(!parsersByCommandWord.containsKey(word), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, word));
+        }
+        words.forEach(word -> parsersByCommandWord.put(word, parser));
+    }
+
+    /**
+     * Returns the command words and aliases that are registered.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(parsersByCommandWord.keySet());
+    }
 
     /**
      * Parses user input into command for execution.
@@ -44,73 +116,37 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final int commandWordEnd = splitCommandWord(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        case EditCustomerCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindPersonCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case CancelCommand.COMMAND_WORD:
-            return new CancelCommandParser().parse(arguments);
-
-        case AddOrderCommand.COMMAND_WORD:
-            return new AddOrderCommandParser().parse(arguments);
-
-        case AddProductCommand.COMMAND_WORD:
-            return new AddProductCommandParser().parse(arguments);
-
-        case CompleteOrderCommand.COMMAND_WORD:
-            return new CompleteOrderCommandParser().parse(arguments);
-        case AddMenuCommand.COMMAND_WORD:
-            return new AddMenuCommandParser().parse(arguments);
-
-        case StageCommand.COMMAND_WORD:
-            return new StageCommandParser().parse(arguments);
-
-        //case DeleteMenuCommand.COMMAND_WORD:
-        //    return new DeleteMenuCommandParser().parse(arguments);
-
-        //case EditMenuCommand.COMMAND_WORD:
-        //    return new EditMenuCommandParser().parse(arguments);
-
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+        Parser<? extends Command> parser = parsersByCommandWord.get(commandWord);
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 
+    /**
+     * Returns the index of the first whitespace in {@code input}, which ends its command word, or the length of
+     * {@code input} if it has no whitespace.
+     */
+    private static int splitCommandWord(String input) {
+        int index = 0;
+        while (index < input.length() && !WordMatcher.isWhitespace(input.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
 }
@@ -24,7 +24,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<Argument>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -34,17 +34,24 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1)).add(new Argument(argValue));
+    }
+
+    /**
+     * Associates the trimmed text of {@code argsString} from {@code valueStart} to {@code valueEnd} with
+     * {@code prefix} key in this map. The text is only copied out of {@code argsString} when the value is requested.
+     */
+    void put(Prefix prefix, String argsString, int valueStart, int valueEnd) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1))
+                .add(new Argument(argsString, valueStart, valueEnd));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<Argument> arguments = argMultimap.get(prefix);
+        return arguments == null ? Optional.empty() : Optional.of(arguments.get(arguments.size() - 1).getValue());
     }
 
     /**
@@ -53,10 +60,11 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (Argument argument : argMultimap.getOrDefault(prefix, List.of())) {
+            values.add(argument.getValue());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
@@ -85,7 +93,7 @@ public class ArgumentMultimap {
      */
     public void verifyOnlyOnePrefixFor(Prefix... prefixes) throws ParseException {
         Prefix[] appearedPrefixes = Stream.of(prefixes).distinct()
-                .filter(prefix -> argMultimap.containsKey(prefix) && getValue(prefix).isPresent())
+                .filter(argMultimap::containsKey)
                 .toArray(Prefix[]::new);
         if (appearedPrefixes.length > 1) {
             throw new ParseException(Messages.MESSAGE_ONLY_ONE_FIELD);
@@ -96,4 +104,43 @@ public class ArgumentMultimap {
                             + FindOrderCommand.MESSAGE_USAGE));
         }
     }
+
+    /**
+     * An argument value, kept as its position in the arguments string it was tokenized from until it is requested.
+     */
+    private static class Argument {
+        private final String source;
+        private final int start;
+        private final int end;
+        private String value;
+
+        Argument(String value) {
+            this(value, 0, value.length());
+            this.value = value;
+        }
+
+        Argument(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns the value, with leading and trailing whitespace removed if it was taken from an arguments string.
+         */
+        String getValue() {
+            if (value == null) {
+                int trimmedStart = start;
+                int trimmedEnd = end;
+                while (trimmedStart < trimmedEnd && source.charAt(trimmedStart) <= ' ') {
+                    trimmedStart++;
+                }
+                while (trimmedEnd > trimmedStart && source.charAt(trimmedEnd - 1) <= ' ') {
+                    trimmedEnd--;
+                }
+                value = source.substring(trimmedStart, trimmedEnd);
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.BatchCommand.ScriptLine;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object.
+ * Every line of the script file is parsed before any command is executed, so a script with an invalid line
+ * changes nothing.
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_UNREADABLE_SCRIPT = "Could not read script file %1$s.";
+    public static final String MESSAGE_EMPTY_SCRIPT = "Script file %1$s has no commands.";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d (%2$s) is invalid: %3$s";
+    public static final String MESSAGE_NESTED_BATCH = "A script cannot run other scripts.";
+
+    /** Lines starting with this prefix are comments and are not executed. */
+    public static final String COMMENT_PREFIX = "#";
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a {@code BatchCommandParser} that parses each line of a script file with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, the script file cannot be
+     *         read, or any line of the script file is not a valid command.
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        Path scriptFile;
+        List<String> lines;
+        try {
+            scriptFile = Paths.get(trimmedArgs);
+            lines = Files.readAllLines(scriptFile);
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_UNREADABLE_SCRIPT, trimmedArgs), e);
+        }
+
+        List<ScriptLine> scriptLines = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String commandText = lines.get(i).trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            scriptLines.add(new ScriptLine(i + 1, commandText, parseLine(i + 1, commandText)));
+        }
+        if (scriptLines.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_EMPTY_SCRIPT, scriptFile));
+        }
+        return new BatchCommand(scriptFile, scriptLines);
+    }
+
+    private Command parseLine(int lineNumber, String commandText) throws ParseException {
+        if (commandText.split("\\s+", 2)[0].equals(BatchCommand.COMMAND_WORD)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, commandText,
+                    MESSAGE_NESTED_BATCH));
+        }
+        try {
+            return addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, commandText, pe.getMessage()),
+                    pe);
+        }
+    }
+
+}
@@ -15,8 +15,11 @@ public class CliSyntax {
     public static final Prefix PREFIX_CUSTOMER_ID = new Prefix("c/");
     public static final Prefix PREFIX_PRODUCT_QUANTITY = new Prefix("pq/");
     public static final Prefix PREFIX_DEADLINE = new Prefix("by/");
+    public static final Prefix PREFIX_CREATION_DATE = new Prefix("created/");
     public static final Prefix PREFIX_PRODUCT_NAME = new Prefix("pn/");
     public static final Prefix PREFIX_PRODUCT_COST = new Prefix("pc/");
     public static final Prefix PREFIX_PRODUCT_SALES = new Prefix("ps/");
     public static final Prefix PREFIX_MENU = new Prefix("m/");
+    public static final Prefix PREFIX_FROM = new Prefix("from/");
+    public static final Prefix PREFIX_TO = new Prefix("to/");
 }
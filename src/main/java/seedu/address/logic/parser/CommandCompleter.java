@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.model.CompletionIndex;
+import seedu.address.model.CompletionIndex.Field;
+
+/**
+ * Suggests completions of the value of the last argument of a partially typed command, for the arguments of customer
+ * phone numbers, customer names and product names.
+ */
+public class CommandCompleter {
+
+    /** Number of completions suggested at most. */
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private static final Map<String, Field> FIELDS_BY_PREFIX = Map.of(
+            PREFIX_PHONE.getPrefix(), Field.PHONE,
+            PREFIX_NAME.getPrefix(), Field.NAME,
+            PREFIX_PRODUCT_NAME.getPrefix(), Field.PRODUCT_NAME);
+
+    /** Matches a prefix, which must follow whitespace, as in {@link ArgumentTokenizer}. */
+    private static final Pattern PREFIX_FORMAT = Pattern.compile("\\s(?<prefix>[a-z]+/)");
+
+    private final CompletionIndex completionIndex;
+
+    /**
+     * Creates a {@code CommandCompleter} that suggests the values in {@code completionIndex}.
+     */
+    public CommandCompleter(CompletionIndex completionIndex) {
+        requireNonNull(completionIndex);
+        this.completionIndex = completionIndex;
+    }
+
+    /**
+     * Returns {@code commandText} with the value of its last argument completed by each suggested value, best first.
+     * Nothing is suggested if the last argument has no value yet, or is not of a field that can be completed.
+     */
+    public List<String> complete(String commandText) {
+        requireNonNull(commandText);
+        Matcher matcher = PREFIX_FORMAT.matcher(commandText);
+        String lastPrefix = null;
+        int valueStart = -1;
+        while (matcher.find()) {
+            lastPrefix = matcher.group("prefix");
+            valueStart = matcher.end();
+        }
+        Field field = lastPrefix == null ? null : FIELDS_BY_PREFIX.get(lastPrefix);
+        String typedValue = valueStart < 0 ? "" : commandText.substring(valueStart).stripLeading();
+        if (field == null || typedValue.isEmpty()) {
+            return List.of();
+        }
+
+        String commandTextBeforeValue = commandText.substring(0, commandText.length() - typedValue.length());
+        List<String> completions = new ArrayList<>();
+        for (String suggestion : completionIndex.suggest(field, typedValue, MAX_SUGGESTIONS)) {
+            if (!suggestion.equals(typedValue)) {
+                completions.add(commandTextBeforeValue + suggestion);
+            }
+        }
+        return completions;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.DueCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Deadline;
+
+/**
+ * Parses input arguments and creates a new DueCommand object.
+ */
+public class DueCommandParser implements Parser<DueCommand> {
+
+    /** Matches a number of days of at most 5 digits, so that the last due date stays within a sensible range. */
+    private static final String DAYS_REGEX = "\\d{1,5}";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DueCommand
+     * and returns a DueCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DueCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new DueCommand(Deadline.URGENT_DAYS);
+        }
+        if (!trimmedArgs.matches(DAYS_REGEX)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE));
+        }
+        return new DueCommand(Integer.parseInt(trimmedArgs));
+    }
+}
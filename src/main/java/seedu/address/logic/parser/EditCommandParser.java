@@ -14,6 +14,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class EditCommandParser implements Parser<EditCommand> {
 
+    private final EditCustomerCommandParser editCustomerCommandParser = new EditCustomerCommandParser();
+    private final EditOrderCommandParser editOrderCommandParser = new EditOrderCommandParser();
+    private final EditMenuCommandParser editMenuCommandParser = new EditMenuCommandParser();
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
      * and returns an EditCommand object for execution.
@@ -36,13 +40,10 @@ public class EditCommandParser implements Parser<EditCommand> {
         //}
 
         if (args.startsWith(" " + PREFIX_CUSTOMER_ID.toString())) {
-            EditCustomerCommandParser editCustomerCommandParser = new EditCustomerCommandParser();
             return editCustomerCommandParser.parse(args);
         } else if (args.startsWith(" " + PREFIX_ORDER.toString())) {
-            EditOrderCommandParser editOrderCommandParser = new EditOrderCommandParser();
             return editOrderCommandParser.parse(args);
         } else if (args.startsWith(" " + PREFIX_MENU.toString())) {
-            EditMenuCommandParser editMenuCommandParser = new EditMenuCommandParser();
             return editMenuCommandParser.parse(args);
         } else {
             throw new ParseException(Messages.MESSAGE_SPECIFY_EDIT);
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand object.
+ */
+public class HistoryCommandParser implements Parser<HistoryCommand> {
+
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The from/ date cannot be after the to/ date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HistoryCommand
+     * and returns a HistoryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public HistoryCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_ORDER, PREFIX_NAME, PREFIX_FROM, PREFIX_TO);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ORDER, PREFIX_NAME, PREFIX_FROM, PREFIX_TO);
+
+        Optional<String> orderId = argMultimap.getValue(PREFIX_ORDER);
+        Optional<String> customerName = argMultimap.getValue(PREFIX_NAME);
+        Optional<String> from = argMultimap.getValue(PREFIX_FROM);
+        Optional<String> to = argMultimap.getValue(PREFIX_TO);
+
+        if (orderId.isPresent()) {
+            if (customerName.isPresent() || from.isPresent() || to.isPresent()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        HistoryCommand.MESSAGE_USAGE));
+            }
+            return new HistoryCommand(ParserUtil.parseIndex(orderId.get()).getOneBased());
+        }
+
+        String parsedCustomerName = customerName.isPresent()
+                ? ParserUtil.parseName(customerName.get()).fullName
+                : null;
+        LocalDate parsedFrom = from.isPresent() ? ParserUtil.parseDate(from.get()) : LocalDate.MIN;
+        LocalDate parsedTo = to.isPresent() ? ParserUtil.parseDate(to.get()) : LocalDate.MAX;
+        if (parsedFrom.isAfter(parsedTo)) {
+            throw new ParseException(MESSAGE_INVALID_DATE_RANGE);
+        }
+        return new HistoryCommand(parsedCustomerName, parsedFrom, parsedTo);
+    }
+}
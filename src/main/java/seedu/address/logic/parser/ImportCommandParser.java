@@ -0,0 +1,232 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportCommand.ImportRows;
+import seedu.address.logic.commands.ImportCommand.OrderRow;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.exceptions.InvalidDateException;
+import seedu.address.model.order.CreationDate;
+import seedu.address.model.order.Product;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageContext;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object, and parses the rows of the csv file that the
+ * ImportCommand reads when it is executed.
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_ROW_TYPE = "Rows must start with product, customer or order.";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "A %1$s row must have %2$s fields.";
+    public static final String MESSAGE_INVALID_ORDER_LINE = "Products of an order must be written as "
+            + "PRODUCT:QUANTITY, separated by semicolons.";
+    public static final String MESSAGE_DUPLICATE_ORDER_LINE = "%1$s appears more than once in the order.";
+    public static final String MESSAGE_INVALID_STAGE = "Stages must be one of: Under Preparation, "
+            + "Ready For Delivery, Sent For Delivery, Received By Customer.";
+    public static final String MESSAGE_INVALID_CREATION_DATE = "Creation dates must be valid dates in the format "
+            + "dd/MM/yyyy.";
+
+    public static final String ROW_TYPE_PRODUCT = "product";
+    public static final String ROW_TYPE_CUSTOMER = "customer";
+    public static final String ROW_TYPE_ORDER = "order";
+
+    /** A row whose first field is this is a header row, and is skipped. */
+    public static final String HEADER_ROW_TYPE = "type";
+    /** Lines starting with this prefix are comments, and are skipped. */
+    public static final String COMMENT_PREFIX = "#";
+    /** Separates the tags of a customer, and the products of an order. */
+    public static final String LIST_SEPARATOR = ";";
+    /** Separates a product of an order from its quantity. */
+    public static final String QUANTITY_SEPARATOR = ":";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or is not a valid file path.
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            return new ImportCommand(Paths.get(trimmedArgs));
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(ImportCommand.MESSAGE_UNREADABLE_FILE, trimmedArgs), e);
+        }
+    }
+
+    /**
+     * Reads the csv file {@code file}, and returns its valid rows and its rejected rows in the order of the file.
+     * Blank lines, comments and header rows are skipped. The rows do not depend on each other, so they are parsed
+     * and validated in parallel.
+     * @throws IOException if the file cannot be read.
+     */
+    public static ImportRows parseRows(Path file) throws IOException {
+        requireNonNull(file);
+        List<String> lines = Files.readAllLines(file);
+        List<Consumer<ImportRows>> parsedRows = IntStream.range(0, lines.size())
+                .parallel()
+                .mapToObj(index -> parseRow(index + 1, lines.get(index).trim()))
+                .collect(Collectors.toList());
+
+        ImportRows rows = new ImportRows();
+        parsedRows.forEach(parsedRow -> parsedRow.accept(rows));
+        return rows;
+    }
+
+    /**
+     * Returns a function that adds the row on line {@code lineNumber} to the rows of its file, as a valid row or as a
+     * rejected row, or that adds nothing if the line is skipped.
+     */
+    private static Consumer<ImportRows> parseRow(int lineNumber, String line) {
+        if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+            return rows -> { };
+        }
+        List<String> fields = CsvUtil.parseCsvLine(line);
+        String rowType = fields.get(0).trim().toLowerCase(Locale.ROOT);
+        List<String> values = fields.subList(1, fields.size());
+        try {
+            switch (rowType) {
+            case HEADER_ROW_TYPE:
+                return rows -> { };
+            case ROW_TYPE_PRODUCT:
+                Product product = parseProduct(values);
+                return rows -> rows.addProduct(lineNumber, product);
+            case ROW_TYPE_CUSTOMER:
+                Person person = parsePerson(values);
+                return rows -> rows.addPerson(lineNumber, person);
+            case ROW_TYPE_ORDER:
+                OrderRow order = parseOrder(values);
+                return rows -> rows.addOrder(lineNumber, order);
+            default:
+                throw new ParseException(MESSAGE_UNKNOWN_ROW_TYPE);
+            }
+        } catch (ParseException pe) {
+            return rows -> rows.reject(lineNumber, pe.getMessage());
+        }
+    }
+
+    /**
+     * Parses the fields {@code NAME,COST,SALES} of a product row.
+     */
+    private static Product parseProduct(List<String> values) throws ParseException {
+        checkFieldCount(ROW_TYPE_PRODUCT, values, 3, 3, "3");
+        String name = ParserUtil.parseProduct(values.get(0)).getName();
+        String cost = ParserUtil.parsePrice(values.get(1).trim());
+        String sales = ParserUtil.parsePrice(values.get(2).trim());
+        return new Product(name, cost, sales);
+    }
+
+    /**
+     * Parses the fields {@code NAME,PHONE,EMAIL,ADDRESS[,TAGS]} of a customer row.
+     */
+    private static Person parsePerson(List<String> values) throws ParseException {
+        checkFieldCount(ROW_TYPE_CUSTOMER, values, 4, 5, "4 or 5");
+        List<String> tagNames = values.size() == 5 ? splitList(values.get(4)) : List.of();
+        Set<Tag> tags = ParserUtil.parseTags(tagNames);
+        return new Person(ParserUtil.parseName(values.get(0)), ParserUtil.parsePhone(values.get(1)),
+                ParserUtil.parseEmail(values.get(2)), ParserUtil.parseAddress(values.get(3)), tags);
+    }
+
+    /**
+     * Parses the fields {@code PHONE,PRODUCTS[,DEADLINE[,STAGE[,CREATION_DATE]]]} of an order row.
+     */
+    private static OrderRow parseOrder(List<String> values) throws ParseException {
+        checkFieldCount(ROW_TYPE_ORDER, values, 2, 5, "2 to 5");
+        Phone phone = ParserUtil.parsePhone(values.get(0));
+
+        Map<String, Quantity> quantitiesByProductName = new LinkedHashMap<>();
+        for (String orderLine : splitList(values.get(1))) {
+            String[] productAndQuantity = orderLine.split(QUANTITY_SEPARATOR, -1);
+            if (productAndQuantity.length != 2) {
+                throw new ParseException(MESSAGE_INVALID_ORDER_LINE);
+            }
+            String productName = ParserUtil.parseProduct(productAndQuantity[0]).getName();
+            Quantity quantity = ParserUtil.parseQuantity(productAndQuantity[1]);
+            if (quantitiesByProductName.put(productName, quantity) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_ORDER_LINE, productName));
+            }
+        }
+        if (quantitiesByProductName.isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_ORDER_LINE);
+        }
+
+        String deadline = getOptionalValue(values, 2);
+        String stage = getOptionalValue(values, 3);
+        String creationDate = getOptionalValue(values, 4);
+        return new OrderRow(phone, quantitiesByProductName,
+                deadline == null ? null : ParserUtil.parseDeadline(deadline),
+                stage == null ? new UnderPreparationState().toString() : parseStage(stage),
+                creationDate == null ? null : parseCreationDate(creationDate));
+    }
+
+    private static String parseStage(String stage) throws ParseException {
+        try {
+            return new StageContext(stage).toString();
+        } catch (IllegalValueException e) {
+            throw new ParseException(MESSAGE_INVALID_STAGE, e);
+        }
+    }
+
+    private static String parseCreationDate(String creationDate) throws ParseException {
+        if (!CreationDate.isValidCreationDate(creationDate)) {
+            throw new ParseException(MESSAGE_INVALID_CREATION_DATE);
+        }
+        try {
+            new CreationDate(creationDate);
+        } catch (InvalidDateException e) {
+            throw new ParseException(MESSAGE_INVALID_CREATION_DATE, e);
+        }
+        return creationDate;
+    }
+
+    private static void checkFieldCount(String rowType, List<String> values, int min, int max, String expected)
+            throws ParseException {
+        if (values.size() < min || values.size() > max) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, rowType, expected));
+        }
+    }
+
+    /**
+     * Returns the trimmed value at {@code index}, or null if there is no such value or it is blank.
+     */
+    private static String getOptionalValue(List<String> values, int index) {
+        if (index >= values.size() || values.get(index).isBlank()) {
+            return null;
+        }
+        return values.get(index).trim();
+    }
+
+    private static List<String> splitList(String list) {
+        return Arrays.stream(list.split(LIST_SEPARATOR))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
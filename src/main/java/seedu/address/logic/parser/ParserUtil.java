@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CUSTOMER_ID;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -16,6 +17,7 @@ import seedu.address.model.exceptions.InvalidDateException;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.Quantity;
+import seedu.address.model.order.TimeManager;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -156,8 +158,11 @@ public class ParserUtil {
         if (!Quantity.isValidQuantity(trimmedQuantity)) {
             throw new ParseException(Quantity.MESSAGE_CONSTRAINTS);
         }
-        int result = Integer.parseInt(trimmedQuantity);
-        return new Quantity(result);
+        try {
+            return new Quantity(Integer.parseInt(trimmedQuantity));
+        } catch (NumberFormatException e) {
+            throw new ParseException(Quantity.MESSAGE_CONSTRAINTS, e);
+        }
     }
 
     /**
@@ -221,4 +226,19 @@ public class ParserUtil {
         }
         return result;
     }
+
+    /**
+     * Parses a {@code String date} in any of the formats accepted by {@link TimeManager} into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code date} is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        try {
+            return TimeManager.parseTime(date.trim());
+        } catch (InvalidDateException e) {
+            throw new ParseException(Messages.MESSAGE_INVALID_DATE, e);
+        }
+    }
 }
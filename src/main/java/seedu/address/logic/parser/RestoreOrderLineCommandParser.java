@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CREATION_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRODUCT_QUANTITY;
+
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.RestoreOrderLineCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.CreationDate;
+import seedu.address.model.order.Deadline;
+
+/**
+ * Parses the journal entries written for RestoreOrderLineCommand.
+ */
+public class RestoreOrderLineCommandParser implements Parser<RestoreOrderLineCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RestoreOrderLineCommand
+     * and returns a RestoreOrderLineCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RestoreOrderLineCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ORDER, PREFIX_PHONE,
+                PREFIX_CREATION_DATE, PREFIX_DEADLINE, PREFIX_PRODUCT_NAME, PREFIX_PRODUCT_QUANTITY);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_ORDER, PREFIX_PHONE, PREFIX_CREATION_DATE, PREFIX_PRODUCT_NAME,
+                PREFIX_PRODUCT_QUANTITY) || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    RestoreOrderLineCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ORDER, PREFIX_PHONE, PREFIX_CREATION_DATE, PREFIX_DEADLINE,
+                PREFIX_PRODUCT_NAME, PREFIX_PRODUCT_QUANTITY);
+
+        int orderId = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_ORDER).get()).getOneBased();
+        String creationDate = argMultimap.getValue(PREFIX_CREATION_DATE).get();
+        if (!CreationDate.isValidCreationDate(creationDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATE);
+        }
+        ParserUtil.parseDate(creationDate);
+        Deadline deadline = argMultimap.getValue(PREFIX_DEADLINE).isPresent()
+                ? ParserUtil.parseDeadline(argMultimap.getValue(PREFIX_DEADLINE).get())
+                : null;
+
+        return new RestoreOrderLineCommand(orderId,
+                ParserUtil.parsePhone(argMultimap.getValue(PREFIX_PHONE).get()),
+                new CreationDate(creationDate),
+                deadline,
+                ParserUtil.parseProduct(argMultimap.getValue(PREFIX_PRODUCT_NAME).get()),
+                ParserUtil.parseQuantity(argMultimap.getValue(PREFIX_PRODUCT_QUANTITY).get()));
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+}
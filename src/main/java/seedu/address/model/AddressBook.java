@@ -1,19 +1,32 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDeadlines;
 import seedu.address.model.order.OrderList;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.ProductMenu;
 import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageContext;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -25,6 +38,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final OrderList activeOrders;
     private final OrderList completedOrders;
+    /** Running totals of all orders completed since this address book was created or reset. */
+    private final OrderStatistics completedOrderStatistics;
     private final ProductMenu menu;
 
     /*
@@ -38,6 +53,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         activeOrders = new OrderList();
         completedOrders = new OrderList();
+        completedOrderStatistics = new OrderStatistics();
         menu = new ProductMenu();
     }
 
@@ -75,10 +91,15 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The running totals of completed orders are replaced with the totals of the completed orders of {@code newData}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        completedOrderStatistics.clear();
+        for (Order completedOrder : newData.getCompletedOrderList()) {
+            completedOrderStatistics.add(completedOrder.getId(), completedOrder);
+        }
         setPersons(newData.getPersonList());
         setOrders(newData.getOrderList());
         setCompletedOrders(newData.getCompletedOrderList());
@@ -86,6 +107,73 @@ public class AddressBook implements ReadOnlyAddressBook {
         setProducts(newData.getMenuList());
     }
 
+    /**
+     * Returns a copy of this address book that shares no persons or orders with it, so that changing either of them
+     * in place does not change the other. Products are shared, since they are replaced instead of being changed.
+     */
+    public AddressBook copy() {
+        Map<Person, Person> personCopies = new IdentityHashMap<>();
+        Map<Order, Order> orderCopies = new IdentityHashMap<>();
+
+        AddressBook copy = new AddressBook();
+        copy.setPersons(getPersonList().stream()
+                .map(person -> copyOf(person, personCopies, orderCopies)).collect(Collectors.toList()));
+        copy.setOrders(getOrderList().stream()
+                .map(order -> copyOf(order, personCopies, orderCopies)).collect(Collectors.toList()));
+        copy.setCompletedOrders(getCompletedOrderList().stream()
+                .map(order -> copyOf(order, personCopies, orderCopies)).collect(Collectors.toList()));
+        copy.setOrderListIdCounter(getOrderListCounter());
+        copy.setProducts(getMenuList());
+        copy.completedOrderStatistics.resetData(completedOrderStatistics);
+        return copy;
+    }
+
+    /**
+     * Replaces all the data of this address book, including the running totals of completed orders, with that of
+     * {@code copy}, which was made by {@link #copy()} and is not used afterwards.
+     */
+    public void restore(AddressBook copy) {
+        requireNonNull(copy);
+        resetData(copy);
+        completedOrderStatistics.resetData(copy.completedOrderStatistics);
+    }
+
+    /**
+     * Returns the copy of {@code person} in {@code personCopies}, making it and the copies of its orders first if
+     * there is none yet.
+     */
+    private static Person copyOf(Person person, Map<Person, Person> personCopies, Map<Order, Order> orderCopies) {
+        Person copy = personCopies.get(person);
+        if (copy == null) {
+            copy = new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getTags(), new ArrayList<>());
+            personCopies.put(person, copy);
+            for (Order order : person.getOrders()) {
+                copy.addOrder(copyOf(order, personCopies, orderCopies));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the copy of {@code order} in {@code orderCopies}, making it and the copy of its customer first if
+     * there is none yet.
+     */
+    private static Order copyOf(Order order, Map<Person, Person> personCopies, Map<Order, Order> orderCopies) {
+        Order copy = orderCopies.get(order);
+        if (copy == null) {
+            copy = new Order(order);
+            if (order.getStageContext() != null) {
+                copy.setStageContext(new StageContext(order.getStageContext().getState()));
+            }
+            orderCopies.put(order, copy);
+            if (order.getCustomer() != null) {
+                copy.setCustomer(copyOf(order.getCustomer(), personCopies, orderCopies));
+            }
+        }
+        return copy;
+    }
+
     //// person-level operations
 
     /**
@@ -137,6 +225,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         activeOrders.addOrder(order);
     }
 
+    /**
+     * Adds {@code products} to the menu, {@code newPersons} to the person list and {@code orders} to the active
+     * orders, with a single change to each list, and links each order to its customer.
+     * The customer of each order must be in the address book or in {@code newPersons}.
+     */
+    public void importData(List<Product> products, List<Person> newPersons, List<Order> orders) {
+        requireAllNonNull(products, newPersons, orders);
+
+        menu.addProducts(products);
+        activeOrders.addOrders(orders);
+        Set<Person> customers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Order order : orders) {
+            order.getCustomer().addOrder(order);
+            customers.add(order.getCustomer());
+        }
+        persons.addAll(newPersons);
+        newPersons.forEach(customers::remove);
+        // existing customers are set again so that the person list shows their new orders
+        for (Person customer : customers) {
+            persons.setPerson(customer, customer);
+        }
+    }
+
     /**
      * Returns true if an order with the same identity exists in the OrderList.
      */
@@ -178,6 +289,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Returns the person with the given phone number in the address book, or an empty {@code Optional} if there is
+     * none.
+     */
+    public Optional<Person> findPersonByPhone(Phone phone) {
+        return persons.findByPhone(phone);
+    }
+
+    /**
+     * Returns the index of the persons in the address book by the words of their fields.
+     */
+    public PersonSearchIndex getPersonSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
     public void setOrder(Order target, Order edittedOrder) {
         requireNonNull(edittedOrder);
 
@@ -260,6 +386,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         editedCustomer.setOrders(listToEdit);
         this.setPerson(orderToComplete.getCustomer(), editedCustomer);
 
+        completedOrderStatistics.add(id, orderToComplete);
         activeOrders.deleteOrder(id);
         completedOrders.addOrderWithID(orderToComplete, orderToComplete.getId());
     }
@@ -336,6 +463,35 @@ public class AddressBook implements ReadOnlyAddressBook {
         return activeOrders.size();
     }
 
+    /**
+     * Returns the running totals of the active orders.
+     */
+    public OrderStatistics getOrderStatistics() {
+        return activeOrders.getStatistics();
+    }
+
+    /**
+     * Returns the index of the active orders by deadline.
+     */
+    public OrderDeadlines getOrderDeadlines() {
+        return activeOrders.getDeadlines();
+    }
+
+    /**
+     * Returns the active orders at {@code stage}, which is kept up to date as orders change.
+     */
+    public ObservableList<Order> getOrderListAtStage(StageState stage) {
+        return activeOrders.getStages().getOrders(stage);
+    }
+
+    /**
+     * Returns the running totals of the orders completed since this address book was created or reset.
+     * Unlike the completed order list, these are not cleared once the completed orders are saved.
+     */
+    public OrderStatistics getCompletedOrderStatistics() {
+        return completedOrderStatistics;
+    }
+
     /**
      * Refreshes the order lists to display up-to-date customer information in orders
      * after customer is edited.
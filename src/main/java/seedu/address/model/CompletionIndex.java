@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.TernarySearchTree;
+import seedu.address.model.order.Product;
+import seedu.address.model.person.Person;
+
+/**
+ * Suggests customer phone numbers, customer names and product names that complete what has been typed.
+ * The values are kept in a {@link TernarySearchTree} per field, which is updated by each change to the lists of
+ * customers and products it follows, so suggesting a value never iterates over the customers or products.
+ *
+ * Values that start with what has been typed are suggested first. If there are too few of them, values that start with
+ * something one typing error away are suggested after them, as long as enough has been typed for that to be useful.
+ */
+public class CompletionIndex {
+
+    /**
+     * A field whose values can be suggested.
+     */
+    public enum Field {
+        PHONE, NAME, PRODUCT_NAME
+    }
+
+    /** Number of typing errors allowed in what has been typed for a value with a similar start to be suggested. */
+    public static final int MAX_TYPING_ERRORS = 1;
+
+    /** Nodes visited at most by a search for values with a similar start, which bounds the time it takes. */
+    public static final int MAX_VISITED_NODES = 20_000;
+
+    private final Map<Field, TernarySearchTree> trees = new EnumMap<>(Field.class);
+
+    /**
+     * Creates a {@code CompletionIndex} of the customers in {@code persons} and the products in {@code products},
+     * which follows the changes to both lists.
+     */
+    public CompletionIndex(ObservableList<Person> persons, ObservableList<Product> products) {
+        requireNonNull(persons);
+        requireNonNull(products);
+        for (Field field : Field.values()) {
+            trees.put(field, new TernarySearchTree());
+        }
+        follow(persons, person -> person.getPhone().value, trees.get(Field.PHONE));
+        follow(persons, person -> person.getName().fullName, trees.get(Field.NAME));
+        follow(products, Product::getName, trees.get(Field.PRODUCT_NAME));
+    }
+
+    /**
+     * Returns up to {@code limit} values of {@code field} that complete {@code typed}, ignoring case.
+     */
+    public List<String> suggest(Field field, String typed, int limit) {
+        requireNonNull(field);
+        requireNonNull(typed);
+        TernarySearchTree tree = trees.get(field);
+        Set<String> suggestions = new LinkedHashSet<>(tree.getStringsWithPrefix(typed, limit));
+        if (suggestions.size() < limit && typed.trim().length() > 2 * MAX_TYPING_ERRORS) {
+            suggestions.addAll(tree.getStringsWithSimilarPrefix(typed, MAX_TYPING_ERRORS, limit, MAX_VISITED_NODES));
+        }
+        List<String> limitedSuggestions = new ArrayList<>(suggestions);
+        return limitedSuggestions.subList(0, Math.min(limit, limitedSuggestions.size()));
+    }
+
+    /**
+     * Adds the values of the elements of {@code list} to {@code tree}, and keeps {@code tree} up to date with the
+     * changes to {@code list}.
+     */
+    private static <T> void follow(ObservableList<T> list, Function<T, String> valueOf, TernarySearchTree tree) {
+        list.forEach(element -> tree.add(valueOf.apply(element)));
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(element -> tree.remove(valueOf.apply(element)));
+                change.getAddedSubList().forEach(element -> tree.add(valueOf.apply(element)));
+            }
+        });
+    }
+}
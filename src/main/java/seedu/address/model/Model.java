@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -8,9 +9,14 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.OrderDeadlines;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * The API of the Model component.
@@ -63,6 +69,24 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a copy of the address book that shares no persons or orders with it, which
+     * {@link #restoreAddressBook(AddressBook)} can roll the address book back to.
+     */
+    AddressBook copyAddressBook();
+
+    /**
+     * Returns a model of {@code copy}, made by {@link #copyAddressBook()}, with the same user prefs, order archive
+     * and list filters as this model, so that a command executed against it changes only {@code copy}.
+     */
+    Model createWorkingModel(AddressBook copy);
+
+    /**
+     * Replaces the address book with {@code copy}, made by {@link #copyAddressBook()} and possibly changed since,
+     * including the running totals of completed orders. Each list of the address book is replaced at once.
+     */
+    void restoreAddressBook(AddressBook copy);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -100,6 +124,14 @@ public interface Model {
      */
     void addOrder(Order newOrder, Person person);
 
+    /**
+     * Adds {@code products} to the menu, {@code persons} to the address book and {@code orders} to the active
+     * orders, with a single change to each list.
+     * The products and persons must not already exist, and the customer of each order must be in the address book
+     * or in {@code persons}.
+     */
+    void importData(List<Product> products, List<Person> persons, List<Order> orders);
+
     /**
      * Deletes the given order.
      * The order must exist in the address book.
@@ -113,6 +145,7 @@ public interface Model {
      * If the product is not in the order yet, add the product and set its quantity.
      * @param currProduct Product of which quantity to be editted.
      * @param newQuantity new Quantity of the specified product.
+     * @throws ArithmeticException if the totals of the order would not fit in a {@code long}.
      */
     Order editOrder(Order target, Product currProduct, Quantity newQuantity);
 
@@ -157,12 +190,26 @@ public interface Model {
 
     /**
      * Finds a person based on their phone number.
+     * All persons in the address book are searched, regardless of the filter applied to the filtered person list.
      *
      * @param phoneNumber The phone number to search for.
      * @return An Optional containing the found Person, or an empty Optional if no person with the phone number exists.
      */
     Optional<Person> findPersonByPhoneNumber(String phoneNumber);
 
+    /**
+     * Returns the index of all persons in the address book by the words of their fields, which is kept up to date as
+     * persons change.
+     */
+    PersonSearchIndex getPersonSearchIndex();
+
+    /**
+     * Returns the index of the customer phone numbers, customer names and product names in the address book that can
+     * be suggested to complete a command, which is kept up to date as customers and products change.
+     * The index is built when it is first requested.
+     */
+    CompletionIndex getCompletionIndex();
+
     Order findOrderByIndex(int id);
 
     /**
@@ -188,6 +235,38 @@ public interface Model {
 
     void clearOrderFilter();
 
+    /**
+     * Returns the running totals of the active orders, which are kept up to date as orders change.
+     */
+    OrderStatistics getOrderStatistics();
+
+    /**
+     * Returns the running totals of the orders completed since the address book was loaded or cleared.
+     */
+    OrderStatistics getCompletedOrderStatistics();
+
+    /**
+     * Returns the index of the active orders by deadline, which is kept up to date as orders change.
+     */
+    OrderDeadlines getOrderDeadlines();
+
+    /**
+     * Returns an unmodifiable view of the active orders at {@code stage}, which is kept up to date as orders change.
+     * The same view is returned for every call with the same stage, so switching between stages does not filter
+     * the orders.
+     */
+    ObservableList<Order> getOrderListAtStage(StageState stage);
+
+    /**
+     * Returns the archive of the orders completed before the current command.
+     */
+    OrderArchive getOrderArchive();
+
+    /**
+     * Replaces the archive of completed orders with {@code orderArchive}.
+     */
+    void setOrderArchive(OrderArchive orderArchive);
+
     /**
      * Returns true if a product with the same identity as {@code product} exists in the menu.
      */
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -14,9 +15,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.OrderDeadlines;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Phone;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -30,17 +37,28 @@ public class ModelManager implements Model {
     //need to include a means to pass this here from constructor
     private final FilteredList<Order> filteredOrders;
     private final FilteredList<Product> filteredMenu;
+    /** Built when first requested, since only the model shown by the UI suggests completions. */
+    private CompletionIndex completionIndex;
+    private OrderArchive orderArchive = OrderArchive.EMPTY;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(new AddressBook(addressBook), userPrefs, OrderArchive.EMPTY);
+    }
+
+    /**
+     * Initializes a ModelManager that changes {@code addressBook} itself instead of a copy of it.
+     */
+    private ModelManager(AddressBook addressBook, ReadOnlyUserPrefs userPrefs, OrderArchive orderArchive) {
+        requireAllNonNull(addressBook, userPrefs, orderArchive);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = addressBook;
         this.userPrefs = new UserPrefs(userPrefs);
+        this.orderArchive = orderArchive;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredOrders = new FilteredList<>(this.addressBook.getOrderList());
         filteredMenu = new FilteredList<>(this.addressBook.getMenuList());
@@ -97,6 +115,27 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBook copyAddressBook() {
+        return addressBook.copy();
+    }
+
+    @Override
+    public Model createWorkingModel(AddressBook copy) {
+        requireNonNull(copy);
+        ModelManager workingModel = new ModelManager(copy, userPrefs, orderArchive);
+        workingModel.filteredPersons.setPredicate(filteredPersons.getPredicate());
+        workingModel.filteredOrders.setPredicate(filteredOrders.getPredicate());
+        workingModel.filteredMenu.setPredicate(filteredMenu.getPredicate());
+        return workingModel;
+    }
+
+    @Override
+    public void restoreAddressBook(AddressBook copy) {
+        requireNonNull(copy);
+        addressBook.restore(copy);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -139,6 +178,14 @@ public class ModelManager implements Model {
         updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
     }
 
+    @Override
+    public void importData(List<Product> products, List<Person> persons, List<Order> orders) {
+        addressBook.importData(products, persons, orders);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        updateFilteredMenuList(PREDICATE_SHOW_ALL_PRODUCTS);
+    }
+
     @Override
     public void deleteOrder(int id) {
         addressBook.removeOrder(id);
@@ -194,6 +241,38 @@ public class ModelManager implements Model {
         return addressBook.getOrderListSize();
     }
 
+    @Override
+    public OrderStatistics getOrderStatistics() {
+        return addressBook.getOrderStatistics();
+    }
+
+    @Override
+    public OrderStatistics getCompletedOrderStatistics() {
+        return addressBook.getCompletedOrderStatistics();
+    }
+
+    @Override
+    public OrderDeadlines getOrderDeadlines() {
+        return addressBook.getOrderDeadlines();
+    }
+
+    @Override
+    public ObservableList<Order> getOrderListAtStage(StageState stage) {
+        requireNonNull(stage);
+        return addressBook.getOrderListAtStage(stage);
+    }
+
+    @Override
+    public OrderArchive getOrderArchive() {
+        return orderArchive;
+    }
+
+    @Override
+    public void setOrderArchive(OrderArchive orderArchive) {
+        requireNonNull(orderArchive);
+        this.orderArchive = orderArchive;
+    }
+
     @Override
     public boolean hasProduct(Product product) {
         requireNonNull(product);
@@ -237,13 +316,24 @@ public class ModelManager implements Model {
 
     @Override
     public Optional<Person> findPersonByPhoneNumber(String phoneNumber) {
-        ObservableList<Person> persons = getFilteredPersonList();
-        for (Person person : persons) {
-            if (person.getPhone().value.equals(phoneNumber)) {
-                return Optional.of(person);
-            }
+        requireNonNull(phoneNumber);
+        if (!Phone.isValidPhone(phoneNumber)) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return addressBook.findPersonByPhone(new Phone(phoneNumber));
+    }
+
+    @Override
+    public PersonSearchIndex getPersonSearchIndex() {
+        return addressBook.getPersonSearchIndex();
+    }
+
+    @Override
+    public CompletionIndex getCompletionIndex() {
+        if (completionIndex == null) {
+            completionIndex = new CompletionIndex(addressBook.getPersonList(), addressBook.getMenuList());
+        }
+        return completionIndex;
     }
 
     //=========== Filtered Order List Accessors =============================================================
@@ -255,6 +345,12 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredOrderList(Predicate<Order> predicate) {
         requireNonNull(predicate);
+        // the filtered list follows changes to the orders, so it is only filtered again if the predicate changes
+        Predicate<? super Order> currentPredicate = filteredOrders.getPredicate();
+        boolean isShowingAllOrders = currentPredicate == null || currentPredicate == PREDICATE_SHOW_ALL_ORDERS;
+        if (predicate == currentPredicate || (predicate == PREDICATE_SHOW_ALL_ORDERS && isShowingAllOrders)) {
+            return;
+        }
         filteredOrders.setPredicate(predicate);
     }
 
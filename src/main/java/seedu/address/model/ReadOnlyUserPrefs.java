@@ -13,4 +13,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    long getMaxSaveStalenessMillis();
+
+    int getJournalCompactionThreshold();
+
+    int getCompletedOrderFlushRowCount();
+
+    int getCompletedOrderPartitionMonths();
+
+    int getCompletedOrderRetentionMonths();
+
 }
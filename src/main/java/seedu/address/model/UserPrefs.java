@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,9 +14,45 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** How long a change may stay unsaved before it is written to disk. 0 saves after every command. */
+    public static final long DEFAULT_MAX_SAVE_STALENESS_MILLIS = 500;
+    public static final String MESSAGE_NEGATIVE_STALENESS = "Max save staleness cannot be negative.";
+
+    /** Number of journalled commands after which the journal is folded into a fresh data file snapshot. */
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+    public static final String MESSAGE_NON_POSITIVE_COMPACTION_THRESHOLD =
+            "Journal compaction threshold must be positive.";
+
+    /**
+     * Number of completed order rows that may be buffered before they are written to the completed orders file.
+     * 1 writes the rows of every completed order right away, and 0 only writes them when the app exits.
+     * Any value other than 1 is opt-in, as buffered rows are lost if the app crashes and are not recovered from the
+     * journal.
+     */
+    public static final int DEFAULT_COMPLETED_ORDER_FLUSH_ROW_COUNT = 1;
+    public static final String MESSAGE_NEGATIVE_FLUSH_ROW_COUNT =
+            "Completed order flush row count cannot be negative.";
+
+    /** Number of months of completion dates in each partition of the completed order files. */
+    public static final int DEFAULT_COMPLETED_ORDER_PARTITION_MONTHS = 1;
+    public static final String MESSAGE_NON_POSITIVE_PARTITION_MONTHS =
+            "Completed order partition months must be positive.";
+
+    /** Number of months completed orders are kept for. 0 keeps them forever. */
+    public static final int DEFAULT_COMPLETED_ORDER_RETENTION_MONTHS = 0;
+    public static final String MESSAGE_NEGATIVE_RETENTION_MONTHS =
+            "Completed order retention months cannot be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
     private Path completedOrderFilePath = Paths.get("data", "completedorders.csv");
+    private Path orderArchiveDirectoryPath = Paths.get("data", "archive");
+    private Path journalFilePath = Paths.get("data", "addressbook.journal");
+    private long maxSaveStalenessMillis = DEFAULT_MAX_SAVE_STALENESS_MILLIS;
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private int completedOrderFlushRowCount = DEFAULT_COMPLETED_ORDER_FLUSH_ROW_COUNT;
+    private int completedOrderPartitionMonths = DEFAULT_COMPLETED_ORDER_PARTITION_MONTHS;
+    private int completedOrderRetentionMonths = DEFAULT_COMPLETED_ORDER_RETENTION_MONTHS;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +74,40 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setMaxSaveStalenessMillis(newUserPrefs.getMaxSaveStalenessMillis());
+        setJournalCompactionThreshold(newUserPrefs.getJournalCompactionThreshold());
+        setCompletedOrderFlushRowCount(newUserPrefs.getCompletedOrderFlushRowCount());
+        setCompletedOrderPartitionMonths(newUserPrefs.getCompletedOrderPartitionMonths());
+        setCompletedOrderRetentionMonths(newUserPrefs.getCompletedOrderRetentionMonths());
+    }
+
+    /**
+     * Replaces the settings that are out of range, as when they were edited in the preferences file, with their
+     * default values, and returns true if any was replaced.
+     */
+    public boolean replaceInvalidSettingsWithDefaults() {
+        boolean isReplaced = false;
+        if (maxSaveStalenessMillis < 0) {
+            maxSaveStalenessMillis = DEFAULT_MAX_SAVE_STALENESS_MILLIS;
+            isReplaced = true;
+        }
+        if (journalCompactionThreshold <= 0) {
+            journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+            isReplaced = true;
+        }
+        if (completedOrderFlushRowCount < 0) {
+            completedOrderFlushRowCount = DEFAULT_COMPLETED_ORDER_FLUSH_ROW_COUNT;
+            isReplaced = true;
+        }
+        if (completedOrderPartitionMonths <= 0) {
+            completedOrderPartitionMonths = DEFAULT_COMPLETED_ORDER_PARTITION_MONTHS;
+            isReplaced = true;
+        }
+        if (completedOrderRetentionMonths < 0) {
+            completedOrderRetentionMonths = DEFAULT_COMPLETED_ORDER_RETENTION_MONTHS;
+            isReplaced = true;
+        }
+        return isReplaced;
     }
 
     public GuiSettings getGuiSettings() {
@@ -61,6 +132,78 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return completedOrderFilePath;
     }
 
+    public Path getOrderArchiveDirectoryPath() {
+        return orderArchiveDirectoryPath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    public long getMaxSaveStalenessMillis() {
+        return maxSaveStalenessMillis;
+    }
+
+    /**
+     * Sets how long, in milliseconds, a change may stay unsaved before it is written to disk.
+     * A value of 0 saves the data synchronously after every command.
+     */
+    public void setMaxSaveStalenessMillis(long maxSaveStalenessMillis) {
+        checkArgument(maxSaveStalenessMillis >= 0, MESSAGE_NEGATIVE_STALENESS);
+        this.maxSaveStalenessMillis = maxSaveStalenessMillis;
+    }
+
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Sets the number of journalled commands after which the journal is folded into a fresh data file snapshot.
+     */
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        checkArgument(journalCompactionThreshold > 0, MESSAGE_NON_POSITIVE_COMPACTION_THRESHOLD);
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public int getCompletedOrderFlushRowCount() {
+        return completedOrderFlushRowCount;
+    }
+
+    /**
+     * Sets the number of completed order rows that may be buffered before they are written to the completed orders
+     * file. A value of 0 only writes them when the app exits. With any value other than 1, the buffered rows are lost
+     * if the app crashes.
+     */
+    public void setCompletedOrderFlushRowCount(int completedOrderFlushRowCount) {
+        checkArgument(completedOrderFlushRowCount >= 0, MESSAGE_NEGATIVE_FLUSH_ROW_COUNT);
+        this.completedOrderFlushRowCount = completedOrderFlushRowCount;
+    }
+
+    public int getCompletedOrderPartitionMonths() {
+        return completedOrderPartitionMonths;
+    }
+
+    /**
+     * Sets the number of months of completion dates in each partition of the completed order files.
+     */
+    public void setCompletedOrderPartitionMonths(int completedOrderPartitionMonths) {
+        checkArgument(completedOrderPartitionMonths > 0, MESSAGE_NON_POSITIVE_PARTITION_MONTHS);
+        this.completedOrderPartitionMonths = completedOrderPartitionMonths;
+    }
+
+    public int getCompletedOrderRetentionMonths() {
+        return completedOrderRetentionMonths;
+    }
+
+    /**
+     * Sets the number of months completed orders are kept for before their partitions are deleted.
+     * A value of 0 keeps them forever.
+     */
+    public void setCompletedOrderRetentionMonths(int completedOrderRetentionMonths) {
+        checkArgument(completedOrderRetentionMonths >= 0, MESSAGE_NEGATIVE_RETENTION_MONTHS);
+        this.completedOrderRetentionMonths = completedOrderRetentionMonths;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -74,12 +217,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && maxSaveStalenessMillis == otherUserPrefs.maxSaveStalenessMillis
+                && journalCompactionThreshold == otherUserPrefs.journalCompactionThreshold
+                && completedOrderFlushRowCount == otherUserPrefs.completedOrderFlushRowCount
+                && completedOrderPartitionMonths == otherUserPrefs.completedOrderPartitionMonths
+                && completedOrderRetentionMonths == otherUserPrefs.completedOrderRetentionMonths;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, maxSaveStalenessMillis, journalCompactionThreshold,
+                completedOrderFlushRowCount, completedOrderPartitionMonths, completedOrderRetentionMonths);
     }
 
     @Override
@@ -87,6 +236,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nMax save staleness (ms) : " + maxSaveStalenessMillis);
+        sb.append("\nJournal compaction threshold : " + journalCompactionThreshold);
+        sb.append("\nCompleted order flush row count : " + completedOrderFlushRowCount);
+        sb.append("\nCompleted order partition months : " + completedOrderPartitionMonths);
+        sb.append("\nCompleted order retention months : " + completedOrderRetentionMonths);
         return sb.toString();
     }
 
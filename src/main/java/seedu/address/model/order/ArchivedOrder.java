@@ -0,0 +1,197 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a completed order in the order archive, with the customer, products and prices it had when it was
+ * completed, so that it no longer depends on the customers or the menu in the address book.
+ * Guarantees: immutable.
+ */
+public class ArchivedOrder {
+
+    private final int id;
+    private final String customerName;
+    private final String customerPhone;
+    private final LocalDate creationDate;
+    private final LocalDate completionDate;
+    private final List<Line> lines;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public ArchivedOrder(int id, String customerName, String customerPhone, LocalDate creationDate,
+                         LocalDate completionDate, List<Line> lines) {
+        requireAllNonNull(customerName, customerPhone, creationDate, completionDate, lines);
+        this.id = id;
+        this.customerName = customerName;
+        this.customerPhone = customerPhone;
+        this.creationDate = creationDate;
+        this.completionDate = completionDate;
+        this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+    }
+
+    /**
+     * Returns the archived form of {@code order}, which was completed on {@code completionDate}.
+     */
+    public static ArchivedOrder of(Order order, LocalDate completionDate) {
+        requireAllNonNull(order, completionDate);
+        List<Line> lines = new ArrayList<>();
+        for (Map.Entry<Product, Quantity> entry : order.getProductMap().entrySet()) {
+            Product product = entry.getKey();
+            int quantity = entry.getValue().getValue();
+            lines.add(new Line(product.getName(), quantity,
+                    product.getUnitCost().getCents() * quantity, product.getUnitSales().getCents() * quantity));
+        }
+        return new ArchivedOrder(order.getId(), order.getCustomer().getName().fullName,
+                order.getCustomer().getPhone().value, order.getCreationDateObject().getDate(), completionDate, lines);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getCustomerPhone() {
+        return customerPhone;
+    }
+
+    public LocalDate getCreationDate() {
+        return creationDate;
+    }
+
+    public LocalDate getCompletionDate() {
+        return completionDate;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public Money getTotalCost() {
+        return Money.ofCents(lines.stream().mapToLong(Line::getCostCents).sum());
+    }
+
+    public Money getTotalSales() {
+        return Money.ofCents(lines.stream().mapToLong(Line::getSalesCents).sum());
+    }
+
+    public Money getProfit() {
+        return Money.ofCents(getTotalSales().getCents() - getTotalCost().getCents());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchivedOrder)) {
+            return false;
+        }
+
+        ArchivedOrder otherArchivedOrder = (ArchivedOrder) other;
+        return id == otherArchivedOrder.id
+                && customerName.equals(otherArchivedOrder.customerName)
+                && customerPhone.equals(otherArchivedOrder.customerPhone)
+                && creationDate.equals(otherArchivedOrder.creationDate)
+                && completionDate.equals(otherArchivedOrder.completionDate)
+                && lines.equals(otherArchivedOrder.lines);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, customerName, customerPhone, creationDate, completionDate, lines);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("id", id)
+                .add("customerName", customerName)
+                .add("customerPhone", customerPhone)
+                .add("creationDate", creationDate)
+                .add("completionDate", completionDate)
+                .add("lines", lines)
+                .toString();
+    }
+
+    /**
+     * A product of an archived order, with the subtotals it had when the order was completed.
+     */
+    public static class Line {
+        private final String productName;
+        private final int quantity;
+        private final long costCents;
+        private final long salesCents;
+
+        /**
+         * Creates a {@code Line} of {@code quantity} units of {@code productName}, which cost {@code costCents}
+         * and sold for {@code salesCents} in total.
+         */
+        public Line(String productName, int quantity, long costCents, long salesCents) {
+            requireNonNull(productName);
+            this.productName = productName;
+            this.quantity = quantity;
+            this.costCents = costCents;
+            this.salesCents = salesCents;
+        }
+
+        public String getProductName() {
+            return productName;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public long getCostCents() {
+            return costCents;
+        }
+
+        public long getSalesCents() {
+            return salesCents;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Line)) {
+                return false;
+            }
+
+            Line otherLine = (Line) other;
+            return productName.equals(otherLine.productName)
+                    && quantity == otherLine.quantity
+                    && costCents == otherLine.costCents
+                    && salesCents == otherLine.salesCents;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(productName, quantity, costCents, salesCents);
+        }
+
+        @Override
+        public String toString() {
+            return productName + " x" + quantity;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.SortedMap;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An array-backed {@code ObservableList} that can replace several elements in a single change, so that listeners
+ * such as list views are notified, and re-render, once instead of once per element.
+ */
+class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final ArrayList<E> elements = new ArrayList<>();
+
+    /**
+     * Replaces the element at each position in {@code replacements} with the element it maps to.
+     * Listeners are notified of all the replacements in one change.
+     */
+    void setAll(SortedMap<Integer, E> replacements) {
+        requireNonNull(replacements);
+        beginChange();
+        try {
+            for (Map.Entry<Integer, E> replacement : replacements.entrySet()) {
+                set(replacement.getKey(), replacement.getValue());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
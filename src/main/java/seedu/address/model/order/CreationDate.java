@@ -47,6 +47,10 @@ public class CreationDate {
         this.creationDate = TimeManager.parseTime(date);
     }
 
+    public LocalDate getDate() {
+        return this.creationDate;
+    }
+
     @Override
     public String toString() {
         return TimeManager.formatter(this.creationDate);
@@ -1,7 +1,6 @@
 package seedu.address.model.order;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 
 /**
@@ -15,6 +14,9 @@ public class Deadline {
 
     public static final String VALIDATION_REGEX = "^\\d{2}/\\d{2}/\\d{4}$";
 
+    /** Number of days from today within which a deadline is urgent. */
+    public static final int URGENT_DAYS = 3;
+
     private LocalDate deadline;
 
 
@@ -46,20 +48,6 @@ public class Deadline {
         return this.deadline;
     }
 
-    /**
-     * Checks if the deadline is within a specified number of days from the current date.
-     *
-     * @param days the number of days to check against.
-     * @return true if the deadline is within the specified number of days from now, false otherwise.
-     */
-    public boolean isWithinDaysFromNow(int days) {
-        LocalDate now = LocalDate.now();
-        long daysUntilDeadline = ChronoUnit.DAYS.between(now, this.deadline);
-        System.out.println(daysUntilDeadline);
-        return daysUntilDeadline <= days;
-    }
-
-
     @Override
     public String toString() {
         return TimeManager.formatter(this.deadline);
@@ -0,0 +1,130 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Represents an amount of money, such as the price of a {@code Product} or the total of an {@code Order}.
+ * The amount is stored as a whole number of cents, so that arithmetic on amounts is exact and can be done on
+ * {@code long} values without parsing or allocating.
+ * Guarantees: immutable.
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Keeps every valid amount below 10^14 cents. Quantities are not bounded, so the totals of an order can still be
+     * out of the range of a long, which {@link Order} detects with exact arithmetic.
+     */
+    public static final int MAX_WHOLE_UNIT_DIGITS = 12;
+
+    public static final String MESSAGE_CONSTRAINTS = "Prices should be numbers, optionally with a sign and a "
+            + "decimal point, should be at least 1 digit long and should have at most "
+            + MAX_WHOLE_UNIT_DIGITS + " digits before the decimal point.";
+
+    public static final String VALIDATION_REGEX = "[+-]?([0-9]*[.])?[0-9]+";
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int CENTS_PER_UNIT = 100;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount represented by {@code amount}, rounded half up to the nearest cent.
+     *
+     * @param amount A valid amount, as declared in {@link #isValidMoney(String)}.
+     */
+    public static Money parse(String amount) {
+        requireNonNull(amount);
+        checkArgument(isValidMoney(amount), MESSAGE_CONSTRAINTS);
+        return ofCents(new BigDecimal(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Returns the amount of {@code cents} cents.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Returns true if a given string is a valid amount.
+     */
+    public static boolean isValidMoney(String test) {
+        if (!test.matches(VALIDATION_REGEX)) {
+            return false;
+        }
+        int wholeUnitsEnd = test.indexOf('.') < 0 ? test.length() : test.indexOf('.');
+        int wholeUnitsStart = test.charAt(0) == '+' || test.charAt(0) == '-' ? 1 : 0;
+        while (wholeUnitsStart < wholeUnitsEnd && test.charAt(wholeUnitsStart) == '0') {
+            wholeUnitsStart++;
+        }
+        return wholeUnitsEnd - wholeUnitsStart <= MAX_WHOLE_UNIT_DIGITS;
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns {@code cents} cents formatted as a decimal number of units with at least one and at most two
+     * decimal places, e.g. {@code 1250} as {@code "12.5"} and {@code 300} as {@code "3.0"}.
+     */
+    public static String format(long cents) {
+        StringBuilder builder = new StringBuilder();
+        if (cents < 0) {
+            builder.append('-');
+        }
+        long units = Math.abs(cents / CENTS_PER_UNIT);
+        int fraction = (int) Math.abs(cents % CENTS_PER_UNIT);
+        builder.append(units).append('.').append(fraction / 10);
+        if (fraction % 10 != 0) {
+            builder.append(fraction % 10);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns this amount as a {@code BigDecimal} with two decimal places.
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Money)) {
+            return false;
+        }
+
+        Money otherMoney = (Money) other;
+        return cents == otherMoney.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return format(cents);
+    }
+}
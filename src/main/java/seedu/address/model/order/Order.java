@@ -1,7 +1,6 @@
 package seedu.address.model.order;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,12 +11,17 @@ import seedu.address.model.person.Person;
 
 /**
  * Represents a Customer's Order in the Addressbook.
+ * The totals of an order are kept up to date by the change of each product line, and copies of an order share
+ * its product lines, so that changing one line of an order takes constant time however many lines it has.
+ * The totals are computed with exact arithmetic, so a change that would make them overflow a {@code long} throws an
+ * {@code ArithmeticException} instead of leaving a wrong total.
  */
 public class Order implements Comparable<Order> {
     public static final String MESSAGE_CONSTRAINTS = "Orders need to contain alphanumeric "
             + "product names and numeric quantities";
+    public static final String MESSAGE_TOTALS_TOO_LARGE = "The total cost or sales of the order would be too large.";
     private int id;
-    private Map<Product, Quantity> productMap;
+    private ProductQuantityMap productMap;
 
     private Person customer;
     private CreationDate creationDate;
@@ -25,16 +29,14 @@ public class Order implements Comparable<Order> {
 
     private StageContext stageContext;
 
-    private float totalCost = 0;
-    private float totalSales = 0;
-
-    private float profit = 0;
+    private long totalCostCents = 0;
+    private long totalSalesCents = 0;
 
     /**
      * Constructs an {@code Order} Object.
      */
     public Order() {
-        this.productMap = new HashMap<>();
+        this.productMap = ProductQuantityMap.empty();
         this.creationDate = new CreationDate();
         this.stageContext = new StageContext();
     }
@@ -46,7 +48,7 @@ public class Order implements Comparable<Order> {
      */
     public Order(int id) {
         this.id = id;
-        productMap = new HashMap<>();
+        productMap = ProductQuantityMap.empty();
         this.creationDate = new CreationDate();
         this.stageContext = new StageContext();
 
@@ -57,7 +59,7 @@ public class Order implements Comparable<Order> {
      * @param map Mappings of Products and Quantity
      */
     public Order(Map<Product, Quantity> map) {
-        productMap = map;
+        productMap = ProductQuantityMap.copyOf(map);
         updateNumbers();
         this.creationDate = new CreationDate();
     }
@@ -69,7 +71,7 @@ public class Order implements Comparable<Order> {
     public Order(int id, Person customer, Map<Product, Quantity> map, StageContext stageContext) {
         this.id = id;
         this.customer = customer;
-        productMap = map;
+        productMap = ProductQuantityMap.copyOf(map);
         this.stageContext = stageContext;
         updateNumbers();
         this.creationDate = new CreationDate();
@@ -77,15 +79,19 @@ public class Order implements Comparable<Order> {
 
     /**
      * Contructs an {@code Order} object copied from another {@code order}.
+     * The copy shares the product lines and totals of {@code order} instead of copying them, and keeps its creation
+     * date and deadline.
      * @param order The other order to copy from
      */
     public Order(Order order) {
         this.id = order.getId();
-        this.productMap = new HashMap<>(order.getProductMap());
+        this.productMap = order.productMap;
         this.customer = order.getCustomer();
         this.stageContext = order.stageContext;
-        updateNumbers();
-        this.creationDate = new CreationDate();
+        this.totalCostCents = order.totalCostCents;
+        this.totalSalesCents = order.totalSalesCents;
+        this.creationDate = new CreationDate(order.getCreationDate());
+        this.deadline = order.deadline;
     }
 
     /**
@@ -106,7 +112,7 @@ public class Order implements Comparable<Order> {
 
     /**
      * Gets the Product Quantity Map.
-     * @return the Product Quantity Map.
+     * @return the unmodifiable Product Quantity Map.
      */
     public Map<Product, Quantity> getProductMap() {
         return this.productMap;
@@ -116,10 +122,10 @@ public class Order implements Comparable<Order> {
      * Adds a specified quantity of Product into the order.
      * @param newProduct Product to be added.
      * @param newQuantity Quantity of Product to be added.
+     * @throws ArithmeticException if the totals of the order would not fit in a {@code long}.
      */
     public void addProduct(Product newProduct, Quantity newQuantity) {
-        productMap.put(newProduct, newQuantity);
-        updateNumbers();
+        setLine(newProduct, newQuantity);
     }
 
     /**
@@ -147,11 +153,12 @@ public class Order implements Comparable<Order> {
      * @param currProduct Product of which quantity to be edited.
      * @param newQuantity New Quantity of the specified product.
      * @return Updated order.
+     * @throws ArithmeticException if the totals of the order would not fit in a {@code long}.
      */
     public Order changeQuantity(Product currProduct, Quantity newQuantity) {
-        Map<Product, Quantity> newMap = new HashMap<>(productMap);
-        newMap.put(currProduct, newQuantity);
-        return new Order(this.id, this.customer, newMap, this.stageContext);
+        Order updatedOrder = new Order(this);
+        updatedOrder.setLine(currProduct, newQuantity);
+        return updatedOrder;
     }
 
     /**
@@ -160,9 +167,9 @@ public class Order implements Comparable<Order> {
      * @return Updated order.
      */
     public Order deleteProduct(Product product) {
-        Map<Product, Quantity> newMap = new HashMap<>(productMap);
-        newMap.remove(product);
-        return new Order(this.id, this.customer, newMap, this.stageContext);
+        Order updatedOrder = new Order(this);
+        updatedOrder.setLine(product, null);
+        return updatedOrder;
     }
 
     /**
@@ -171,6 +178,7 @@ public class Order implements Comparable<Order> {
      * @param currProduct Product to be updated.
      * @param newQuantity Quantity to update to.
      * @return Updated order.
+     * @throws ArithmeticException if the totals of the order would not fit in a {@code long}.
      */
     public Order updateOrder(Product currProduct, Quantity newQuantity) {
         return newQuantity.getValue() == 0
@@ -182,7 +190,7 @@ public class Order implements Comparable<Order> {
      * Clears the product map.
      */
     public void clearProductMap() {
-        this.productMap.clear();
+        this.productMap = ProductQuantityMap.empty();
         updateNumbers();
     }
 
@@ -190,9 +198,10 @@ public class Order implements Comparable<Order> {
      * Sets the ProductMap of the order.
      *
      * @param productMap ProductMap to set to
+     * @throws ArithmeticException if the totals of the order do not fit in a {@code long}.
      */
     public void setProductMap(Map<Product, Quantity> productMap) {
-        this.productMap = productMap;
+        this.productMap = ProductQuantityMap.copyOf(productMap);
         updateNumbers();
     }
 
@@ -229,6 +238,10 @@ public class Order implements Comparable<Order> {
         return this.creationDate.toString();
     }
 
+    public CreationDate getCreationDateObject() {
+        return this.creationDate;
+    }
+
     public void setDeadline(Deadline deadline) {
         this.deadline = deadline;
     }
@@ -298,49 +311,71 @@ public class Order implements Comparable<Order> {
     }
 
     /**
-     * Updates the total sales of the order.
-     */
-    private void updateTotalSales() {
-        float newTotalSales = 0;
-        for (Map.Entry<Product, Quantity> entry : productMap.entrySet()) {
-            newTotalSales += Float.parseFloat(entry.getKey().getSales()) * entry.getValue().getValue();
+     * Sets the quantity of {@code product} in this order, or removes it if {@code quantity} is null, and updates
+     * the totals by the change of its line.
+     *
+     * @throws ArithmeticException if the totals of the order would not fit in a {@code long}, in which case the order
+     *     is left unchanged.
+     */
+    private void setLine(Product product, Quantity quantity) {
+        Map.Entry<Product, Quantity> oldLine = productMap.getLine(product);
+        long newTotalCostCents = totalCostCents;
+        long newTotalSalesCents = totalSalesCents;
+        if (oldLine != null) {
+            int oldQuantity = oldLine.getValue().getValue();
+            newTotalCostCents = Math.subtractExact(newTotalCostCents, lineCents(oldLine.getKey().getUnitCost(),
+                    oldQuantity));
+            newTotalSalesCents = Math.subtractExact(newTotalSalesCents, lineCents(oldLine.getKey().getUnitSales(),
+                    oldQuantity));
         }
-        this.totalSales = newTotalSales;
-    }
-
-    /**
-     * Updates the total cost of the order.
-     */
-    private void updateTotalCost() {
-        float newTotalCost = 0;
-        for (Map.Entry<Product, Quantity> entry : productMap.entrySet()) {
-            newTotalCost += Float.parseFloat(entry.getKey().getCost()) * entry.getValue().getValue();
+        Product storedProduct = oldLine == null ? product : oldLine.getKey();
+        if (quantity != null) {
+            newTotalCostCents = Math.addExact(newTotalCostCents, lineCents(storedProduct.getUnitCost(),
+                    quantity.getValue()));
+            newTotalSalesCents = Math.addExact(newTotalSalesCents, lineCents(storedProduct.getUnitSales(),
+                    quantity.getValue()));
         }
-        this.totalCost = newTotalCost;
+
+        productMap = quantity == null ? productMap.without(product) : productMap.with(product, quantity);
+        this.totalCostCents = newTotalCostCents;
+        this.totalSalesCents = newTotalSalesCents;
     }
 
     /**
-     * Updates the profit of the order.
+     * Returns the cents of {@code quantity} units at {@code unitPrice}.
+     *
+     * @throws ArithmeticException if the result does not fit in a {@code long}.
      */
-    private void updateProfit() {
-        this.profit = this.totalSales - this.totalCost;
+    private static long lineCents(Money unitPrice, int quantity) {
+        return Math.multiplyExact(unitPrice.getCents(), (long) quantity);
     }
 
     /**
-     * Updates the cost, sales and profit of the order.
+     * Recomputes the cost and sales of the order from all of its product lines.
+     * The unit prices of the products are already parsed, so this only multiplies and adds {@code long} cents.
+     *
+     * @throws ArithmeticException if the totals do not fit in a {@code long}, in which case they are left unchanged.
      */
     public void updateNumbers() {
-        updateTotalCost();
-        updateTotalSales();
-        updateProfit();
+        long newTotalCostCents = 0;
+        long newTotalSalesCents = 0;
+        for (Map.Entry<Product, Quantity> entry : productMap.entrySet()) {
+            Product product = entry.getKey();
+            int quantity = entry.getValue().getValue();
+            newTotalCostCents = Math.addExact(newTotalCostCents, lineCents(product.getUnitCost(), quantity));
+            newTotalSalesCents = Math.addExact(newTotalSalesCents, lineCents(product.getUnitSales(), quantity));
+        }
+        this.totalCostCents = newTotalCostCents;
+        this.totalSalesCents = newTotalSalesCents;
     }
+
     /**
      * Gets the total sales of the order.
      *
      * @return the sales of the order
      */
-    public float getTotalSales() {
-        return this.totalSales;
+    public Money getTotalSales() {
+        return Money.ofCents(this.totalSalesCents);
     }
 
     /**
@@ -348,41 +383,17 @@ public class Order implements Comparable<Order> {
      *
      * @return the cost of the order
      */
-    public float getTotalCost() {
-        return this.totalCost;
-    }
-
-    /**
-     * Sets the total cost of the order for JSON use only.
-     * @param cost cost of the order
-     */
-    public void setTotalCost(float cost) {
-        this.totalCost = cost;
-    }
-
-    /**
-     * Sets the total sales of the order for JSON use only.
-     * @param sales sales of the order
-     */
-    public void setTotalSales(float sales) {
-        this.totalSales = sales;
-    }
-
-    /**
-     * Sets the profit of the order for JSON use only.
-     * @param profit profit of the order
-     */
-    public void setProfit(float profit) {
-        this.profit = profit;
+    public Money getTotalCost() {
+        return Money.ofCents(this.totalCostCents);
     }
 
     /**
      * Gets the profit of the order.
      *
-     * @return the cost of the order
+     * @return the profit of the order
      */
-    public float getProfit() {
-        return this.profit;
+    public Money getProfit() {
+        return Money.ofCents(this.totalSalesCents - this.totalCostCents);
     }
 
     @Override
@@ -418,9 +429,9 @@ public class Order implements Comparable<Order> {
         }
         str.append(stageContext);
         str.append("\n");
-        str.append("Total Cost: " + this.totalCost + "\n");
-        str.append("Total Sales: " + this.totalSales + "\n");
-        str.append("Profit: " + this.profit + "\n");
+        str.append("Total Cost: " + getTotalCost() + "\n");
+        str.append("Total Sales: " + getTotalSales() + "\n");
+        str.append("Profit: " + getProfit() + "\n");
         return str.toString();
     }
 
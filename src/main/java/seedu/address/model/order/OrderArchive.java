@@ -0,0 +1,65 @@
+package seedu.address.model.order;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read access to the orders that were completed and archived, looked up by order id, customer and completion date.
+ */
+public interface OrderArchive {
+
+    /** An archive that holds no orders, used by models that are not backed by an archive in storage. */
+    OrderArchive EMPTY = new OrderArchive() {
+        @Override
+        public Optional<ArchivedOrder> findById(int id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<ArchivedOrder> findByCompletionDate(LocalDate from, LocalDate to) {
+            return List.of();
+        }
+
+        @Override
+        public List<ArchivedOrder> findByCustomer(String customerName, LocalDate from, LocalDate to) {
+            return List.of();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+    };
+
+    /**
+     * Returns the archived order with {@code id}. If several archived orders have that id, e.g. because the address
+     * book was cleared in between, the one archived last is returned.
+     *
+     * @throws IOException if there was any problem reading the archive.
+     */
+    Optional<ArchivedOrder> findById(int id) throws IOException;
+
+    /**
+     * Returns the orders completed from {@code from} to {@code to}, both inclusive, in order of completion.
+     *
+     * @throws IOException if there was any problem reading the archive.
+     */
+    List<ArchivedOrder> findByCompletionDate(LocalDate from, LocalDate to) throws IOException;
+
+    /**
+     * Returns the orders of the customer named {@code customerName}, ignoring case, completed from {@code from} to
+     * {@code to}, both inclusive, in order of completion.
+     *
+     * @throws IOException if there was any problem reading the archive.
+     */
+    List<ArchivedOrder> findByCustomer(String customerName, LocalDate from, LocalDate to) throws IOException;
+
+    /**
+     * Returns the number of archived orders.
+     *
+     * @throws IOException if there was any problem reading the archive.
+     */
+    int size() throws IOException;
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indexes the ids of a set of orders by their deadlines, so the orders due in a range of dates are found in
+ * O(log n + k) time for k matching orders, instead of by checking every order. Orders without a deadline are not
+ * indexed.
+ *
+ * Orders can be changed in place after they are added, so the deadline of each order is recorded when it is added,
+ * and exactly that deadline is unindexed when it is removed.
+ */
+public class OrderDeadlines {
+
+    private final NavigableMap<LocalDate, Set<Integer>> orderIdsByDeadline = new TreeMap<>();
+
+    /**
+     * The hashmap with mappings from OrderIDs to the indexed deadlines of their Orders.
+     */
+    private final Map<Integer, LocalDate> deadlinesById = new HashMap<>();
+
+    /**
+     * Indexes the order with id {@code orderId} by its deadline, if it has one.
+     * If an order with that id was already added, it is removed first.
+     */
+    public void add(int orderId, Order order) {
+        requireNonNull(order);
+        remove(orderId);
+        Deadline deadline = order.getDeadlineObject();
+        if (deadline == null) {
+            return;
+        }
+        deadlinesById.put(orderId, deadline.getDeadline());
+        orderIdsByDeadline.computeIfAbsent(deadline.getDeadline(), date -> new TreeSet<>()).add(orderId);
+    }
+
+    /**
+     * Removes the order with id {@code orderId} from the index, if it was added.
+     */
+    public void remove(int orderId) {
+        LocalDate deadline = deadlinesById.remove(orderId);
+        if (deadline == null) {
+            return;
+        }
+        Set<Integer> orderIds = orderIdsByDeadline.get(deadline);
+        orderIds.remove(orderId);
+        if (orderIds.isEmpty()) {
+            orderIdsByDeadline.remove(deadline);
+        }
+    }
+
+    /**
+     * Removes all orders from the index.
+     */
+    public void clear() {
+        orderIdsByDeadline.clear();
+        deadlinesById.clear();
+    }
+
+    /**
+     * Returns the ids of the orders due from {@code from} to {@code to} inclusive, earliest deadline first, and in
+     * ascending order of id for orders with the same deadline.
+     */
+    public List<Integer> getOrderIdsDueBetween(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        List<Integer> orderIds = new ArrayList<>();
+        if (!from.isAfter(to)) {
+            orderIdsByDeadline.subMap(from, true, to, true).values().forEach(orderIds::addAll);
+        }
+        return orderIds;
+    }
+
+    /**
+     * Returns true if the order with id {@code orderId} has a deadline on or before {@code date}.
+     */
+    public boolean isDueBy(int orderId, LocalDate date) {
+        requireNonNull(date);
+        LocalDate deadline = deadlinesById.get(orderId);
+        return deadline != null && !deadline.isAfter(date);
+    }
+
+    /**
+     * Returns the number of orders with a deadline.
+     */
+    public int size() {
+        return deadlinesById.size();
+    }
+}
@@ -3,17 +3,30 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.exceptions.OrderNotFoundException;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
  * Represents the list of active orders in the addressbook.
+ * Each order is given a sequence number when it is added to the list, so the sequence numbers of the orders in the
+ * list are in ascending order. The position of an order is found by binary searching for its sequence number, instead
+ * of by scanning the list and comparing orders. The ids of the orders of each customer are also tracked, so that
+ * updating a customer's details only touches that customer's orders. Running totals of the orders in the list are
+ * kept in an {@link OrderStatistics}, the ids of the orders are indexed by deadline in an {@link OrderDeadlines}, and
+ * the orders at each stage are kept in an {@link OrderStages}, all of which are updated by every change to the list.
  */
 public class OrderList implements Iterable<Order> {
     /**
@@ -24,10 +37,26 @@ public class OrderList implements Iterable<Order> {
      * The hashmap with mappings from Orders to their OrderID
      */
     private HashMap<Integer, Order> orderList;
+    /**
+     * The hashmap with mappings from OrderIDs to the sequence numbers of their Orders.
+     */
+    private final HashMap<Integer, Integer> sequenceNumbersById = new HashMap<>();
+    /**
+     * The sequence numbers of the Orders in the internal list, in the same order.
+     */
+    private final ArrayList<Integer> sequenceNumbers = new ArrayList<>();
+    private int nextSequenceNumber;
+    /**
+     * The hashmap with mappings from the names of customers to the OrderIDs of their Orders.
+     */
+    private final HashMap<Name, Set<Integer>> orderIdsByCustomer = new HashMap<>();
+    private final OrderStatistics statistics = new OrderStatistics();
+    private final OrderDeadlines deadlines = new OrderDeadlines();
+    private final OrderStages stages = new OrderStages();
     /**
      * The Lists which stores the Order Objects.
      */
-    private final ObservableList<Order> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Order> internalList = new BatchObservableList<>();
     private final ObservableList<Order> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -40,11 +69,13 @@ public class OrderList implements Iterable<Order> {
     }
 
     /**
-     * Returns true if the list contains an equivalent person as the given argument.
+     * Returns true if the list contains an equivalent order as the given argument.
+     * Equivalent orders have the same id, so only the order with the id of {@code toCheck} is compared.
      */
     public boolean contains(Order toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrder);
+        Order order = orderList.get(toCheck.getId());
+        return order != null && toCheck.isSameOrder(order);
     }
 
     /**
@@ -71,10 +102,24 @@ public class OrderList implements Iterable<Order> {
         requireAllNonNull(toAdd);
         toAdd.setID(orderIdCounter);
         orderList.put(toAdd.getId(), toAdd);
-        internalList.add(toAdd);
+        appendToInternalList(toAdd.getId(), toAdd);
         orderIdCounter++;
     }
 
+    /**
+     * Adds the orders in {@code toAdd} to the end of the order list in one change, giving them consecutive ids.
+     */
+    public void addOrders(List<Order> toAdd) {
+        requireAllNonNull(toAdd);
+        for (Order order : toAdd) {
+            order.setID(orderIdCounter);
+            orderList.put(order.getId(), order);
+            indexAppendedOrder(order.getId(), order);
+            orderIdCounter++;
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Adds an {@code Order} to the {@code OrderList} of this addressbook with a predefined ID (for storage purposes).
      * @param toAdd Order Object to be added into the Order List.
@@ -83,27 +128,33 @@ public class OrderList implements Iterable<Order> {
     public void addOrderWithID(Order toAdd, int iD) {
         requireNonNull(toAdd);
         orderList.put(iD, toAdd);
-        internalList.add(toAdd);
+        appendToInternalList(iD, toAdd);
     }
 
     /**
      * Replaces the order {@code target} in the list with {@code editedOrder}.
-     * {@code target} must exist in the list.
+     * An order with the id of {@code target} must exist in the list.
      */
     public void setOrder(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target.getId());
         if (index == -1) {
             throw new OrderNotFoundException();
         }
 
-        internalList.set(index, editedOrder);
+        statistics.add(target.getId(), editedOrder);
+        deadlines.add(target.getId(), editedOrder);
+        stages.add(target.getId(), sequenceNumbersById.get(target.getId()), editedOrder);
+        unindexCustomer(target.getId(), internalList.set(index, editedOrder));
+        indexCustomer(target.getId(), editedOrder);
         orderList.put(target.getId(), editedOrder);
     }
 
     /**
      * Deletes an order from the order list.
+     * The order is found by its id and its position by its sequence number, but the orders after it are still
+     * shifted down in the internal list.
      * @param toDelete The order id of the order that is to be deleted.
      */
     public void deleteOrder(int toDelete) {
@@ -116,7 +167,16 @@ public class OrderList implements Iterable<Order> {
             throw new OrderNotFoundException();
         }
         orderList.remove(toDelete);
-        internalList.remove(oldOrder);
+        unindexCustomer(toDelete, oldOrder);
+        statistics.remove(toDelete);
+        deadlines.remove(toDelete);
+        stages.remove(toDelete);
+        int index = positionOf(toDelete);
+        sequenceNumbersById.remove(toDelete);
+        if (index != -1) {
+            internalList.remove(index);
+            sequenceNumbers.remove(index);
+        }
     }
 
     /**
@@ -133,18 +193,42 @@ public class OrderList implements Iterable<Order> {
         if (oldOrder == null) {
             throw new OrderNotFoundException();
         }
-        int oldOrderIndex = internalList.indexOf(oldOrder);
+        int oldOrderIndex = positionOf(orderId);
         toEdit.setID(oldOrder.getId());
-        internalList.set(oldOrderIndex, toEdit);
+        statistics.add(orderId, toEdit);
+        deadlines.add(orderId, toEdit);
+        stages.add(orderId, sequenceNumbersById.get(orderId), toEdit);
+        unindexCustomer(orderId, internalList.set(oldOrderIndex, toEdit));
+        indexCustomer(orderId, toEdit);
         orderList.put(orderId, toEdit);
     }
 
+    /**
+     * Sets the customer of the order with id {@code orderId} to {@code customer}.
+     * @param orderId The order id of the order whose customer is to be set.
+     * @param customer The customer of the order.
+     */
+    public void setCustomer(int orderId, Person customer) {
+        requireNonNull(customer);
+        Order order = getOrder(orderId);
+        unindexCustomer(orderId, order);
+        order.setCustomer(customer);
+        indexCustomer(orderId, order);
+        statistics.add(orderId, order);
+    }
+
     /**
      * For testing purposes.
      */
     public void clearOrders() {
+        statistics.clear();
+        deadlines.clear();
+        stages.clear();
         internalList.clear();
         orderList.clear();
+        sequenceNumbersById.clear();
+        sequenceNumbers.clear();
+        orderIdsByCustomer.clear();
     }
 
     /**
@@ -190,18 +274,101 @@ public class OrderList implements Iterable<Order> {
 
     public void setOrders(List<Order> orders) {
         requireAllNonNull(orders);
+        orderList.clear();
         for (Order d: orders) {
             orderList.put(d.getId(), d);
         }
+        resetStatistics(orders);
         internalList.setAll(orders);
+        updatePositions();
     }
 
     public void setOrders(OrderList otherOrderList) {
         List<Order> list = otherOrderList.internalList;
+        orderList.clear();
         for (Order d: list) {
             orderList.put(d.getId(), d);
         }
+        resetStatistics(list);
         internalList.setAll(list);
+        updatePositions();
+    }
+
+    private void updatePositions() {
+        sequenceNumbersById.clear();
+        sequenceNumbers.clear();
+        orderIdsByCustomer.clear();
+        nextSequenceNumber = 0;
+        for (Order order : internalList) {
+            indexCustomer(order.getId(), order);
+            sequenceNumbersById.put(order.getId(), nextSequenceNumber);
+            sequenceNumbers.add(nextSequenceNumber);
+            nextSequenceNumber++;
+        }
+    }
+
+    /**
+     * Replaces the orders counted in the statistics, indexed by deadline and kept by stage with {@code orders}, before
+     * they replace the orders in the internal list, so that listeners of the internal list see the new statistics,
+     * deadlines and stages. The orders are numbered from 0 by stage, as they are by {@link #updatePositions()}.
+     */
+    private void resetStatistics(List<Order> orders) {
+        statistics.clear();
+        deadlines.clear();
+        for (Order order : orders) {
+            statistics.add(order.getId(), order);
+            deadlines.add(order.getId(), order);
+        }
+        stages.setAll(orders);
+    }
+
+    private void appendToInternalList(int orderId, Order order) {
+        indexAppendedOrder(orderId, order);
+        internalList.add(order);
+    }
+
+    /**
+     * Indexes {@code order}, which is about to be appended to the internal list, and counts it in the statistics.
+     */
+    private void indexAppendedOrder(int orderId, Order order) {
+        sequenceNumbersById.put(orderId, nextSequenceNumber);
+        sequenceNumbers.add(nextSequenceNumber);
+        stages.add(orderId, nextSequenceNumber, order);
+        nextSequenceNumber++;
+        indexCustomer(orderId, order);
+        statistics.add(orderId, order);
+        deadlines.add(orderId, order);
+    }
+
+    private void indexCustomer(int orderId, Order order) {
+        if (order.getCustomer() != null) {
+            orderIdsByCustomer.computeIfAbsent(order.getCustomer().getName(), name -> new HashSet<>()).add(orderId);
+        }
+    }
+
+    private void unindexCustomer(int orderId, Order order) {
+        if (order.getCustomer() == null) {
+            return;
+        }
+        Set<Integer> orderIds = orderIdsByCustomer.get(order.getCustomer().getName());
+        if (orderIds != null) {
+            orderIds.remove(orderId);
+            if (orderIds.isEmpty()) {
+                orderIdsByCustomer.remove(order.getCustomer().getName());
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the order with id {@code orderId} in the internal list, or -1 if there is none.
+     */
+    private int positionOf(int orderId) {
+        Integer sequenceNumber = sequenceNumbersById.get(orderId);
+        if (sequenceNumber == null) {
+            return -1;
+        }
+        int index = Collections.binarySearch(sequenceNumbers, sequenceNumber);
+        return index < 0 ? -1 : index;
     }
 
     /**
@@ -213,6 +380,27 @@ public class OrderList implements Iterable<Order> {
         return orderList.containsKey(orderId);
     }
 
+    /**
+     * Returns the running totals of the orders in this list.
+     */
+    public OrderStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the index of the orders in this list by deadline.
+     */
+    public OrderDeadlines getDeadlines() {
+        return deadlines;
+    }
+
+    /**
+     * Returns the orders in this list at each stage.
+     */
+    public OrderStages getStages() {
+        return stages;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      * @return the backing list as an unmodifiable {@code ObservableList}.
@@ -228,12 +416,23 @@ public class OrderList implements Iterable<Order> {
      * @param newCustomer customer after the change.
      */
     public void refreshCustomer(Person oldCustomer, Person newCustomer) {
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).getCustomer().isSamePerson(oldCustomer)) {
-                internalList.get(i).setCustomer(newCustomer);
-                internalList.set(i, new Order(internalList.get(i)));
-            }
+        Set<Integer> orderIds = orderIdsByCustomer.remove(oldCustomer.getName());
+        if (orderIds == null) {
+            return;
+        }
+        SortedMap<Integer, Order> refreshedOrders = new TreeMap<>();
+        for (int orderId : orderIds) {
+            int index = positionOf(orderId);
+            Order order = internalList.get(index);
+            order.setCustomer(newCustomer);
+            Order refreshedOrder = new Order(order);
+            statistics.add(orderId, refreshedOrder);
+            stages.add(orderId, sequenceNumbersById.get(orderId), refreshedOrder);
+            refreshedOrders.put(index, refreshedOrder);
+            orderList.put(orderId, refreshedOrder);
         }
+        orderIdsByCustomer.computeIfAbsent(newCustomer.getName(), name -> new HashSet<>()).addAll(orderIds);
+        internalList.setAll(refreshedOrders);
     }
 
     @Override
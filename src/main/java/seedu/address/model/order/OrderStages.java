@@ -0,0 +1,157 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.order.stage.StageState;
+import seedu.address.model.order.stage.UnderPreparationState;
+
+/**
+ * Keeps a list of the orders at each stage, so that the orders at a stage are viewed without filtering every order.
+ * The list of each stage is created once and kept up to date by each order added or removed, so a view of a stage
+ * can be switched to in constant time, and is only notified of changes to the orders at its stage.
+ *
+ * Each order is added with a sequence number, and the orders at each stage are kept in ascending order of sequence
+ * number, so that they are in the same order as in the list they are taken from. Orders can be changed in place after
+ * they are added, so the stage of each order is recorded when it is added, and the order is removed from exactly that
+ * stage when it is removed.
+ */
+public class OrderStages {
+
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+
+    /**
+     * The hashmap with mappings from OrderIDs to the stages their Orders were added at.
+     */
+    private final Map<Integer, Stage> stagesById = new HashMap<>();
+
+    /**
+     * Constructs an {@code OrderStages} of no orders.
+     */
+    public OrderStages() {
+        StageState stage = new UnderPreparationState();
+        while (!stages.containsKey(stage.toString())) {
+            stages.put(stage.toString(), new Stage());
+            stage = stage.getNextStage();
+        }
+    }
+
+    /**
+     * Adds the order with id {@code orderId} and sequence number {@code sequenceNumber} to the list of its stage.
+     * If an order with that id was already added at the same stage, it is replaced in place and keeps its sequence
+     * number, otherwise it is removed from its previous stage first.
+     */
+    public void add(int orderId, int sequenceNumber, Order order) {
+        requireNonNull(order);
+        Stage stage = order.getStageContext() == null ? null : stages.get(order.getStageContext().toString());
+        Stage previousStage = stagesById.get(orderId);
+        if (stage != null && stage == previousStage) {
+            stage.set(orderId, order);
+            return;
+        }
+        remove(orderId);
+        if (stage != null) {
+            stagesById.put(orderId, stage);
+            stage.add(orderId, sequenceNumber, order);
+        }
+    }
+
+    /**
+     * Removes the order with id {@code orderId} from the list of its stage, if it was added.
+     */
+    public void remove(int orderId) {
+        Stage stage = stagesById.remove(orderId);
+        if (stage != null) {
+            stage.remove(orderId);
+        }
+    }
+
+    /**
+     * Replaces all orders with {@code orders}, numbered in the order they are in, from 0.
+     * The list of each stage is notified of the change once.
+     */
+    public void setAll(List<Order> orders) {
+        requireNonNull(orders);
+        stagesById.clear();
+        Map<Stage, List<Order>> ordersByStage = new HashMap<>();
+        for (Stage stage : stages.values()) {
+            ordersByStage.put(stage, new ArrayList<>());
+            stage.sequenceNumbers.clear();
+            stage.sequenceNumbersById.clear();
+        }
+        for (int sequenceNumber = 0; sequenceNumber < orders.size(); sequenceNumber++) {
+            Order order = orders.get(sequenceNumber);
+            Stage stage = order.getStageContext() == null ? null : stages.get(order.getStageContext().toString());
+            if (stage == null) {
+                continue;
+            }
+            stagesById.put(order.getId(), stage);
+            stage.sequenceNumbers.add(sequenceNumber);
+            stage.sequenceNumbersById.put(order.getId(), sequenceNumber);
+            ordersByStage.get(stage).add(order);
+        }
+        ordersByStage.forEach((stage, stageOrders) -> stage.orders.setAll(stageOrders));
+    }
+
+    /**
+     * Removes all orders.
+     */
+    public void clear() {
+        setAll(List.of());
+    }
+
+    /**
+     * Returns the orders at {@code stage}, in the order they were numbered, as an unmodifiable
+     * {@code ObservableList} that is kept up to date. The same list is returned for every call with the same stage.
+     */
+    public ObservableList<Order> getOrders(StageState stage) {
+        requireNonNull(stage);
+        Stage orders = stages.get(stage.toString());
+        requireNonNull(orders);
+        return orders.unmodifiableOrders;
+    }
+
+    /**
+     * The orders at one stage, with their sequence numbers in the same order.
+     */
+    private static class Stage {
+        private final ObservableList<Order> orders = FXCollections.observableArrayList();
+        private final ObservableList<Order> unmodifiableOrders = FXCollections.unmodifiableObservableList(orders);
+        private final ArrayList<Integer> sequenceNumbers = new ArrayList<>();
+        /**
+         * The hashmap with mappings from OrderIDs to the sequence numbers of the Orders at this stage.
+         */
+        private final Map<Integer, Integer> sequenceNumbersById = new HashMap<>();
+
+        void add(int orderId, int sequenceNumber, Order order) {
+            int index = -Collections.binarySearch(sequenceNumbers, sequenceNumber) - 1;
+            assert index >= 0 : "Sequence number " + sequenceNumber + " is already at this stage";
+            sequenceNumbers.add(index, sequenceNumber);
+            sequenceNumbersById.put(orderId, sequenceNumber);
+            orders.add(index, order);
+        }
+
+        void set(int orderId, Order order) {
+            int index = Collections.binarySearch(sequenceNumbers, sequenceNumbersById.get(orderId));
+            orders.set(index, order);
+        }
+
+        void remove(int orderId) {
+            Integer sequenceNumber = sequenceNumbersById.remove(orderId);
+            if (sequenceNumber == null) {
+                return;
+            }
+            int index = Collections.binarySearch(sequenceNumbers, sequenceNumber);
+            sequenceNumbers.remove(index);
+            orders.remove(index);
+        }
+    }
+}
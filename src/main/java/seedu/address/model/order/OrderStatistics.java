@@ -0,0 +1,248 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.address.model.order.stage.StageState;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.model.person.Name;
+
+/**
+ * Keeps running totals of the cost, sales and profit of a set of orders, overall and by stage, product, customer
+ * and creation date. The totals are updated by each order added or removed, so reading them never iterates over
+ * the orders.
+ *
+ * Orders can be changed in place after they are added, so the contribution of each order is recorded when it is
+ * added, and exactly that contribution is taken away when it is removed.
+ */
+public class OrderStatistics {
+
+    private final Totals overall = new Totals();
+    private final Map<String, Totals> totalsByStage = new LinkedHashMap<>();
+    private final Map<String, Totals> totalsByProduct = new HashMap<>();
+    private final Map<Name, Totals> totalsByCustomer = new HashMap<>();
+    private final SortedMap<LocalDate, Totals> totalsByCreationDate = new TreeMap<>();
+
+    /**
+     * The hashmap with mappings from OrderIDs to the contributions of their Orders.
+     */
+    private final Map<Integer, Contribution> contributions = new HashMap<>();
+
+    /**
+     * Constructs an {@code OrderStatistics} of no orders.
+     */
+    public OrderStatistics() {
+        addStages();
+    }
+
+    /**
+     * Adds the order with id {@code orderId} to the totals.
+     * If an order with that id was already added, it is removed first.
+     */
+    public void add(int orderId, Order order) {
+        requireNonNull(order);
+        remove(orderId);
+        Contribution contribution = new Contribution(order);
+        contributions.put(orderId, contribution);
+        update(contribution, 1);
+    }
+
+    /**
+     * Removes the order with id {@code orderId} from the totals, if it was added.
+     */
+    public void remove(int orderId) {
+        Contribution contribution = contributions.remove(orderId);
+        if (contribution != null) {
+            update(contribution, -1);
+        }
+    }
+
+    /**
+     * Replaces the totals with those of {@code newData}.
+     */
+    public void resetData(OrderStatistics newData) {
+        requireNonNull(newData);
+        clear();
+        for (Map.Entry<Integer, Contribution> contribution : newData.contributions.entrySet()) {
+            contributions.put(contribution.getKey(), contribution.getValue());
+            update(contribution.getValue(), 1);
+        }
+    }
+
+    /**
+     * Removes all orders from the totals.
+     */
+    public void clear() {
+        contributions.clear();
+        overall.clear();
+        totalsByStage.clear();
+        totalsByProduct.clear();
+        totalsByCustomer.clear();
+        totalsByCreationDate.clear();
+        addStages();
+    }
+
+    public Totals getOverall() {
+        return overall;
+    }
+
+    /**
+     * Returns the totals of each stage, in the order that orders go through the stages.
+     */
+    public Map<String, Totals> getTotalsByStage() {
+        return Collections.unmodifiableMap(totalsByStage);
+    }
+
+    /**
+     * Returns the totals of the order lines of each product, keyed by product name.
+     */
+    public Map<String, Totals> getTotalsByProduct() {
+        return Collections.unmodifiableMap(totalsByProduct);
+    }
+
+    /**
+     * Returns the totals of the orders of each customer.
+     */
+    public Map<Name, Totals> getTotalsByCustomer() {
+        return Collections.unmodifiableMap(totalsByCustomer);
+    }
+
+    /**
+     * Returns the totals of the orders created on each date, earliest date first.
+     */
+    public SortedMap<LocalDate, Totals> getTotalsByCreationDate() {
+        return Collections.unmodifiableSortedMap(totalsByCreationDate);
+    }
+
+    private void addStages() {
+        StageState stage = new UnderPreparationState();
+        while (!totalsByStage.containsKey(stage.toString())) {
+            totalsByStage.put(stage.toString(), new Totals());
+            stage = stage.getNextStage();
+        }
+    }
+
+    private void update(Contribution contribution, int sign) {
+        overall.add(sign, contribution.quantity, contribution.costCents, contribution.salesCents);
+        if (contribution.stage != null) {
+            totalsByStage.computeIfAbsent(contribution.stage, stage -> new Totals())
+                    .add(sign, contribution.quantity, contribution.costCents, contribution.salesCents);
+        }
+        if (contribution.customer != null) {
+            updateBucket(totalsByCustomer, contribution.customer, sign, contribution.quantity,
+                    contribution.costCents, contribution.salesCents);
+        }
+        updateBucket(totalsByCreationDate, contribution.creationDate, sign, contribution.quantity,
+                contribution.costCents, contribution.salesCents);
+        for (int i = 0; i < contribution.productNames.length; i++) {
+            updateBucket(totalsByProduct, contribution.productNames[i], sign, contribution.lineQuantities[i],
+                    contribution.lineCostCents[i], contribution.lineSalesCents[i]);
+        }
+    }
+
+    /**
+     * Updates the totals of {@code key} in {@code buckets}, removing them once they no longer count any order.
+     */
+    private static <K> void updateBucket(Map<K, Totals> buckets, K key, int sign, long quantity, long costCents,
+                                         long salesCents) {
+        Totals totals = buckets.computeIfAbsent(key, unused -> new Totals());
+        totals.add(sign, quantity, costCents, salesCents);
+        if (totals.getOrderCount() == 0) {
+            buckets.remove(key);
+        }
+    }
+
+    /**
+     * The number of orders, the quantity of products in them, and their total cost and sales.
+     */
+    public static final class Totals {
+        private int orderCount;
+        private long quantity;
+        private long costCents;
+        private long salesCents;
+
+        private void add(int sign, long quantity, long costCents, long salesCents) {
+            this.orderCount += sign;
+            this.quantity += sign * quantity;
+            this.costCents += sign * costCents;
+            this.salesCents += sign * salesCents;
+        }
+
+        private void clear() {
+            orderCount = 0;
+            quantity = 0;
+            costCents = 0;
+            salesCents = 0;
+        }
+
+        public int getOrderCount() {
+            return orderCount;
+        }
+
+        public long getQuantity() {
+            return quantity;
+        }
+
+        public Money getTotalCost() {
+            return Money.ofCents(costCents);
+        }
+
+        public Money getTotalSales() {
+            return Money.ofCents(salesCents);
+        }
+
+        public Money getProfit() {
+            return Money.ofCents(salesCents - costCents);
+        }
+    }
+
+    /**
+     * What an order added to the totals, as it was when it was added.
+     */
+    private static final class Contribution {
+        private final String stage;
+        private final Name customer;
+        private final LocalDate creationDate;
+        private final String[] productNames;
+        private final int[] lineQuantities;
+        private final long[] lineCostCents;
+        private final long[] lineSalesCents;
+        private final long quantity;
+        private final long costCents;
+        private final long salesCents;
+
+        private Contribution(Order order) {
+            this.stage = order.getStageContext() == null ? null : order.getStageContext().toString();
+            this.customer = order.getCustomer() == null ? null : order.getCustomer().getName();
+            this.creationDate = order.getCreationDateObject().getDate();
+            Map<Product, Quantity> productMap = order.getProductMap();
+            int lineCount = productMap.size();
+            this.productNames = new String[lineCount];
+            this.lineQuantities = new int[lineCount];
+            this.lineCostCents = new long[lineCount];
+            this.lineSalesCents = new long[lineCount];
+            long totalQuantity = 0;
+            int i = 0;
+            for (Map.Entry<Product, Quantity> line : productMap.entrySet()) {
+                Product product = line.getKey();
+                int lineQuantity = line.getValue().getValue();
+                productNames[i] = product.getName();
+                lineQuantities[i] = lineQuantity;
+                lineCostCents[i] = product.getUnitCost().getCents() * lineQuantity;
+                lineSalesCents[i] = product.getUnitSales().getCents() * lineQuantity;
+                totalQuantity += lineQuantity;
+                i++;
+            }
+            this.quantity = totalQuantity;
+            this.costCents = order.getTotalCost().getCents();
+            this.salesCents = order.getTotalSales().getCents();
+        }
+    }
+}
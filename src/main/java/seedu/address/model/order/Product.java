@@ -10,7 +10,8 @@ public class Product {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Product names should only contain alphanumeric characters and spaces, and it should not be blank. "
-                    + "Prices should be at least 1 digit long.";
+                    + "Prices should be at least 1 digit long, with at most " + Money.MAX_WHOLE_UNIT_DIGITS
+                    + " digits before the decimal point.";
 
     /*
      * The first character of the product name must not be a whitespace,
@@ -18,11 +19,15 @@ public class Product {
      */
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
-    public static final String PRICE_VALIDATION_REGEX = "[+-]?([0-9]*[.])?[0-9]+";
+    public static final String PRICE_VALIDATION_REGEX = Money.VALIDATION_REGEX;
     private String name;
     private String sales;
     private String cost;
 
+    /** {@code sales} and {@code cost} parsed once, so that order totals need not parse them again. */
+    private Money unitSales;
+    private Money unitCost;
+
     /**
      * Constructs a {@code Product} with name, cost and sales.
      *
@@ -38,6 +43,8 @@ public class Product {
         this.name = name;
         this.cost = cost;
         this.sales = sales;
+        this.unitCost = Money.parse(cost);
+        this.unitSales = Money.parse(sales);
     }
 
     /**
@@ -51,6 +58,8 @@ public class Product {
         this.name = name;
         this.cost = "0";
         this.sales = "0";
+        this.unitCost = Money.ZERO;
+        this.unitSales = Money.ZERO;
     }
 
     /**
@@ -61,6 +70,8 @@ public class Product {
         this.name = product.getName();
         this.cost = product.getCost();
         this.sales = product.getSales();
+        this.unitCost = product.getUnitCost();
+        this.unitSales = product.getUnitSales();
     }
 
     @Override
@@ -111,13 +122,30 @@ public class Product {
         return this.cost;
     }
 
+    /**
+     * Gets the sales of one unit of the {@code Product}.
+     * @return the sales of the {@code Product} as {@code Money}.
+     */
+    public Money getUnitSales() {
+        return this.unitSales;
+    }
+
+    /**
+     * Gets the cost of one unit of the {@code Product}.
+     * @return the cost of the {@code Product} as {@code Money}.
+     */
+    public Money getUnitCost() {
+        return this.unitCost;
+    }
+
     /**
      * Sets the sales of the {@code Product}.
      * @param newSales new sales of the {@code Product}.
      */
     public void setSales(String newSales) {
-        checkArgument(isValidPrice(sales), MESSAGE_CONSTRAINTS);
+        checkArgument(isValidPrice(newSales), MESSAGE_CONSTRAINTS);
         this.sales = newSales;
+        this.unitSales = Money.parse(newSales);
     }
 
     /**
@@ -125,8 +153,9 @@ public class Product {
      * @param newCost new sales of the {@code Product}.
      */
     public void setCost(String newCost) {
-        checkArgument(isValidPrice(cost), MESSAGE_CONSTRAINTS);
+        checkArgument(isValidPrice(newCost), MESSAGE_CONSTRAINTS);
         this.cost = newCost;
+        this.unitCost = Money.parse(newCost);
     }
 
     /**
@@ -145,8 +174,11 @@ public class Product {
         return test.matches(NAME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if a given string is a valid {@code Product} price.
+     */
     public static boolean isValidPrice(String test) {
-        return test.matches(PRICE_VALIDATION_REGEX);
+        return Money.isValidMoney(test);
     }
 
     /**
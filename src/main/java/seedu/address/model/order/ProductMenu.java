@@ -3,8 +3,10 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,11 +16,15 @@ import seedu.address.model.exceptions.ProductNotFoundException;
 
 /**
  * Represents the menu of what products are being sold.
+ * The names of the products on the menu are kept in a set, since a product's identity is its name, so that checking
+ * for duplicates does not scan the menu. Products on the menu must therefore not be renamed in place; replace them
+ * with {@link #editProduct(Product, Product)} instead.
  */
 public class ProductMenu implements Iterable<Product> {
     private final ObservableList<Product> internalList = FXCollections.observableArrayList();
     private final ObservableList<Product> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<String> names = new HashSet<>();
 
     /**
      * Adds a product to the product menu.
@@ -30,6 +36,20 @@ public class ProductMenu implements Iterable<Product> {
             throw new DuplicateProductException();
         }
         internalList.add(toAdd);
+        names.add(toAdd.getName());
+    }
+
+    /**
+     * Adds the products in {@code toAdd} to the end of the product menu in one change.
+     * None of the products may already be on the menu, and {@code toAdd} must not contain duplicate products.
+     */
+    public void addProducts(List<Product> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!productsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateProductException();
+        }
+        internalList.addAll(toAdd);
+        toAdd.forEach(product -> names.add(product.getName()));
     }
 
     /**
@@ -38,9 +58,11 @@ public class ProductMenu implements Iterable<Product> {
      */
     public void deleteProduct(Product toDelete) {
         requireNonNull(toDelete);
-        if (!internalList.remove(toDelete)) {
+        int index = internalList.indexOf(toDelete);
+        if (index == -1) {
             throw new ProductNotFoundException();
         }
+        names.remove(internalList.remove(index).getName());
     }
 
     /**
@@ -77,7 +99,9 @@ public class ProductMenu implements Iterable<Product> {
             throw new DuplicateProductException();
         }
 
-        internalList.set(index, editedProduct);
+        Product replaced = internalList.set(index, editedProduct);
+        names.remove(replaced.getName());
+        names.add(editedProduct.getName());
     }
 
     /**
@@ -103,7 +127,7 @@ public class ProductMenu implements Iterable<Product> {
      */
     public boolean contains(Product toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameProduct);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -122,11 +146,10 @@ public class ProductMenu implements Iterable<Product> {
      * Returns true if {@code products} contains only unique products.
      */
     private boolean productsAreUnique(List<Product> products) {
-        for (int i = 0; i < products.size() - 1; i++) {
-            for (int j = i + 1; j < products.size(); j++) {
-                if (products.get(i).isSameProduct(products.get(j))) {
-                    return false;
-                }
+        Set<String> seenNames = new HashSet<>();
+        for (Product product : products) {
+            if (!seenNames.add(product.getName())) {
+                return false;
             }
         }
         return true;
@@ -163,5 +186,7 @@ public class ProductMenu implements Iterable<Product> {
         }
 
         internalList.setAll(products);
+        names.clear();
+        products.forEach(product -> names.add(product.getName()));
     }
 }
@@ -0,0 +1,217 @@
+package seedu.address.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An unmodifiable map of the products in an {@code Order} to their quantities.
+ * {@link #with(Product, Quantity)} and {@link #without(Product)} return a new map that shares its contents with
+ * this one, so that changing one product line of an order of any size takes constant time and allocation.
+ *
+ * Only one version in a family of maps derived from each other holds the backing {@code HashMap}. Every other
+ * version holds the one product line that differs between it and the version it was derived from, or was last
+ * read after. Reading a version that does not hold the backing map first moves the backing map to it, reverting
+ * the differing lines along the way. Reading the latest version of an order is therefore as cheap as reading a
+ * {@code HashMap}, and reading an older version costs one step per line changed since.
+ *
+ * As versions of a family share state, all of them are guarded by the same lock.
+ */
+final class ProductQuantityMap extends AbstractMap<Product, Quantity> {
+
+    private final Object lock;
+
+    // The fields below are guarded by lock. Either lines is set, or the other three are.
+    private HashMap<Product, Map.Entry<Product, Quantity>> lines;
+    private ProductQuantityMap next;
+    private Product changedProduct;
+    /** The line of {@code changedProduct} in this version, or null if it is not in this version. */
+    private Map.Entry<Product, Quantity> changedLine;
+
+    private ProductQuantityMap(Object lock, HashMap<Product, Map.Entry<Product, Quantity>> lines) {
+        this.lock = lock;
+        this.lines = lines;
+    }
+
+    /**
+     * Returns a new empty map.
+     */
+    static ProductQuantityMap empty() {
+        return new ProductQuantityMap(new Object(), new HashMap<>());
+    }
+
+    /**
+     * Returns a map of the same products and quantities as {@code map}.
+     */
+    static ProductQuantityMap copyOf(Map<Product, Quantity> map) {
+        requireNonNull(map);
+        if (map instanceof ProductQuantityMap) {
+            return (ProductQuantityMap) map;
+        }
+        HashMap<Product, Map.Entry<Product, Quantity>> lines = new HashMap<>();
+        for (Map.Entry<Product, Quantity> entry : map.entrySet()) {
+            lines.put(entry.getKey(), new SimpleImmutableEntry<>(entry));
+        }
+        return new ProductQuantityMap(new Object(), lines);
+    }
+
+    /**
+     * Returns a map with the same product lines as this map, except that {@code product} has {@code quantity}.
+     * If {@code product} is already in this map, the returned map keeps the existing {@code Product}, as
+     * {@link Map#put(Object, Object)} does.
+     */
+    ProductQuantityMap with(Product product, Quantity quantity) {
+        requireNonNull(product);
+        requireNonNull(quantity);
+        synchronized (lock) {
+            reroot();
+            Map.Entry<Product, Quantity> line = lines.get(product);
+            Product key = line == null ? product : line.getKey();
+            return derive(product, new SimpleImmutableEntry<>(key, quantity));
+        }
+    }
+
+    /**
+     * Returns a map with the same product lines as this map, except for that of {@code product}.
+     */
+    ProductQuantityMap without(Product product) {
+        requireNonNull(product);
+        synchronized (lock) {
+            reroot();
+            if (!lines.containsKey(product)) {
+                return this;
+            }
+            return derive(product, null);
+        }
+    }
+
+    /**
+     * Returns the product line of {@code product}, with the {@code Product} as stored in this map, or null if
+     * {@code product} is not in this map.
+     */
+    Map.Entry<Product, Quantity> getLine(Object product) {
+        synchronized (lock) {
+            reroot();
+            return lines.get(product);
+        }
+    }
+
+    /**
+     * Moves the backing map from this version to a new version in which {@code product} has {@code line}, or is
+     * absent if {@code line} is null, and returns the new version.
+     */
+    private ProductQuantityMap derive(Product product, Map.Entry<Product, Quantity> line) {
+        HashMap<Product, Map.Entry<Product, Quantity>> backingLines = lines;
+        Map.Entry<Product, Quantity> replacedLine = line == null
+                ? backingLines.remove(product)
+                : backingLines.put(product, line);
+        ProductQuantityMap derived = new ProductQuantityMap(lock, backingLines);
+        lines = null;
+        next = derived;
+        changedProduct = product;
+        changedLine = replacedLine;
+        return derived;
+    }
+
+    /**
+     * Moves the backing map to this version.
+     */
+    private void reroot() {
+        if (lines != null) {
+            return;
+        }
+        List<ProductQuantityMap> path = new ArrayList<>();
+        for (ProductQuantityMap version = this; version.lines == null; version = version.next) {
+            path.add(version);
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).takeBackingMapFromNext();
+        }
+    }
+
+    /**
+     * Moves the backing map from {@code next}, which must hold it, to this version.
+     */
+    private void takeBackingMapFromNext() {
+        HashMap<Product, Map.Entry<Product, Quantity>> backingLines = next.lines;
+        Map.Entry<Product, Quantity> replacedLine = changedLine == null
+                ? backingLines.remove(changedProduct)
+                : backingLines.put(changedProduct, changedLine);
+        next.lines = null;
+        next.next = this;
+        next.changedProduct = changedProduct;
+        next.changedLine = replacedLine;
+        lines = backingLines;
+        next = null;
+        changedProduct = null;
+        changedLine = null;
+    }
+
+    @Override
+    public Quantity get(Object key) {
+        Map.Entry<Product, Quantity> line = getLine(key);
+        return line == null ? null : line.getValue();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return getLine(key) != null;
+    }
+
+    @Override
+    public int size() {
+        synchronized (lock) {
+            reroot();
+            return lines.size();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<Product, Quantity>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<Product, Quantity>> iterator() {
+                // Iterates over a snapshot, as reading another version of this map would move the backing map.
+                Map.Entry<Product, Quantity>[] snapshot;
+                synchronized (lock) {
+                    reroot();
+                    @SuppressWarnings("unchecked")
+                    Map.Entry<Product, Quantity>[] lineArray = lines.values().toArray(new Map.Entry[0]);
+                    snapshot = lineArray;
+                }
+                return Arrays.asList(snapshot).iterator();
+            }
+
+            @Override
+            public int size() {
+                return ProductQuantityMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Comparing against another version would move the backing map back and forth while iterating.
+        if (other instanceof ProductQuantityMap) {
+            return super.equals(new HashMap<>((ProductQuantityMap) other));
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -3,23 +3,30 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.WordMatcher;
+import seedu.address.model.person.PersonSearchIndex.Field;
 
 /**
  * Tests that a {@code Person}'s {@code Address} matches any of the keywords given.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements PersonSearchPredicate {
     private final List<String> keywords;
+    private final WordMatcher matcher;
 
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.matcher = new WordMatcher(keywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getAddress().value, keyword));
+        return matcher.matchesAnyWordIn(Field.ADDRESS.valueOf(person));
+    }
+
+    @Override
+    public Predicate<Person> using(PersonSearchIndex index) {
+        return index.getPredicate(Field.ADDRESS, keywords);
     }
 
     @Override
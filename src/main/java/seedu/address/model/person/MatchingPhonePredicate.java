@@ -3,23 +3,30 @@ package seedu.address.model.person;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.commons.util.WordMatcher;
+import seedu.address.model.person.PersonSearchIndex.Field;
 
 /**
  * Tests that a {@code Person}'s {@code Phone} matches the input.
  */
-public class MatchingPhonePredicate implements Predicate<Person> {
+public class MatchingPhonePredicate implements PersonSearchPredicate {
     private final List<String> numbers;
+    private final WordMatcher matcher;
 
     public MatchingPhonePredicate(List<String> numbers) {
         this.numbers = numbers;
+        this.matcher = new WordMatcher(numbers);
     }
 
     @Override
     public boolean test(Person person) {
-        return numbers.stream()
-                .anyMatch(number -> StringUtil.containsWordIgnoreCase(person.getPhone().value, number));
+        return matcher.matchesAnyWordIn(Field.PHONE.valueOf(person));
+    }
+
+    @Override
+    public Predicate<Person> using(PersonSearchIndex index) {
+        return index.getPredicate(Field.PHONE, numbers);
     }
 
     @Override
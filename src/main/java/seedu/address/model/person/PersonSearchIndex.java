@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.WordMatcher;
+
+/**
+ * Indexes the names of a set of persons by the words of their name, phone number, email and address, so that the
+ * persons with a field containing a word are found by looking the word up, instead of by splitting the field of every
+ * person. Words are matched ignoring case, and a person's name identifies them, since names are unique in a list.
+ *
+ * Persons are immutable, so a person is unindexed by the words of exactly the fields it was indexed by.
+ */
+public class PersonSearchIndex {
+
+    /**
+     * A field of a person that is indexed by its words.
+     */
+    public enum Field {
+        NAME(person -> person.getName().fullName),
+        PHONE(person -> person.getPhone().value),
+        EMAIL(person -> person.getEmail().value),
+        ADDRESS(person -> person.getAddress().value);
+
+        private final Function<Person, String> getter;
+
+        Field(Function<Person, String> getter) {
+            this.getter = getter;
+        }
+
+        /**
+         * Returns the value of this field of {@code person}.
+         */
+        public String valueOf(Person person) {
+            return getter.apply(person);
+        }
+    }
+
+    private final Map<Field, Map<String, Set<Name>>> namesByWord = new EnumMap<>(Field.class);
+
+    /**
+     * Constructs a {@code PersonSearchIndex} of no persons.
+     */
+    public PersonSearchIndex() {
+        for (Field field : Field.values()) {
+            namesByWord.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Returns the distinct words of {@code text} in lower case, in the order they first appear.
+     * Words are separated by the same whitespace characters as in {@link WordMatcher}.
+     */
+    public static Set<String> toWords(String text) {
+        requireNonNull(text);
+        Set<String> words = new LinkedHashSet<>();
+        int start = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || WordMatcher.isWhitespace(text.charAt(i))) {
+                if (i > start) {
+                    words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = i + 1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the distinct words of all of {@code keywords} in lower case, so that a keyword of several words
+     * matches a field containing any of them.
+     */
+    public static Set<String> toWords(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> words = new LinkedHashSet<>();
+        keywords.forEach(keyword -> words.addAll(toWords(keyword)));
+        return words;
+    }
+
+    /**
+     * Indexes {@code person} by the words of each of its fields.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            Map<String, Set<Name>> fieldIndex = namesByWord.get(field);
+            for (String word : toWords(field.valueOf(person))) {
+                fieldIndex.computeIfAbsent(word, unused -> new HashSet<>(2)).add(person.getName());
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it was added.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Field field : Field.values()) {
+            Map<String, Set<Name>> fieldIndex = namesByWord.get(field);
+            for (String word : toWords(field.valueOf(person))) {
+                Set<Name> names = fieldIndex.get(word);
+                if (names != null && names.remove(person.getName()) && names.isEmpty()) {
+                    fieldIndex.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        namesByWord.values().forEach(Map::clear);
+    }
+
+    /**
+     * Returns a predicate that tests whether a person has {@code field} containing any of the words of
+     * {@code keywords}. The names of the matching persons are looked up in the index once, as the union of the
+     * persons indexed by each word, so testing a person only checks whether its name is among them. The predicate
+     * does not follow later changes to the index.
+     */
+    public Predicate<Person> getPredicate(Field field, Collection<String> keywords) {
+        requireNonNull(field);
+        Map<String, Set<Name>> fieldIndex = namesByWord.get(field);
+        Set<Name> names = new HashSet<>();
+        for (String word : toWords(keywords)) {
+            names.addAll(fieldIndex.getOrDefault(word, Set.of()));
+        }
+        return person -> names.contains(person.getName());
+    }
+}
@@ -0,0 +1,15 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * Tests that a field of a {@code Person} contains any of the keywords given, and can be answered from a
+ * {@link PersonSearchIndex} instead of by reading the field of each person.
+ */
+public interface PersonSearchPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a predicate equivalent to this one for the persons in {@code index}, which looks them up in it.
+     */
+    Predicate<Person> using(PersonSearchIndex index);
+}
@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The names of the persons in the list are kept in a set, since a person's identity is their name, so that checking
+ * for duplicates does not scan the list. Persons are also indexed by phone number so that they can be looked up
+ * without scanning the list. Phone numbers are not part of a person's identity, so several persons may share one;
+ * they are kept in the order they were indexed. The words of each person's fields are indexed in a
+ * {@link PersonSearchIndex}, so that finding persons by keyword does not split the fields of every person. The indexes
+ * are updated before the list changes, so that listeners of the list see the persons it holds in the indexes.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +40,16 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Name> names = new HashSet<>();
+    private final Map<Phone, List<Person>> personsByPhone = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return names.contains(toCheck.getName());
     }
 
     /**
@@ -45,9 +61,23 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        index(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds the persons in {@code toAdd} to the end of the list in one change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        if (!personsAreUnique(toAdd) || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicatePersonException();
+        }
+        toAdd.forEach(this::index);
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -65,6 +95,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        unindex(internalList.get(index));
+        index(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +106,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        unindex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        reindex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -94,9 +130,27 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        reindex(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns the person with the given phone number, or an empty {@code Optional} if there is none.
+     * If several persons share the phone number, the one that was indexed first is returned.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        List<Person> matches = personsByPhone.get(phone);
+        return matches == null ? Optional.empty() : Optional.of(matches.get(0));
+    }
+
+    /**
+     * Returns the index of the persons in this list by the words of their fields.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -134,15 +188,46 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void index(Person person) {
+        names.add(person.getName());
+        personsByPhone.computeIfAbsent(person.getPhone(), phone -> new ArrayList<>(1)).add(person);
+        searchIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person} itself, rather than a person equal to it, from the phone number index.
+     */
+    private void unindex(Person person) {
+        names.remove(person.getName());
+        searchIndex.remove(person);
+        List<Person> matches = personsByPhone.get(person.getPhone());
+        assert matches != null;
+        for (int i = 0; i < matches.size(); i++) {
+            if (matches.get(i) == person) {
+                matches.remove(i);
+                break;
+            }
+        }
+        if (matches.isEmpty()) {
+            personsByPhone.remove(person.getPhone());
+        }
+    }
+
+    private void reindex(List<Person> persons) {
+        names.clear();
+        personsByPhone.clear();
+        searchIndex.clear();
+        persons.forEach(this::index);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
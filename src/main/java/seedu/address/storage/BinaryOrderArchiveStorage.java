@@ -0,0 +1,592 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.order.ArchivedOrder;
+import seedu.address.model.order.Order;
+import seedu.address.storage.PartitionPolicy.Period;
+
+/**
+ * A class to access the order archive stored as a directory of binary partition files, one per period of completion
+ * dates as decided by a {@link PartitionPolicy}. Each partition holds length-prefixed records, one per completed
+ * order, appended in order of completion.
+ *
+ * Only the partition of the current period is appended to. Partitions of periods that have ended are compressed,
+ * and partitions that have expired under the policy are deleted, whenever orders are archived.
+ *
+ * The id, customer and completion date of every record are indexed in memory together with the offset of the
+ * record in its partition, so a lookup reads only the records it returns. The index of a partition is built the
+ * first time a lookup needs it, by reading the header of each record and skipping its body, so lookups of a range
+ * of completion dates only read the partitions of that range.
+ */
+public class BinaryOrderArchiveStorage implements OrderArchiveStorage {
+
+    public static final String MESSAGE_NOT_AN_ARCHIVE = "%1$s is not an order archive.";
+
+    /** Extension of an uncompressed partition file. */
+    public static final String PARTITION_EXTENSION = ".archive";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryOrderArchiveStorage.class);
+
+    private static final Pattern PARTITION_FILE_NAME = Pattern.compile("(?<period>" + Period.NAME_REGEX + ")"
+            + Pattern.quote(PARTITION_EXTENSION)
+            + "(?<compressed>" + Pattern.quote(PartitionPolicy.COMPRESSED_EXTENSION) + ")?");
+
+    /** Written at the start of each partition to identify it as part of an order archive. */
+    private static final int MAGIC_NUMBER = 0x4f415243;
+    private static final int FORMAT_VERSION = 1;
+    private static final int FILE_HEADER_LENGTH = 2 * Integer.BYTES;
+    /** Length of the part of a record header before the customer name: the record length, id and date. */
+    private static final int RECORD_PREFIX_LENGTH = 3 * Integer.BYTES;
+
+    private final Path directoryPath;
+    private final PartitionPolicy partitionPolicy;
+    private final Clock clock;
+
+    // The fields below are guarded by this, and are only valid once arePartitionsLoaded is true.
+    private boolean arePartitionsLoaded;
+    /** The partitions in the directory, ordered by period. */
+    private final List<Partition> partitions = new ArrayList<>();
+
+    public BinaryOrderArchiveStorage(Path directoryPath) {
+        this(directoryPath, PartitionPolicy.MONTHLY, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code BinaryOrderArchiveStorage} for the archive in {@code directoryPath}, which partitions orders
+     * by {@code partitionPolicy} and takes the completion date of orders from {@code clock}.
+     */
+    public BinaryOrderArchiveStorage(Path directoryPath, PartitionPolicy partitionPolicy, Clock clock) {
+        requireNonNull(directoryPath);
+        requireNonNull(partitionPolicy);
+        requireNonNull(clock);
+        this.directoryPath = directoryPath;
+        this.partitionPolicy = partitionPolicy;
+        this.clock = clock;
+    }
+
+    @Override
+    public Path getOrderArchiveDirectoryPath() {
+        return directoryPath;
+    }
+
+    @Override
+    public synchronized void archiveOrders(List<Order> completedOrders) throws IOException {
+        requireNonNull(completedOrders);
+        if (completedOrders.isEmpty()) {
+            return;
+        }
+        loadPartitions();
+
+        LocalDate completionDate = LocalDate.now(clock);
+        Partition partition = getOpenPartition(partitionPolicy.periodOf(completionDate));
+        loadIndex(partition);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        if (partition.length == 0) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeInt(FORMAT_VERSION);
+        }
+        List<ArchivedOrder> archivedOrders = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        for (Order order : completedOrders) {
+            ArchivedOrder archivedOrder = ArchivedOrder.of(order, completionDate);
+            archivedOrders.add(archivedOrder);
+            offsets.add(partition.length + out.size());
+            writeRecord(out, archivedOrder);
+        }
+        out.flush();
+
+        Files.createDirectories(directoryPath);
+        try {
+            Files.write(partition.file, bytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            discardPartialAppend(partition);
+            throw e;
+        }
+        partition.length += bytes.size();
+        for (int i = 0; i < archivedOrders.size(); i++) {
+            ArchivedOrder archivedOrder = archivedOrders.get(i);
+            partition.index(archivedOrder.getId(), archivedOrder.getCustomerName(), archivedOrder.getCompletionDate(),
+                    offsets.get(i));
+        }
+
+        removeExpiredPartitions(completionDate);
+        compressClosedPartitions(completionDate);
+    }
+
+    @Override
+    public synchronized Optional<ArchivedOrder> findById(int id) throws IOException {
+        loadPartitions();
+        for (int i = partitions.size() - 1; i >= 0; i--) {
+            Partition partition = partitions.get(i);
+            loadIndex(partition);
+            Long offset = partition.offsetsById.get(id);
+            if (offset != null) {
+                return Optional.of(readRecords(partition, List.of(offset)).get(0));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized List<ArchivedOrder> findByCompletionDate(LocalDate from, LocalDate to) throws IOException {
+        requireNonNull(from);
+        requireNonNull(to);
+        loadPartitions();
+        List<ArchivedOrder> archivedOrders = new ArrayList<>();
+        for (Partition partition : partitionsBetween(from, to)) {
+            loadIndex(partition);
+            archivedOrders.addAll(readRecords(partition, offsetsBetween(partition.offsetsByCompletionDate, from, to)));
+        }
+        return sortedByCompletionDate(archivedOrders);
+    }
+
+    @Override
+    public synchronized List<ArchivedOrder> findByCustomer(String customerName, LocalDate from, LocalDate to)
+            throws IOException {
+        requireNonNull(customerName);
+        requireNonNull(from);
+        requireNonNull(to);
+        loadPartitions();
+        List<ArchivedOrder> archivedOrders = new ArrayList<>();
+        for (Partition partition : partitionsBetween(from, to)) {
+            loadIndex(partition);
+            NavigableMap<LocalDate, List<Long>> offsetsOfCustomer =
+                    partition.offsetsByCustomer.get(toCustomerKey(customerName));
+            if (offsetsOfCustomer != null) {
+                archivedOrders.addAll(readRecords(partition, offsetsBetween(offsetsOfCustomer, from, to)));
+            }
+        }
+        return sortedByCompletionDate(archivedOrders);
+    }
+
+    @Override
+    public synchronized int size() throws IOException {
+        loadPartitions();
+        int size = 0;
+        for (Partition partition : partitions) {
+            loadIndex(partition);
+            size += partition.size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns the partitions whose periods have any day from {@code from} to {@code to} inclusive.
+     */
+    private List<Partition> partitionsBetween(LocalDate from, LocalDate to) {
+        List<Partition> partitionsBetween = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return partitionsBetween;
+        }
+        for (Partition partition : partitions) {
+            if (partition.period.overlaps(from, to)) {
+                partitionsBetween.add(partition);
+            }
+        }
+        return partitionsBetween;
+    }
+
+    private static List<Long> offsetsBetween(NavigableMap<LocalDate, List<Long>> offsetsByDate, LocalDate from,
+                                             LocalDate to) {
+        List<Long> offsets = new ArrayList<>();
+        if (!from.isAfter(to)) {
+            offsetsByDate.subMap(from, true, to, true).values().forEach(offsets::addAll);
+        }
+        return offsets;
+    }
+
+    /**
+     * Sorts {@code archivedOrders} by completion date, keeping orders completed on the same date in archive order.
+     * Partitions of different policies may cover the same dates, so their records can be interleaved.
+     */
+    private static List<ArchivedOrder> sortedByCompletionDate(List<ArchivedOrder> archivedOrders) {
+        archivedOrders.sort(Comparator.comparing(ArchivedOrder::getCompletionDate));
+        return archivedOrders;
+    }
+
+    private static String toCustomerKey(String customerName) {
+        return customerName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Lists the partitions in the archive directory, unless they have been listed already.
+     * Expired partitions are deleted instead of being listed.
+     */
+    private void loadPartitions() throws IOException {
+        assert Thread.holdsLock(this);
+        if (arePartitionsLoaded) {
+            return;
+        }
+        partitions.clear();
+        if (Files.isDirectory(directoryPath)) {
+            Map<Period, Partition> partitionsByPeriod = new HashMap<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+                for (Path file : files) {
+                    Matcher matcher = PARTITION_FILE_NAME.matcher(file.getFileName().toString());
+                    Optional<Period> period = matcher.matches()
+                            ? Period.parse(matcher.group("period"))
+                            : Optional.empty();
+                    if (period.isEmpty()) {
+                        continue;
+                    }
+                    Partition partition = new Partition(period.get(), file, matcher.group("compressed") != null);
+                    Partition otherPartition = partitionsByPeriod.putIfAbsent(period.get(), partition);
+                    if (otherPartition != null) {
+                        partitionsByPeriod.put(period.get(), removeDuplicate(partition, otherPartition));
+                    }
+                }
+            }
+            partitions.addAll(partitionsByPeriod.values());
+            partitions.sort(Comparator.comparing(partition -> partition.period));
+        }
+        arePartitionsLoaded = true;
+        removeExpiredPartitions(LocalDate.now(clock));
+    }
+
+    /**
+     * Deletes the compressed one of two files of the same partition and returns the other one.
+     * Both files only exist if the app stopped between writing one and deleting the other while compressing or
+     * reopening the partition, so they have the same records.
+     */
+    private static Partition removeDuplicate(Partition partition, Partition otherPartition) throws IOException {
+        Partition compressedPartition = partition.isCompressed ? partition : otherPartition;
+        Partition uncompressedPartition = partition.isCompressed ? otherPartition : partition;
+        logger.warning("Removing duplicate order archive partition " + compressedPartition.file);
+        Files.delete(compressedPartition.file);
+        return uncompressedPartition;
+    }
+
+    /**
+     * Returns the uncompressed partition of {@code period}, which is created if it does not exist and decompressed
+     * if it was compressed, e.g. because the clock was turned back.
+     */
+    private Partition getOpenPartition(Period period) throws IOException {
+        for (Partition partition : partitions) {
+            if (!partition.period.equals(period)) {
+                continue;
+            }
+            if (partition.isCompressed) {
+                reopen(partition);
+            }
+            return partition;
+        }
+        Partition partition = new Partition(period, directoryPath.resolve(period + PARTITION_EXTENSION), false);
+        partition.isIndexLoaded = true;
+        partitions.add(partition);
+        partitions.sort(Comparator.comparing(otherPartition -> otherPartition.period));
+        return partition;
+    }
+
+    /**
+     * Replaces the compressed file of {@code partition} with an uncompressed one, so that records can be appended.
+     */
+    private void reopen(Partition partition) throws IOException {
+        loadIndex(partition);
+        byte[] content = PartitionPolicy.readAllBytes(partition.file);
+        Path file = directoryPath.resolve(partition.period + PARTITION_EXTENSION);
+        FileUtil.writeToFileAtomically(file, out -> out.write(content, 0, (int) partition.length));
+        Files.delete(partition.file);
+        partition.file = file;
+        partition.isCompressed = false;
+    }
+
+    /**
+     * Deletes the partitions that have expired on {@code today}.
+     * A partition that cannot be deleted is kept, and deleting it is tried again the next time.
+     */
+    private void removeExpiredPartitions(LocalDate today) {
+        Iterator<Partition> iterator = partitions.iterator();
+        while (iterator.hasNext()) {
+            Partition partition = iterator.next();
+            if (!partitionPolicy.isExpired(partition.period, today)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(partition.file);
+                iterator.remove();
+                logger.info("Removed expired order archive partition " + partition.file);
+            } catch (IOException e) {
+                logger.warning("Failed to remove expired order archive partition " + partition.file + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Compresses the uncompressed partitions whose periods ended before {@code today}.
+     * A partition that cannot be compressed is kept uncompressed, and compressing it is tried again the next time.
+     */
+    private void compressClosedPartitions(LocalDate today) {
+        for (Partition partition : partitions) {
+            if (partition.isCompressed || !partition.period.endsBefore(today)) {
+                continue;
+            }
+            try {
+                loadIndex(partition);
+                partition.file = PartitionPolicy.compress(partition.file);
+                partition.isCompressed = true;
+            } catch (IOException e) {
+                logger.warning("Failed to compress order archive partition " + partition.file + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * Builds the index of {@code partition}, unless it has been built already.
+     * A record at the end of an uncompressed partition that was only partly written, e.g. because the app stopped
+     * while writing it, is removed.
+     */
+    private void loadIndex(Partition partition) throws IOException {
+        assert Thread.holdsLock(this);
+        if (partition.isIndexLoaded) {
+            return;
+        }
+        partition.clearIndex();
+        long actualLength;
+        InputStream partitionIn;
+        if (partition.isCompressed) {
+            byte[] content = PartitionPolicy.readAllBytes(partition.file);
+            actualLength = content.length;
+            partitionIn = new ByteArrayInputStream(content);
+        } else {
+            actualLength = Files.size(partition.file);
+            partitionIn = new BufferedInputStream(Files.newInputStream(partition.file));
+        }
+        if (actualLength == 0) {
+            partitionIn.close();
+            partition.length = 0;
+            partition.isIndexLoaded = true;
+            return;
+        }
+
+        long validLength = FILE_HEADER_LENGTH;
+        try (DataInputStream in = new DataInputStream(partitionIn)) {
+            if (actualLength < FILE_HEADER_LENGTH || in.readInt() != MAGIC_NUMBER
+                    || in.readInt() != FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_NOT_AN_ARCHIVE, partition.file));
+            }
+            while (validLength < actualLength) {
+                int recordLength = in.readInt();
+                if (recordLength < RECORD_PREFIX_LENGTH || validLength + recordLength > actualLength) {
+                    throw new EOFException();
+                }
+                int id = in.readInt();
+                LocalDate completionDate = LocalDate.ofEpochDay(in.readInt());
+                String customerName = readString(in);
+                skipFully(in, recordLength - RECORD_PREFIX_LENGTH - Integer.BYTES - utf8Length(customerName));
+                partition.index(id, customerName, completionDate, validLength);
+                validLength += recordLength;
+            }
+        } catch (EOFException e) {
+            if (partition.isCompressed) {
+                logger.warning("Ignoring incomplete record at the end of order archive partition " + partition.file);
+            } else {
+                logger.warning("Removing incomplete record at the end of order archive partition " + partition.file);
+                try (FileChannel channel = FileChannel.open(partition.file, StandardOpenOption.WRITE)) {
+                    channel.truncate(validLength);
+                }
+            }
+        }
+        partition.length = validLength;
+        partition.isIndexLoaded = true;
+    }
+
+    /**
+     * Removes the bytes that a failed append may have written after the first {@code partition.length} bytes of
+     * {@code partition}, so that the offsets of the next append are those of its records. If they cannot be removed,
+     * the index is loaded again before the next use of the partition, which removes them instead.
+     */
+    private static void discardPartialAppend(Partition partition) {
+        if (!Files.exists(partition.file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(partition.file, StandardOpenOption.WRITE)) {
+            channel.truncate(partition.length);
+        } catch (IOException e) {
+            logger.warning("Failed to remove a partly written record from order archive partition " + partition.file
+                    + ": " + e);
+            partition.isIndexLoaded = false;
+        }
+    }
+
+    private static void skipFully(DataInputStream in, int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            int skipped = in.skipBytes(remaining);
+            if (skipped <= 0) {
+                in.readByte();
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    /**
+     * Reads the records of {@code partition} at {@code offsets}, in that order. An uncompressed partition is read by
+     * seeking to each record, and a compressed one by decompressing it.
+     */
+    private static List<ArchivedOrder> readRecords(Partition partition, Collection<Long> offsets)
+            throws IOException {
+        List<ArchivedOrder> archivedOrders = new ArrayList<>();
+        if (offsets.isEmpty()) {
+            return archivedOrders;
+        }
+        if (partition.isCompressed) {
+            byte[] content = PartitionPolicy.readAllBytes(partition.file);
+            ByteBuffer contentBuffer = ByteBuffer.wrap(content);
+            for (long offset : offsets) {
+                int recordLength = contentBuffer.getInt((int) offset);
+                archivedOrders.add(readRecordBody(new DataInputStream(new ByteArrayInputStream(content,
+                        (int) offset + Integer.BYTES, recordLength - Integer.BYTES))));
+            }
+            return archivedOrders;
+        }
+        try (FileChannel channel = FileChannel.open(partition.file, StandardOpenOption.READ)) {
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(Integer.BYTES);
+            for (long offset : offsets) {
+                lengthBuffer.clear();
+                readFully(channel, lengthBuffer, offset);
+                ByteBuffer recordBuffer = ByteBuffer.allocate(lengthBuffer.getInt(0) - Integer.BYTES);
+                readFully(channel, recordBuffer, offset + Integer.BYTES);
+                archivedOrders.add(readRecordBody(
+                        new DataInputStream(new ByteArrayInputStream(recordBuffer.array()))));
+            }
+        }
+        return archivedOrders;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    /**
+     * Writes {@code archivedOrder} as a record: its length, the indexed fields, and then the other fields.
+     */
+    private static void writeRecord(DataOutputStream out, ArchivedOrder archivedOrder) throws IOException {
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        body.writeInt(archivedOrder.getId());
+        body.writeInt((int) archivedOrder.getCompletionDate().toEpochDay());
+        writeString(body, archivedOrder.getCustomerName());
+        writeString(body, archivedOrder.getCustomerPhone());
+        body.writeInt((int) archivedOrder.getCreationDate().toEpochDay());
+        body.writeInt(archivedOrder.getLines().size());
+        for (ArchivedOrder.Line line : archivedOrder.getLines()) {
+            writeString(body, line.getProductName());
+            body.writeInt(line.getQuantity());
+            body.writeLong(line.getCostCents());
+            body.writeLong(line.getSalesCents());
+        }
+        body.flush();
+
+        out.writeInt(Integer.BYTES + bodyBytes.size());
+        bodyBytes.writeTo(out);
+    }
+
+    private static ArchivedOrder readRecordBody(DataInputStream in) throws IOException {
+        int id = in.readInt();
+        LocalDate completionDate = LocalDate.ofEpochDay(in.readInt());
+        String customerName = readString(in);
+        String customerPhone = readString(in);
+        LocalDate creationDate = LocalDate.ofEpochDay(in.readInt());
+        int lineCount = in.readInt();
+        List<ArchivedOrder.Line> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(new ArchivedOrder.Line(readString(in), in.readInt(), in.readLong(), in.readLong()));
+        }
+        return new ArchivedOrder(id, customerName, customerPhone, creationDate, completionDate, lines);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Represents a partition file of the archive together with the index of its records, which is only valid once
+     * {@code isIndexLoaded} is true.
+     */
+    private static class Partition {
+        private final Period period;
+        private Path file;
+        private boolean isCompressed;
+        private boolean isIndexLoaded;
+        /** Length of the valid content of the partition, uncompressed. */
+        private long length;
+        private int size;
+        private final Map<Integer, Long> offsetsById = new HashMap<>();
+        private final NavigableMap<LocalDate, List<Long>> offsetsByCompletionDate = new TreeMap<>();
+        private final Map<String, NavigableMap<LocalDate, List<Long>>> offsetsByCustomer = new HashMap<>();
+
+        Partition(Period period, Path file, boolean isCompressed) {
+            this.period = period;
+            this.file = file;
+            this.isCompressed = isCompressed;
+        }
+
+        void clearIndex() {
+            size = 0;
+            offsetsById.clear();
+            offsetsByCompletionDate.clear();
+            offsetsByCustomer.clear();
+        }
+
+        void index(int id, String customerName, LocalDate completionDate, long offset) {
+            offsetsById.put(id, offset);
+            offsetsByCompletionDate.computeIfAbsent(completionDate, date -> new ArrayList<>()).add(offset);
+            offsetsByCustomer.computeIfAbsent(toCustomerKey(customerName), name -> new TreeMap<>())
+                    .computeIfAbsent(completionDate, date -> new ArrayList<>()).add(offset);
+            size++;
+        }
+    }
+}
@@ -23,4 +23,16 @@ public interface CompletedOrderStorage {
      * @throws IOException
      */
     void saveCompletedOrders(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Writes any saved completed orders that are still buffered to the file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes any buffered completed orders and releases the file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void close() throws IOException;
 }
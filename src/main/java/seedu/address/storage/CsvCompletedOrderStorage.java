@@ -1,32 +1,113 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
-import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.Money;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.Product;
+import seedu.address.model.order.Quantity;
+import seedu.address.storage.PartitionPolicy.Period;
 
 /**
- * Class that stores completed orders temperari
+ * Appends completed orders to a csv file, one row per product of each order.
+ *
+ * The file is written through a single buffered writer, which is opened by the first save that has rows to write and
+ * kept open until the storage is closed. Rows are flushed to the file once {@code flushRowCount} of them are
+ * unflushed, or only when the storage is flushed or closed if {@code flushRowCount} is 0.
+ *
+ * Only a {@code flushRowCount} of 1, the default, writes the rows of each save before the save returns. The commands
+ * that completed the orders are journalled right after the save, and replaying the journal does not save completed
+ * orders again, so with any other {@code flushRowCount} the buffered rows are lost if the app crashes before the
+ * storage is flushed or closed. Larger counts are opt-in for users who accept that loss for fewer writes.
+ *
+ * If the storage has a {@link PartitionPolicy}, the csv file only holds the rows of orders completed in the current
+ * period. When a row of a new period is saved, the file is moved to a compressed file named after the period of its
+ * rows, e.g. {@code completedorders-2024-09.csv.gz}, and the files of expired periods are deleted. If the period
+ * already has a file, as when the clock was turned back, the new file is numbered instead of replacing it, e.g.
+ * {@code completedorders-2024-09.2.csv.gz}.
  */
 public class CsvCompletedOrderStorage implements CompletedOrderStorage {
 
-    private static final String[] STRING_TYPE_SPECIFIER = new String[0];
+    public static final String MESSAGE_NEGATIVE_FLUSH_ROW_COUNT = "Flush row count cannot be negative.";
 
     private static final String[] TABLE_HEADERS = new String[] {"OrderID", "Customer Name", "Product Name", "Quantity",
         "Subtotal Cost of Goods", "Subtotal Revenue of Goods", "Subtotal Profit of Goods"};
 
-    private Path filePath;
+    private static final char FIELD_SEPARATOR = ',';
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+    /** Separates the name of the csv file from the period in the names of the files of past periods. */
+    private static final String PERIOD_SEPARATOR = "-";
+    /** Separates the period from the number of a file of a period that already has a file. */
+    private static final String NUMBER_SEPARATOR = ".";
 
+    private static final Logger logger = LogsCenter.getLogger(CsvCompletedOrderStorage.class);
+
+    private final Path filePath;
+    private final int flushRowCount;
+    private final PartitionPolicy partitionPolicy;
+    private final Clock clock;
+
+    // The fields below are guarded by this.
+    /** Holds the rows of the orders being saved, and is reused by every save. */
+    private final StringBuilder rowBuffer = new StringBuilder();
+    private Writer writer;
+    private int unflushedRowCount;
+    /** The period of the rows in the csv file, once known. */
+    private Period filePeriod;
+
+    /**
+     * Creates a {@code CsvCompletedOrderStorage} that flushes the rows of every save to the file.
+     */
     public CsvCompletedOrderStorage(Path filePath) {
+        this(filePath, 1);
+    }
+
+    /**
+     * Creates a {@code CsvCompletedOrderStorage} that flushes rows to the file once {@code flushRowCount} of them
+     * are unflushed. A value of 0 only flushes rows when the storage is flushed or closed.
+     * Any value other than 1 loses the buffered rows on a crash, as the class comment explains.
+     */
+    public CsvCompletedOrderStorage(Path filePath, int flushRowCount) {
+        checkArgument(flushRowCount >= 0, MESSAGE_NEGATIVE_FLUSH_ROW_COUNT);
         this.filePath = filePath;
+        this.flushRowCount = flushRowCount;
+        this.partitionPolicy = null;
+        this.clock = null;
+    }
+
+    /**
+     * Creates a {@code CsvCompletedOrderStorage} that flushes rows to the file once {@code flushRowCount} of them
+     * are unflushed, and moves the rows of each period of {@code partitionPolicy} to their own compressed file once
+     * the period ends, according to {@code clock}.
+     */
+    public CsvCompletedOrderStorage(Path filePath, int flushRowCount, PartitionPolicy partitionPolicy, Clock clock) {
+        checkArgument(flushRowCount >= 0, MESSAGE_NEGATIVE_FLUSH_ROW_COUNT);
+        requireNonNull(partitionPolicy);
+        requireNonNull(clock);
+        this.filePath = filePath;
+        this.flushRowCount = flushRowCount;
+        this.partitionPolicy = partitionPolicy;
+        this.clock = clock;
     }
 
     public Path getAddressBookFilePath() {
@@ -34,77 +115,205 @@ public class CsvCompletedOrderStorage implements CompletedOrderStorage {
     }
 
     /**
-     * Saves the completed {@code Order}s into a Csv file for archiving purposes.
+     * Appends the completed {@code Order}s of {@code addressBook} to the csv file. Does nothing if there are none.
      * @param addressBook Addressbook containing the completed order.
-     * @throws IOException
+     * @throws IOException if there was any problem writing to the file.
      */
-    public void saveCompletedOrders(ReadOnlyAddressBook addressBook) throws IOException {
+    @Override
+    public synchronized void saveCompletedOrders(ReadOnlyAddressBook addressBook) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
         List<Order> completedOrderList = addressBook.getCompletedOrderList();
-        List<String[]> dataToBeStored = convertOrdersToReadable(completedOrderList);
-        CsvUtil.saveCsvFile(filePath, dataToBeStored, TABLE_HEADERS);
+        if (completedOrderList.isEmpty()) {
+            return;
+        }
+
+        rowBuffer.setLength(0);
+        int rowCount = 0;
+        for (Order order : completedOrderList) {
+            for (Map.Entry<Product, Quantity> line : order.getProductMap().entrySet()) {
+                appendRow(order, line.getKey(), line.getValue().getValue());
+                rowCount++;
+            }
+        }
+
+        try {
+            getWriter().append(rowBuffer);
+            unflushedRowCount += rowCount;
+            if (flushRowCount > 0 && unflushedRowCount >= flushRowCount) {
+                flush();
+            }
+        } catch (IOException e) {
+            discardWriter();
+            throw e;
+        }
     }
 
-    private List<String[]> convertOrdersToReadable(List<Order> orderList) {
-        List<String[]> data = new ArrayList<>();
-        for (Order order : orderList) {
-            order.getProductMap().keySet().stream().forEach(x -> data.add(convertProductMapToReadable(order, x)));
+    @Override
+    public synchronized void flush() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+            unflushedRowCount = 0;
+        } catch (IOException e) {
+            discardWriter();
+            throw e;
         }
-        return data;
     }
 
-    private String[] convertProductMapToReadable(Order order, Product product) {
-        requireNonNull(order);
-        requireNonNull(product);
+    @Override
+    public synchronized void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } finally {
+            writer = null;
+            unflushedRowCount = 0;
+        }
+    }
 
-        ArrayList<String> orderDetails = new ArrayList<>();
-        orderDetails.add(convertOrderIdToReadable(order));
-        orderDetails.add(convertOrderCustomerToReadable(order));
-        orderDetails.add(convertProductToReadable(product));
-        orderDetails.add(convertQuantityToReadable(order, product));
-        orderDetails.add(convertSubtotalCostToReadable(order, product));
-        orderDetails.add(convertSubtotalRevenueToReadable(order, product));
-        orderDetails.add(convertSubtotalProfitToReadable(order, product));
-        return orderDetails.toArray(STRING_TYPE_SPECIFIER);
+    /**
+     * Returns the writer to the csv file, opening it and writing the headers if the file is empty.
+     * The file is rolled over first if its rows are of a period that has ended.
+     */
+    private Writer getWriter() throws IOException {
+        assert Thread.holdsLock(this);
+        if (partitionPolicy != null) {
+            rollOver(LocalDate.now(clock));
+        }
+        if (writer == null) {
+            FileUtil.createIfMissing(filePath);
+            boolean isFileEmpty = Files.size(filePath) == 0;
+            writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            if (isFileEmpty) {
+                writer.write(String.join(String.valueOf(FIELD_SEPARATOR), TABLE_HEADERS));
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * Moves the csv file to the file of the period of its rows if that period is not the current one, and deletes
+     * the files of periods that have expired on {@code today}.
+     */
+    private void rollOver(LocalDate today) throws IOException {
+        Period currentPeriod = partitionPolicy.periodOf(today);
+        if (currentPeriod.equals(filePeriod)) {
+            return;
+        }
+        close();
+        if (FileUtil.isFileExists(filePath) && Files.size(filePath) > 0) {
+            Period rowsPeriod = filePeriod != null
+                    ? filePeriod
+                    : partitionPolicy.periodOf(LocalDate.ofInstant(Files.getLastModifiedTime(filePath).toInstant(),
+                            clock.getZone()));
+            if (!rowsPeriod.equals(currentPeriod)) {
+                Path periodFilePath = getPeriodFilePath(rowsPeriod);
+                Files.move(filePath, periodFilePath);
+                logger.info("Rolled over completed orders of " + rowsPeriod + " to " + periodFilePath);
+                compressPeriodFile(periodFilePath);
+            }
+        }
+        filePeriod = currentPeriod;
+        removeExpiredPeriodFiles(today);
+    }
+
+    /**
+     * Returns the path of a new file for the rows of {@code period}, numbered if the period already has a file,
+     * compressed or not.
+     */
+    private Path getPeriodFilePath(Period period) {
+        String periodFileName = getBaseName() + PERIOD_SEPARATOR + period;
+        Path periodFilePath = filePath.resolveSibling(periodFileName + getExtension());
+        for (int number = 2; isPeriodFileTaken(periodFilePath); number++) {
+            periodFilePath = filePath.resolveSibling(periodFileName + NUMBER_SEPARATOR + number + getExtension());
+        }
+        return periodFilePath;
     }
 
-    private String convertOrderIdToReadable(Order order) {
-        return Integer.toString(order.getId());
+    private static boolean isPeriodFileTaken(Path periodFilePath) {
+        return Files.exists(periodFilePath) || Files.exists(
+                periodFilePath.resolveSibling(periodFilePath.getFileName() + PartitionPolicy.COMPRESSED_EXTENSION));
     }
 
-    private String convertOrderCustomerToReadable(Order order) {
-        return order.getCustomer().getName().fullName;
+    private String getBaseName() {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex < 0 ? fileName : fileName.substring(0, extensionIndex);
     }
 
-    private String convertProductToReadable(Product product) {
-        return product.getName();
+    private String getExtension() {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex < 0 ? "" : fileName.substring(extensionIndex);
     }
 
-    private String convertQuantityToReadable(Order order, Product product) {
-        return Integer.toString(order.getProductMap().get(product).getValue());
+    /**
+     * Compresses the file of a past period. A file that cannot be compressed is left uncompressed.
+     */
+    private static void compressPeriodFile(Path periodFilePath) {
+        try {
+            PartitionPolicy.compress(periodFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to compress completed orders file " + periodFilePath + ": " + e);
+        }
     }
 
-    private String convertSubtotalCostToReadable(Order order, Product product) {
-        float quantity = order.getProductMap().get(product).getValue();
-        float unitCost = Float.parseFloat(product.getCost());
-        float subtotalCost = quantity * unitCost;
-        return Float.toString(subtotalCost);
+    /**
+     * Deletes the files of past periods that have expired on {@code today}, whether compressed or not.
+     * A file that cannot be deleted is kept, and deleting it is tried again when the file is next rolled over.
+     */
+    private void removeExpiredPeriodFiles(LocalDate today) {
+        Pattern periodFileName = Pattern.compile(Pattern.quote(getBaseName() + PERIOD_SEPARATOR)
+                + "(?<period>" + Period.NAME_REGEX + ")(?:" + Pattern.quote(NUMBER_SEPARATOR) + "\\d+)?"
+                + Pattern.quote(getExtension())
+                + "(?:" + Pattern.quote(PartitionPolicy.COMPRESSED_EXTENSION) + ")?");
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(filePath.toAbsolutePath().getParent())) {
+            for (Path file : files) {
+                Matcher matcher = periodFileName.matcher(file.getFileName().toString());
+                Optional<Period> period = matcher.matches() ? Period.parse(matcher.group("period")) : Optional.empty();
+                if (period.isPresent() && partitionPolicy.isExpired(period.get(), today)) {
+                    Files.delete(file);
+                    logger.info("Removed expired completed orders file " + file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to remove expired completed orders files: " + e);
+        }
     }
 
-    private String convertSubtotalRevenueToReadable(Order order, Product product) {
-        float quantity = order.getProductMap().get(product).getValue();
-        float unitRevenue = Float.parseFloat(product.getSales());
-        float subtotalRevenue = quantity * unitRevenue;
-        return Float.toString(subtotalRevenue);
+    /**
+     * Closes the writer after a failed write, so that the next save reopens the file instead of reusing a writer
+     * that may hold part of a row.
+     */
+    private void discardWriter() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            // the failure that caused the writer to be discarded is reported instead
+        }
+        writer = null;
+        unflushedRowCount = 0;
     }
 
-    private String convertSubtotalProfitToReadable(Order order, Product product) {
-        float subtotalCost = Float.parseFloat(convertSubtotalCostToReadable(order, product));
-        float subtotalRevenue = Float.parseFloat(convertSubtotalRevenueToReadable(order, product));
-        float subtotalProfit = subtotalRevenue - subtotalCost;
-        return Float.toString(subtotalProfit);
+    /**
+     * Appends the row of {@code quantity} units of {@code product} in {@code order} to the row buffer.
+     */
+    private void appendRow(Order order, Product product, int quantity) {
+        long subtotalCostCents = product.getUnitCost().getCents() * quantity;
+        long subtotalRevenueCents = product.getUnitSales().getCents() * quantity;
+        rowBuffer.append(LINE_SEPARATOR)
+                .append(order.getId()).append(FIELD_SEPARATOR)
+                .append(order.getCustomer().getName().fullName).append(FIELD_SEPARATOR)
+                .append(product.getName()).append(FIELD_SEPARATOR)
+                .append(quantity).append(FIELD_SEPARATOR)
+                .append(Money.format(subtotalCostCents)).append(FIELD_SEPARATOR)
+                .append(Money.format(subtotalRevenueCents)).append(FIELD_SEPARATOR)
+                .append(Money.format(subtotalRevenueCents - subtotalCostCents));
     }
 }
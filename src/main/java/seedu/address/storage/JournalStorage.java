@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Represents an append-only journal of the commands that changed the {@link seedu.address.model.AddressBook}
+ * since its data file was last written.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the journalled command texts, oldest first.
+     * Returns an empty list if the journal file is not found.
+     *
+     * @throws DataLoadingException if loading the journal from storage failed.
+     */
+    List<String> readJournal() throws DataLoadingException;
+
+    /**
+     * Appends {@code commandText} to the end of the journal.
+     * @param commandText cannot be null and cannot span multiple lines.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(String commandText) throws IOException;
+
+    /**
+     * Moves the journal file to a new file next to it, which is returned, leaving the journal empty.
+     * @throws IOException if there was any problem moving the file.
+     */
+    Path setAsideJournal() throws IOException;
+
+    /**
+     * Removes every record from the journal.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void clearJournal() throws IOException;
+
+    /**
+     * Returns the number of records in the journal.
+     * @throws IOException if there was any problem reading the file.
+     */
+    int getJournalSize() throws IOException;
+
+}
@@ -1,18 +1,18 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.Product;
@@ -22,36 +22,46 @@ import seedu.address.model.person.Person;
 
 /**
  * Jackson friendly version of {@link Order}.
+ * Orders are saved with their product lines in {@code products}. Orders saved by earlier versions, which keep
+ * their product lines in {@code productMap} keyed by each product's JSON string, can still be read.
+ * The saved totals are only for reading the file; they are recomputed from the product lines when loaded.
  */
 public class JsonAdaptedOrder {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
     private int id;
+    private List<JsonAdaptedOrderItem> products;
+
+    /** Product lines of an order saved by an earlier version. Never written. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Map<String, Integer> productMap;
+
     private String customerName;
     private String customerPhone;
     private String creationDate;
     private String deadline;
     private String stage;
-    private float totalCost;
-    private float totalSales;
-    private float profit;
+    private BigDecimal totalCost;
+    private BigDecimal totalSales;
+    private BigDecimal profit;
 
     /**
-     * Constructs a {@code JsonAdaptedOrder} with the given {@code order}.
+     * Constructs a {@code JsonAdaptedOrder} with the given order details.
      */
     @JsonCreator
     public JsonAdaptedOrder(@JsonProperty("id") Integer id,
+                            @JsonProperty("products") List<JsonAdaptedOrderItem> products,
                             @JsonProperty("productMap") Map<String, Integer> productMap,
                             @JsonProperty("customerName") String customerName,
                             @JsonProperty("customerPhone") String customerPhone,
                             @JsonProperty("creationDate") String creationDate,
                             @JsonProperty("deadline") String deadline,
                             @JsonProperty("stage") String stage,
-                            @JsonProperty("totalCost") Float totalCost,
-                            @JsonProperty("totalSales") Float totalSales,
-                            @JsonProperty("profit") Float profit
+                            @JsonProperty("totalCost") BigDecimal totalCost,
+                            @JsonProperty("totalSales") BigDecimal totalSales,
+                            @JsonProperty("profit") BigDecimal profit
                             ) {
         this.id = id;
+        this.products = products;
         this.productMap = productMap;
         this.customerName = customerName;
         this.customerPhone = customerPhone;
@@ -65,52 +75,56 @@ public class JsonAdaptedOrder {
 
     /**
      * Converts a given {@code Order} into this class for Jackson use.
+     *
+     * @param menuByName the menu products keyed by name, which the order's product lines refer to.
      */
-    public JsonAdaptedOrder(Order order) throws JsonProcessingException {
+    public JsonAdaptedOrder(Order order, Map<String, Product> menuByName) {
         this.id = order.getId();
         Map<Product, Quantity> productQuantityMap = order.getProductMap();
-        List<Product> productKeySet = productQuantityMap.keySet().stream().collect(Collectors.toList());
-        Map<String, Integer> map = new HashMap<>();
-        for (int k = 0; k < productKeySet.size(); k++) {
-            Product currProd = productKeySet.get(k);
-            JsonAdaptedProduct currJsonProd = new JsonAdaptedProduct(currProd);
-            String prodString = new ObjectMapper().writeValueAsString(currJsonProd);
-            Quantity currQuant = productQuantityMap.get(currProd);
-            map.put(prodString, currQuant.getValue());
+        this.products = new ArrayList<>(productQuantityMap.size());
+        for (Map.Entry<Product, Quantity> entry : productQuantityMap.entrySet()) {
+            products.add(new JsonAdaptedOrderItem(entry.getKey(), entry.getValue(), menuByName));
         }
-        this.productMap = map;
         Person orderCustomer = order.getCustomer();
         this.customerName = orderCustomer.getName().fullName;
         this.customerPhone = orderCustomer.getPhone().value;
         this.creationDate = order.getCreationDate();
         this.deadline = order.getDeadline();
         this.stage = order.getStageContext().toString();
-        this.totalCost = order.getTotalCost();
-        this.totalSales = order.getTotalSales();
-        this.profit = order.getProfit();
+        this.totalCost = order.getTotalCost().toBigDecimal();
+        this.totalSales = order.getTotalSales().toBigDecimal();
+        this.profit = order.getProfit().toBigDecimal();
     }
 
     /**
-     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object.
+     * Converts this Jackson-friendly adapted order object into the model's {@code Order} object.
      *
+     * @param menuByName the menu products keyed by name, which the order's product lines refer to.
      * @throws IllegalValueException if there were any data constraints violated in the adapted order.
      */
-    public Order toModelType() throws IllegalValueException, IOException {
+    public Order toModelType(Map<String, Product> menuByName) throws IllegalValueException, IOException {
         Order modelOrder = new Order(this.id);
         Map<Product, Quantity> map = new HashMap<>();
-        Set<String> jsonProduct = this.productMap.keySet();
-        List<String> productList = jsonProduct.stream().collect(Collectors.toList());
-        for (int k = 0; k < jsonProduct.size(); k++) {
-            String currJsonProd = productList.get(k);
-            Integer currQuantInt = this.productMap.get(productList.get(k));
-            JsonAdaptedProduct currProd = new ObjectMapper().readValue(currJsonProd, JsonAdaptedProduct.class);
-            Quantity currQuant = new Quantity(currQuantInt);
-            map.put(currProd.toModelType(), currQuant);
+        if (this.products != null) {
+            for (JsonAdaptedOrderItem item : this.products) {
+                map.put(item.toModelProduct(menuByName), item.toModelQuantity());
+            }
+        } else if (this.productMap != null) {
+            for (Map.Entry<String, Integer> entry : this.productMap.entrySet()) {
+                JsonAdaptedProduct currProd = JsonUtil.fromJsonString(entry.getKey(), JsonAdaptedProduct.class);
+                if (entry.getValue() == null || !Quantity.isValidQuantity(entry.getValue().toString())) {
+                    throw new IllegalValueException(Quantity.MESSAGE_CONSTRAINTS);
+                }
+                map.put(currProd.toModelType(), new Quantity(entry.getValue()));
+            }
+        } else {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "products"));
+        }
+        try {
+            modelOrder.setProductMap(map);
+        } catch (ArithmeticException e) {
+            throw new IllegalValueException(Order.MESSAGE_TOTALS_TOO_LARGE);
         }
-        modelOrder.setProductMap(map);
-        modelOrder.setTotalCost(totalCost);
-        modelOrder.setTotalSales(totalSales);
-        modelOrder.setProfit(profit);
         if (this.creationDate != null && !this.creationDate.isEmpty()) {
             modelOrder.setCreationDate(this.creationDate);
         }
@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.order.Product;
+import seedu.address.model.order.Quantity;
+
+/**
+ * Jackson-friendly version of a single product line of an {@link seedu.address.model.order.Order}.
+ * The product is referenced by its name, which identifies it on the menu. Its prices are only stored when
+ * they differ from the menu's, e.g. when the product has since been edited or removed from the menu.
+ */
+public class JsonAdaptedOrderItem {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order item's %s field is missing!";
+    public static final String MESSAGE_PRODUCT_NOT_ON_MENU = "Order item refers to a product not on the menu: %s";
+
+    private String product;
+    private Integer quantity;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String unitCost;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String unitSales;
+
+    /**
+     * Constructs a {@code JsonAdaptedOrderItem} with the given order item details.
+     */
+    @JsonCreator
+    public JsonAdaptedOrderItem(@JsonProperty("product") String product,
+                                @JsonProperty("quantity") Integer quantity,
+                                @JsonProperty("unitCost") String unitCost,
+                                @JsonProperty("unitSales") String unitSales) {
+        this.product = product;
+        this.quantity = quantity;
+        this.unitCost = unitCost;
+        this.unitSales = unitSales;
+    }
+
+    /**
+     * Converts a given {@code product} line into this class for Jackson use.
+     *
+     * @param menuByName the menu products keyed by name, used to omit prices that match the menu.
+     */
+    public JsonAdaptedOrderItem(Product product, Quantity quantity, Map<String, Product> menuByName) {
+        this.product = product.getName();
+        this.quantity = quantity.getValue();
+        Product menuProduct = menuByName.get(product.getName());
+        if (menuProduct == null || !menuProduct.getCost().equals(product.getCost())
+                || !menuProduct.getSales().equals(product.getSales())) {
+            this.unitCost = product.getCost();
+            this.unitSales = product.getSales();
+        }
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted order item's product into the model's {@code Product}.
+     * Products without stored prices are resolved to the instance on the menu.
+     *
+     * @param menuByName the menu products keyed by name.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted order item.
+     */
+    public Product toModelProduct(Map<String, Product> menuByName) throws IllegalValueException {
+        if (product == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "product"));
+        }
+        if (unitCost == null && unitSales == null) {
+            Product menuProduct = menuByName.get(product);
+            if (menuProduct == null) {
+                throw new IllegalValueException(String.format(MESSAGE_PRODUCT_NOT_ON_MENU, product));
+            }
+            return menuProduct;
+        }
+        if (unitCost == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "unitCost"));
+        }
+        if (unitSales == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "unitSales"));
+        }
+        if (!Product.isValidProduct(product) || !Product.isValidPrice(unitCost)
+                || !Product.isValidPrice(unitSales)) {
+            throw new IllegalValueException(Product.MESSAGE_CONSTRAINTS);
+        }
+        return new Product(product, unitCost, unitSales);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted order item's quantity into the model's {@code Quantity}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted order item.
+     */
+    public Quantity toModelQuantity() throws IllegalValueException {
+        if (quantity == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "quantity"));
+        }
+        if (!Quantity.isValidQuantity(quantity.toString())) {
+            throw new IllegalValueException(Quantity.MESSAGE_CONSTRAINTS);
+        }
+        return new Quantity(quantity);
+    }
+}
@@ -5,13 +5,13 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -43,19 +43,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      * @throws DataLoadingException if loading the data from storage failed.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException, IOException {
+        return readAddressBook(filePath, progress -> { });
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(DoubleConsumer progressListener)
+            throws DataLoadingException, IOException {
+        return readAddressBook(filePath, progressListener);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(DoubleConsumer)}.
+     * The file is streamed one record at a time, so memory used while loading does not grow with the file size
+     * beyond the resulting address book.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, DoubleConsumer progressListener)
+            throws DataLoadingException, IOException {
         requireNonNull(filePath);
+        requireNonNull(progressListener);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!FileUtil.isFileExists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(new JsonAddressBookStreamReader(filePath, progressListener).read());
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         }
     }
 
@@ -66,6 +88,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is streamed to a temporary file that then replaces the file at {@code filePath} atomically.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +96,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        new JsonAddressBookStreamWriter(addressBook).write(filePath);
     }
 
 }
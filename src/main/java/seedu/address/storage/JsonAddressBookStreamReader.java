@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleConsumer;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Product;
+
+/**
+ * Reads an {@code AddressBook} from a JSON file written by {@link JsonSerializableAddressBook} one record at a
+ * time, converting each person, order and menu entry into the model as soon as it is parsed instead of binding
+ * the whole file first.
+ *
+ * Orders refer to menu products and persons refer to orders, so files are written with the menu first and the
+ * persons last. Records of files written in another order are held back until the records they refer to are
+ * loaded.
+ */
+class JsonAddressBookStreamReader {
+
+    /** Minimum increase in the fraction of the file read before progress is reported again. */
+    private static final double PROGRESS_STEP = 0.01;
+
+    private final Path filePath;
+    private final DoubleConsumer progressListener;
+    private final long fileSize;
+
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<String, Product> menuByName = new HashMap<>();
+    private final List<JsonAdaptedOrder> heldBackOrders = new ArrayList<>();
+    private final List<JsonAdaptedPerson> heldBackPersons = new ArrayList<>();
+    private Integer orderIdCounter;
+    private boolean isMenuRead = false;
+    private boolean areOrdersRead = false;
+    private double lastReportedProgress = 0;
+
+    /**
+     * Creates a reader for the file at {@code filePath} that reports the fraction of the file read so far,
+     * between 0 and 1, to {@code progressListener}.
+     */
+    JsonAddressBookStreamReader(Path filePath, DoubleConsumer progressListener) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(progressListener);
+        this.filePath = filePath;
+        this.progressListener = progressListener;
+        this.fileSize = Files.size(filePath);
+    }
+
+    /**
+     * Reads the file into an {@code AddressBook}.
+     *
+     * @throws IOException if the file is not a valid JSON file.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook read() throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                readField(parser, fieldName);
+            }
+        }
+
+        addHeldBackOrders();
+        addHeldBackPersons();
+        JsonSerializableAddressBook.setOrderIdCounter(addressBook, orderIdCounter);
+        progressListener.accept(1);
+        return addressBook;
+    }
+
+    private void readField(JsonParser parser, String fieldName) throws IOException, IllegalValueException {
+        switch (fieldName) {
+        case "schemaVersion":
+            JsonSerializableAddressBook.checkSchemaVersion(JsonUtil.readValue(parser, Integer.class));
+            break;
+        case "orderIdCounter":
+            orderIdCounter = JsonUtil.readValue(parser, Integer.class);
+            break;
+        case "menu":
+            readMenu(parser);
+            break;
+        case "orders":
+            readOrders(parser);
+            break;
+        case "persons":
+            readPersons(parser);
+            break;
+        default:
+            parser.skipChildren();
+        }
+    }
+
+    private void readMenu(JsonParser parser) throws IOException, IllegalValueException {
+        readArray(parser, JsonAdaptedProduct.class, product ->
+                JsonSerializableAddressBook.addProduct(addressBook, product, menuByName));
+        isMenuRead = true;
+        addHeldBackOrders();
+        if (areOrdersRead) {
+            addHeldBackPersons();
+        }
+    }
+
+    private void readOrders(JsonParser parser) throws IOException, IllegalValueException {
+        readArray(parser, JsonAdaptedOrder.class, order -> {
+            if (isMenuRead) {
+                JsonSerializableAddressBook.addOrder(addressBook, order, menuByName);
+            } else {
+                heldBackOrders.add(order);
+            }
+        });
+        areOrdersRead = true;
+        if (isMenuRead) {
+            addHeldBackPersons();
+        }
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        readArray(parser, JsonAdaptedPerson.class, person -> {
+            if (isMenuRead && areOrdersRead) {
+                JsonSerializableAddressBook.addPerson(addressBook, person);
+            } else {
+                heldBackPersons.add(person);
+            }
+        });
+    }
+
+    /**
+     * Binds each element of the array that {@code parser} is positioned at to an instance of
+     * {@code elementClass} and passes it to {@code recordHandler}. A null array is treated as empty.
+     */
+    private <T> void readArray(JsonParser parser, Class<T> elementClass, RecordHandler<T> recordHandler)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array");
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            T record = JsonUtil.readValue(parser, elementClass);
+            if (record == null) {
+                throw new JsonParseException(parser, "Unexpected null record");
+            }
+            recordHandler.handle(record);
+            reportProgress(parser);
+        }
+    }
+
+    private void addHeldBackOrders() throws IOException, IllegalValueException {
+        for (JsonAdaptedOrder order : heldBackOrders) {
+            JsonSerializableAddressBook.addOrder(addressBook, order, menuByName);
+        }
+        heldBackOrders.clear();
+    }
+
+    private void addHeldBackPersons() throws IllegalValueException {
+        for (JsonAdaptedPerson person : heldBackPersons) {
+            JsonSerializableAddressBook.addPerson(addressBook, person);
+        }
+        heldBackPersons.clear();
+    }
+
+    private void reportProgress(JsonParser parser) {
+        if (fileSize == 0) {
+            return;
+        }
+        double progress = (double) parser.getCurrentLocation().getByteOffset() / fileSize;
+        if (progress - lastReportedProgress >= PROGRESS_STEP) {
+            lastReportedProgress = progress;
+            progressListener.accept(progress);
+        }
+    }
+
+    /**
+     * Represents an action performed on each record read from the file.
+     */
+    @FunctionalInterface
+    private interface RecordHandler<T> {
+        void handle(T record) throws IOException, IllegalValueException;
+    }
+}
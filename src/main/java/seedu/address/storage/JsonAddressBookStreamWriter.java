@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Product;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes an {@code AddressBook} to a JSON file in the format of {@link JsonSerializableAddressBook} one record at
+ * a time, adapting each menu entry, order and person only when it is written instead of building the whole
+ * {@code JsonSerializableAddressBook} first.
+ * The file is replaced atomically, so it is never left partially written.
+ */
+class JsonAddressBookStreamWriter {
+
+    private final ReadOnlyAddressBook addressBook;
+
+    /**
+     * Creates a writer for {@code addressBook}.
+     */
+    JsonAddressBookStreamWriter(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Writes the address book to {@code filePath}.
+     *
+     * @throws IOException if there was an error during writing to the file.
+     */
+    void write(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonUtil.writeJsonFile(filePath, this::writeAddressBook);
+    }
+
+    private void writeAddressBook(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("schemaVersion", JsonSerializableAddressBook.CURRENT_SCHEMA_VERSION);
+        generator.writeNumberField("orderIdCounter", addressBook.getOrderListCounter());
+
+        Map<String, Product> menuByName = new HashMap<>();
+        generator.writeArrayFieldStart("menu");
+        for (Product product : addressBook.getMenuList()) {
+            menuByName.put(product.getName(), product);
+            generator.writeObject(new JsonAdaptedProduct(product));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("orders");
+        for (Order order : addressBook.getOrderList()) {
+            generator.writeObject(new JsonAdaptedOrder(order, menuByName));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("persons");
+        for (Person person : addressBook.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+}
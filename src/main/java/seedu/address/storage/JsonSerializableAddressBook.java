@@ -2,14 +2,16 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
-import com.fasterxml.jackson.core.JsonProcessingException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -22,10 +24,22 @@ import seedu.address.model.person.Person;
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"schemaVersion", "orderIdCounter", "menu", "orders", "persons"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final Integer DEFAULT_EMPTY_ORDER_COUNTER = 1;
+    public static final String MESSAGE_UNSUPPORTED_SCHEMA_VERSION =
+            "Data file was saved by a newer version of the app (schema version %d).";
+
+    /**
+     * Version of the data file schema written by this class.
+     * Version 1, which has no {@code schemaVersion} field, keyed each order's products by their JSON string.
+     * Version 2 saves each order's product lines as an array that refers to menu products by name.
+     */
+    public static final int CURRENT_SCHEMA_VERSION = 2;
+
+    private final Integer schemaVersion;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedOrder> orders = new ArrayList<>();
@@ -36,10 +50,12 @@ class JsonSerializableAddressBook {
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("schemaVersion") Integer schemaVersion,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("orders") List<JsonAdaptedOrder> orders,
                                        @JsonProperty("orderIdCounter") Integer orderIdCounter,
                                        @JsonProperty("menu") List<JsonAdaptedProduct> menu) {
+        this.schemaVersion = schemaVersion;
         this.persons.addAll(persons);
         this.orders.addAll(orders);
         this.orderIdCounter = orderIdCounter;
@@ -51,12 +67,16 @@ class JsonSerializableAddressBook {
      *
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
-    public JsonSerializableAddressBook(ReadOnlyAddressBook source) throws JsonProcessingException {
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this.schemaVersion = CURRENT_SCHEMA_VERSION;
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        Map<String, Product> menuByName = new HashMap<>();
+        for (Product product : source.getMenuList()) {
+            menuByName.put(product.getName(), product);
+        }
         for (Order order : source.getOrderList()) {
-            orders.add(new JsonAdaptedOrder(order));
+            orders.add(new JsonAdaptedOrder(order, menuByName));
         }
-        //orders.addAll(source.getOrderList().stream().map(JsonAdaptedOrder::new).collect(Collectors.toList()));
         this.orderIdCounter = source.getOrderListCounter();
         menu.addAll(source.getMenuList().stream().map(JsonAdaptedProduct::new).collect(Collectors.toList()));
     }
@@ -67,31 +87,78 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException, IOException {
+        checkSchemaVersion(schemaVersion);
+
         AddressBook addressBook = new AddressBook();
+        Map<String, Product> menuByName = new HashMap<>();
         for (JsonAdaptedProduct jsonAdaptedProduct : menu) {
-            Product product = jsonAdaptedProduct.toModelType();
-            addressBook.addProduct(product);
-
+            addProduct(addressBook, jsonAdaptedProduct, menuByName);
         }
         for (JsonAdaptedOrder jsonAdaptedOrder : orders) {
-            Order order = jsonAdaptedOrder.toModelType();
-            addressBook.addOrderWithID(order);
+            addOrder(addressBook, jsonAdaptedOrder, menuByName);
         }
-        Optional<Integer> orderIdCounter = Optional.ofNullable(this.orderIdCounter);
-        addressBook.setOrderListIdCounter(orderIdCounter.orElse(DEFAULT_EMPTY_ORDER_COUNTER));
+        setOrderIdCounter(addressBook, orderIdCounter);
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            for (int orderId : jsonAdaptedPerson.getOrderIdList()) {
-                Order currOrder = addressBook.getOrderListClass().getOrder(orderId);
-                person.addOrder(currOrder);
-                currOrder.setCustomer(person);
-            }
-            addressBook.addPerson(person);
+            addPerson(addressBook, jsonAdaptedPerson);
         }
         return addressBook;
     }
 
+    /**
+     * Throws an {@code IllegalValueException} if {@code schemaVersion} is newer than this class can read.
+     * A null {@code schemaVersion} denotes the first version of the schema.
+     */
+    static void checkSchemaVersion(Integer schemaVersion) throws IllegalValueException {
+        if (schemaVersion != null && schemaVersion > CURRENT_SCHEMA_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_SCHEMA_VERSION, schemaVersion));
+        }
+    }
+
+    /**
+     * Adds the product in {@code jsonAdaptedProduct} to the menu of {@code addressBook} and to {@code menuByName}.
+     */
+    static void addProduct(AddressBook addressBook, JsonAdaptedProduct jsonAdaptedProduct,
+                           Map<String, Product> menuByName) throws IllegalValueException {
+        Product product = jsonAdaptedProduct.toModelType();
+        addressBook.addProduct(product);
+        menuByName.put(product.getName(), product);
+    }
+
+    /**
+     * Adds the order in {@code jsonAdaptedOrder}, whose products refer to {@code menuByName}, to
+     * {@code addressBook}.
+     */
+    static void addOrder(AddressBook addressBook, JsonAdaptedOrder jsonAdaptedOrder,
+                         Map<String, Product> menuByName) throws IllegalValueException, IOException {
+        Order order = jsonAdaptedOrder.toModelType(menuByName);
+        addressBook.addOrderWithID(order);
+    }
+
+    /**
+     * Sets the order id counter of {@code addressBook} to {@code orderIdCounter}, or to the default counter
+     * if it is null.
+     */
+    static void setOrderIdCounter(AddressBook addressBook, Integer orderIdCounter) {
+        addressBook.setOrderListIdCounter(Optional.ofNullable(orderIdCounter).orElse(DEFAULT_EMPTY_ORDER_COUNTER));
+    }
+
+    /**
+     * Adds the person in {@code jsonAdaptedPerson} to {@code addressBook} and links them to their orders,
+     * which must already be in {@code addressBook}.
+     */
+    static void addPerson(AddressBook addressBook, JsonAdaptedPerson jsonAdaptedPerson)
+            throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        List<Integer> orderIds = jsonAdaptedPerson.getOrderIdList();
+        for (int orderId : orderIds == null ? new ArrayList<Integer>() : orderIds) {
+            Order currOrder = addressBook.getOrderListClass().getOrder(orderId);
+            person.addOrder(currOrder);
+            addressBook.getOrderListClass().setCustomer(orderId, person);
+        }
+        addressBook.addPerson(person);
+    }
+
 }
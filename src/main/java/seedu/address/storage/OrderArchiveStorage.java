@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+
+/**
+ * Represents a storage for the archive of completed {@code Order}s, which can be queried after the orders are
+ * removed from the address book.
+ */
+public interface OrderArchiveStorage extends OrderArchive {
+
+    /**
+     * Returns the path of the directory holding the order archive.
+     */
+    Path getOrderArchiveDirectoryPath();
+
+    /**
+     * Appends {@code completedOrders} to the archive, as orders completed today.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void archiveOrders(List<Order> completedOrders) throws IOException;
+
+}
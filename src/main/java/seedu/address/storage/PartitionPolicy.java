@@ -0,0 +1,252 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Decides how files of completed orders are split into partitions by completion date, and how long the partitions
+ * are kept.
+ *
+ * Each partition covers a period of {@code partitionMonths} whole months, aligned so that every period starts at
+ * the same months each year when {@code partitionMonths} divides 12. A partition is closed once its period has
+ * ended, and is deleted once every order in it was completed more than {@code retentionMonths} months ago,
+ * unless {@code retentionMonths} is 0.
+ */
+public class PartitionPolicy {
+
+    public static final String MESSAGE_NON_POSITIVE_PARTITION_MONTHS = "Partition months must be positive.";
+    public static final String MESSAGE_NEGATIVE_RETENTION_MONTHS = "Retention months cannot be negative.";
+
+    /** Partitions files by completion month, and keeps every partition. */
+    public static final PartitionPolicy MONTHLY = new PartitionPolicy(1, 0);
+
+    /** Extension of a compressed partition, appended to the extension of the partition file. */
+    public static final String COMPRESSED_EXTENSION = ".gz";
+
+    private final int partitionMonths;
+    private final int retentionMonths;
+
+    /**
+     * Creates a {@code PartitionPolicy} with partitions of {@code partitionMonths} months, which are kept for
+     * {@code retentionMonths} months after their orders are completed, or forever if {@code retentionMonths} is 0.
+     */
+    public PartitionPolicy(int partitionMonths, int retentionMonths) {
+        checkArgument(partitionMonths > 0, MESSAGE_NON_POSITIVE_PARTITION_MONTHS);
+        checkArgument(retentionMonths >= 0, MESSAGE_NEGATIVE_RETENTION_MONTHS);
+        this.partitionMonths = partitionMonths;
+        this.retentionMonths = retentionMonths;
+    }
+
+    public int getPartitionMonths() {
+        return partitionMonths;
+    }
+
+    public int getRetentionMonths() {
+        return retentionMonths;
+    }
+
+    /**
+     * Returns the period of the partition for orders completed on {@code date}.
+     */
+    public Period periodOf(LocalDate date) {
+        requireNonNull(date);
+        YearMonth month = YearMonth.from(date);
+        long monthIndex = month.getYear() * 12L + month.getMonthValue() - 1;
+        long firstMonthIndex = Math.floorDiv(monthIndex, partitionMonths) * partitionMonths;
+        YearMonth firstMonth = YearMonth.of((int) Math.floorDiv(firstMonthIndex, 12L),
+                (int) Math.floorMod(firstMonthIndex, 12L) + 1);
+        return new Period(firstMonth, firstMonth.plusMonths(partitionMonths - 1));
+    }
+
+    /**
+     * Returns true if the partition of {@code period} should be deleted on {@code today}.
+     */
+    public boolean isExpired(Period period, LocalDate today) {
+        requireNonNull(period);
+        requireNonNull(today);
+        return retentionMonths > 0
+                && !period.getLastMonth().plusMonths(retentionMonths + 1L).isAfter(YearMonth.from(today));
+    }
+
+    /**
+     * Compresses {@code file} into a file of the same name with {@link #COMPRESSED_EXTENSION} appended, replacing
+     * {@code file}. The compressed file is written atomically, so a partition is never lost if the app stops while
+     * compressing it.
+     * @return the path of the compressed file.
+     */
+    public static Path compress(Path file) throws IOException {
+        requireNonNull(file);
+        Path compressedFile = file.resolveSibling(file.getFileName() + COMPRESSED_EXTENSION);
+        FileUtil.writeToFileAtomically(compressedFile, out -> {
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out);
+            Files.copy(file, gzipOut);
+            gzipOut.finish();
+        });
+        Files.delete(file);
+        return compressedFile;
+    }
+
+    /**
+     * Returns the content of {@code file}, decompressing it if its name ends with {@link #COMPRESSED_EXTENSION}.
+     */
+    public static byte[] readAllBytes(Path file) throws IOException {
+        requireNonNull(file);
+        if (!file.getFileName().toString().endsWith(COMPRESSED_EXTENSION)) {
+            return Files.readAllBytes(file);
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PartitionPolicy)) {
+            return false;
+        }
+
+        PartitionPolicy otherPolicy = (PartitionPolicy) other;
+        return partitionMonths == otherPolicy.partitionMonths
+                && retentionMonths == otherPolicy.retentionMonths;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partitionMonths, retentionMonths);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("partitionMonths", partitionMonths)
+                .add("retentionMonths", retentionMonths)
+                .toString();
+    }
+
+    /**
+     * Represents the months covered by a partition, from its first month to its last month inclusive.
+     * It is named after its months, e.g. {@code 2024-09} for one month or {@code 2024-07_2024-09} for several.
+     */
+    public static class Period implements Comparable<Period> {
+
+        /** Matches the name of a period. */
+        public static final String NAME_REGEX = "\\d{4}-\\d{2}(?:_\\d{4}-\\d{2})?";
+
+        private static final Pattern NAME_PATTERN =
+                Pattern.compile("(?<first>\\d{4}-\\d{2})(?:_(?<last>\\d{4}-\\d{2}))?");
+        private static final String MONTHS_SEPARATOR = "_";
+
+        private final YearMonth firstMonth;
+        private final YearMonth lastMonth;
+
+        /**
+         * Creates a {@code Period} from {@code firstMonth} to {@code lastMonth}, which cannot be before it.
+         */
+        public Period(YearMonth firstMonth, YearMonth lastMonth) {
+            requireNonNull(firstMonth);
+            requireNonNull(lastMonth);
+            checkArgument(!lastMonth.isBefore(firstMonth));
+            this.firstMonth = firstMonth;
+            this.lastMonth = lastMonth;
+        }
+
+        /**
+         * Returns the period named {@code name}, or an empty {@code Optional} if it is not the name of a period.
+         */
+        public static Optional<Period> parse(String name) {
+            requireNonNull(name);
+            Matcher matcher = NAME_PATTERN.matcher(name);
+            if (!matcher.matches()) {
+                return Optional.empty();
+            }
+            try {
+                YearMonth firstMonth = YearMonth.parse(matcher.group("first"));
+                String last = matcher.group("last");
+                YearMonth lastMonth = last == null ? firstMonth : YearMonth.parse(last);
+                if (lastMonth.isBefore(firstMonth)) {
+                    return Optional.empty();
+                }
+                return Optional.of(new Period(firstMonth, lastMonth));
+            } catch (DateTimeParseException e) {
+                return Optional.empty();
+            }
+        }
+
+        public YearMonth getFirstMonth() {
+            return firstMonth;
+        }
+
+        public YearMonth getLastMonth() {
+            return lastMonth;
+        }
+
+        /**
+         * Returns true if the period has any day from {@code from} to {@code to} inclusive.
+         */
+        public boolean overlaps(LocalDate from, LocalDate to) {
+            return !firstMonth.atDay(1).isAfter(to) && !lastMonth.atEndOfMonth().isBefore(from);
+        }
+
+        /**
+         * Returns true if the period ended before {@code date}.
+         */
+        public boolean endsBefore(LocalDate date) {
+            return lastMonth.isBefore(YearMonth.from(date));
+        }
+
+        @Override
+        public int compareTo(Period other) {
+            int firstMonthComparison = firstMonth.compareTo(other.firstMonth);
+            return firstMonthComparison != 0 ? firstMonthComparison : lastMonth.compareTo(other.lastMonth);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Period)) {
+                return false;
+            }
+
+            Period otherPeriod = (Period) other;
+            return firstMonth.equals(otherPeriod.firstMonth)
+                    && lastMonth.equals(otherPeriod.lastMonth);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(firstMonth, lastMonth);
+        }
+
+        @Override
+        public String toString() {
+            return firstMonth.equals(lastMonth) ? firstMonth.toString()
+                    : firstMonth + MONTHS_SEPARATOR + lastMonth;
+        }
+    }
+}
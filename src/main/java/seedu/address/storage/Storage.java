@@ -2,12 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.OrderArchive;
 
 /**
  * API of the Storage component
@@ -29,6 +31,58 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, Completed
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Writes {@code addressBook} to the data file before returning, even if changes are journalled or written
+     * behind, and clears the journal, if any, once the data file is written.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Saves the completed {@code Order}s of {@code addressBook} for archiving purposes, and appends them to the
+     * order archive, if any.
+     * @throws IOException if there was any problem writing to the files.
+     */
     @Override
     void saveCompletedOrders(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Returns the archive of the orders saved by {@link #saveCompletedOrders(ReadOnlyAddressBook)}.
+     * Returns an archive with no orders if completed orders are not archived.
+     */
+    OrderArchive getOrderArchive();
+
+    /**
+     * Returns the commands journalled since the data file was last written, oldest first.
+     * Returns an empty list if changes are not journalled.
+     *
+     * @throws DataLoadingException if loading the journal from storage failed.
+     */
+    List<String> readJournal() throws DataLoadingException;
+
+    /**
+     * Records {@code commandText} as a command that changed the address book.
+     * Does nothing if changes are not journalled.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(String commandText) throws IOException;
+
+    /**
+     * Moves the journal aside to a new file, so that its commands are kept but no longer replayed, and returns the
+     * path of that file. Returns {@code Optional.empty()} if changes are not journalled.
+     * @throws IOException if there was any problem moving the file.
+     */
+    Optional<Path> setAsideJournal() throws IOException;
+
+    /**
+     * Writes any saved data that has not been written to disk yet, and waits for the write to complete.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Flushes any saved data that has not been written to disk yet and releases the resources used for saving.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void close() throws IOException;
 }
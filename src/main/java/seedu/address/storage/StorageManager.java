@@ -2,7 +2,10 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.DoubleConsumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,6 +13,8 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -22,14 +27,68 @@ public class StorageManager implements Storage {
 
     private CompletedOrderStorage completedOrderStorage;
 
+    /** Archives completed orders so that they can be queried, or null if they are not archived. */
+    private OrderArchiveStorage orderArchiveStorage;
+
+    /** Records every change since the data file was last written, or null if every save writes the data file. */
+    private JournalStorage journalStorage;
+    private int journalCompactionThreshold;
+    private ReadOnlyAddressBook lastSavedAddressBook;
+
+    /** Writes the address book in the background, or null if every save is written synchronously. */
+    private WriteBehindPersistence writeBehindPersistence;
+
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that saves synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
                           CompletedOrderStorage completedOrderStorage) {
+        this(addressBookStorage, userPrefsStorage, completedOrderStorage, null, 0, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that lets saved data stay unwritten for at most {@code maxSaveStalenessMillis}, coalescing saves issued
+     * in that window into a single write. A value of 0 writes every save synchronously.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          CompletedOrderStorage completedOrderStorage, long maxSaveStalenessMillis) {
+        this(addressBookStorage, userPrefsStorage, completedOrderStorage, null, maxSaveStalenessMillis, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that records changes in {@code journalStorage} and only writes the data file once the journal holds
+     * {@code journalCompactionThreshold} records, after which the journal is cleared.
+     * See {@link #StorageManager(AddressBookStorage, UserPrefsStorage, CompletedOrderStorage, long)} for
+     * {@code maxSaveStalenessMillis}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          CompletedOrderStorage completedOrderStorage, JournalStorage journalStorage,
+                          long maxSaveStalenessMillis, int journalCompactionThreshold) {
+        this(addressBookStorage, userPrefsStorage, completedOrderStorage, null, journalStorage,
+                maxSaveStalenessMillis, journalCompactionThreshold);
+    }
+
+    /**
+     * Creates a {@code StorageManager} as in
+     * {@link #StorageManager(AddressBookStorage, UserPrefsStorage, CompletedOrderStorage, JournalStorage, long, int)}
+     * that also appends completed orders to {@code orderArchiveStorage}, if it is not null.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          CompletedOrderStorage completedOrderStorage, OrderArchiveStorage orderArchiveStorage,
+                          JournalStorage journalStorage, long maxSaveStalenessMillis, int journalCompactionThreshold) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.completedOrderStorage = completedOrderStorage;
+        this.orderArchiveStorage = orderArchiveStorage;
+        this.journalStorage = journalStorage;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        if (maxSaveStalenessMillis > 0) {
+            this.writeBehindPersistence = new WriteBehindPersistence(addressBookStorage, journalStorage,
+                    maxSaveStalenessMillis);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -68,9 +127,57 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(DoubleConsumer progressListener)
+            throws DataLoadingException, IOException {
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook(progressListener);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (journalStorage != null) {
+            lastSavedAddressBook = addressBook;
+            if (journalStorage.getJournalSize() < journalCompactionThreshold) {
+                return;
+            }
+            logger.info("Compacting journal " + journalStorage.getJournalFilePath() + " into data file: "
+                    + addressBookStorage.getAddressBookFilePath());
+        }
+        writeSnapshot(addressBook);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The data file is written before returning even if saves are written behind, since the changes are not in the
+     * journal and would otherwise be lost if the app stopped before the next background write.
+     */
+    @Override
+    public void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        lastSavedAddressBook = addressBook;
+        // The background writer also writes the data file while holding the address book's lock, so holding it
+        // here keeps the two writes apart without waiting for the writer's pending changes.
+        synchronized (addressBook) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            if (journalStorage != null) {
+                journalStorage.clearJournal();
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to the data file and clears the journal, if any, once the write succeeds.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        if (writeBehindPersistence != null) {
+            logger.fine("Marking data file as dirty: " + addressBookStorage.getAddressBookFilePath());
+            writeBehindPersistence.markDirty(addressBook);
+            return;
+        }
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (journalStorage != null) {
+            journalStorage.clearJournal();
+        }
     }
 
     @Override
@@ -79,9 +186,92 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * Does nothing if no orders were completed, which is the case for most commands.
+     * The orders are written synchronously even if saves are written behind, since the journal does not keep the
+     * orders it completes and they would otherwise be lost if the app stopped before the next background write.
+     */
     @Override
     public void saveCompletedOrders(ReadOnlyAddressBook addressBook) throws IOException {
+        List<Order> completedOrders = addressBook.getCompletedOrderList();
+        if (completedOrders.isEmpty()) {
+            return;
+        }
         completedOrderStorage.saveCompletedOrders(addressBook);
+        archiveOrders(completedOrders);
+    }
+
+    /**
+     * Appends {@code completedOrders} to the order archive, if any, so that the orders can be queried as soon as
+     * the command that completed them returns.
+     */
+    private void archiveOrders(List<Order> completedOrders) throws IOException {
+        if (orderArchiveStorage == null) {
+            return;
+        }
+        logger.fine("Archiving " + completedOrders.size() + " completed orders to: "
+                + orderArchiveStorage.getOrderArchiveDirectoryPath());
+        orderArchiveStorage.archiveOrders(completedOrders);
+    }
+
+    @Override
+    public OrderArchive getOrderArchive() {
+        return orderArchiveStorage == null ? OrderArchive.EMPTY : orderArchiveStorage;
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public List<String> readJournal() throws DataLoadingException {
+        if (journalStorage == null) {
+            return new ArrayList<>();
+        }
+        logger.fine("Attempting to read journal file: " + journalStorage.getJournalFilePath());
+        return journalStorage.readJournal();
+    }
+
+    @Override
+    public void appendToJournal(String commandText) throws IOException {
+        if (journalStorage != null) {
+            journalStorage.appendToJournal(commandText);
+        }
+    }
+
+    @Override
+    public Optional<Path> setAsideJournal() throws IOException {
+        if (journalStorage == null) {
+            return Optional.empty();
+        }
+        logger.fine("Attempting to set aside journal file: " + journalStorage.getJournalFilePath());
+        return Optional.of(journalStorage.setAsideJournal());
+    }
+
+    // ================ Write-behind methods ==============================
+
+    @Override
+    public void flush() throws IOException {
+        if (writeBehindPersistence != null) {
+            writeBehindPersistence.flush();
+        }
+        completedOrderStorage.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (journalStorage != null && lastSavedAddressBook != null && journalStorage.getJournalSize() > 0) {
+                writeSnapshot(lastSavedAddressBook);
+            }
+        } finally {
+            try {
+                if (writeBehindPersistence != null) {
+                    writeBehindPersistence.close();
+                }
+            } finally {
+                completedOrderStorage.close();
+            }
+        }
     }
 
 }
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command journal stored as a plain text file, one command text per line.
+ */
+public class TextJournalStorage implements JournalStorage {
+
+    public static final String MESSAGE_MULTILINE_RECORD = "A journal record cannot span multiple lines.";
+
+    private Path filePath;
+
+    /** Number of records in the journal file, or -1 if it has not been counted yet. */
+    private int size = -1;
+
+    public TextJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<String> readJournal() throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            size = 0;
+            return new ArrayList<>();
+        }
+
+        try (Stream<String> lines = Files.lines(filePath, StandardCharsets.UTF_8)) {
+            List<String> records = lines.filter(line -> !line.isEmpty()).collect(Collectors.toList());
+            size = records.size();
+            return records;
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void appendToJournal(String commandText) throws IOException {
+        requireNonNull(commandText);
+        checkArgument(commandText.indexOf('\n') < 0 && commandText.indexOf('\r') < 0, MESSAGE_MULTILINE_RECORD);
+
+        int currentSize = getJournalSize();
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, (commandText + System.lineSeparator()).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = currentSize + 1;
+    }
+
+    @Override
+    public Path setAsideJournal() throws IOException {
+        Path setAsideFilePath = filePath.resolveSibling(
+                filePath.getFileName() + ".failed-" + System.currentTimeMillis());
+        Files.move(filePath, setAsideFilePath);
+        size = 0;
+        return setAsideFilePath;
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+        size = 0;
+    }
+
+    @Override
+    public int getJournalSize() throws IOException {
+        if (size < 0) {
+            if (!FileUtil.isFileExists(filePath)) {
+                size = 0;
+            } else {
+                try (Stream<String> lines = Files.lines(filePath, StandardCharsets.UTF_8)) {
+                    size = (int) lines.filter(line -> !line.isEmpty()).count();
+                }
+            }
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Persists the address book on a dedicated writer thread instead of on the thread executing commands.
+ * Changes are marked dirty and coalesced so that a burst of commands results in a single snapshot write,
+ * issued at most {@code maxStalenessMillis} after the first unsaved change. If a journal is given, it is cleared
+ * once the snapshot that contains its records has been written.
+ *
+ * The snapshot is written while holding the lock of the {@code ReadOnlyAddressBook} being saved, so callers that
+ * mutate the address book must do so while holding that same lock. {@link #flush()} must not be called while
+ * holding that lock.
+ */
+class WriteBehindPersistence {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindPersistence.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final JournalStorage journalStorage;
+    private final long maxStalenessMillis;
+    private final ScheduledExecutorService writer;
+
+    /** Serialises writes issued by the writer thread and by {@link #flush()}. */
+    private final Object writeLock = new Object();
+
+    // The fields below are guarded by this.
+    private ReadOnlyAddressBook dirtyAddressBook;
+    private ScheduledFuture<?> scheduledWrite;
+    private IOException lastFailure;
+
+    /**
+     * Creates a {@code WriteBehindPersistence} that writes to {@code addressBookStorage} at most
+     * {@code maxStalenessMillis} after a change is marked dirty.
+     */
+    WriteBehindPersistence(AddressBookStorage addressBookStorage, long maxStalenessMillis) {
+        this(addressBookStorage, null, maxStalenessMillis);
+    }
+
+    /**
+     * Creates a {@code WriteBehindPersistence} that writes to {@code addressBookStorage} at most
+     * {@code maxStalenessMillis} after a change is marked dirty, and clears {@code journalStorage}, if it is
+     * not null, after each write of the address book.
+     */
+    WriteBehindPersistence(AddressBookStorage addressBookStorage, JournalStorage journalStorage,
+                           long maxStalenessMillis) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.journalStorage = journalStorage;
+        this.maxStalenessMillis = maxStalenessMillis;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Marks {@code addressBook} as changed so that it is written by the next scheduled write.
+     *
+     * @throws IOException if the previous background write failed.
+     */
+    synchronized void markDirty(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        dirtyAddressBook = addressBook;
+        scheduleWrite();
+        throwLastFailure();
+    }
+
+    /**
+     * Writes all pending changes immediately and waits for the write to complete.
+     *
+     * @throws IOException if the write failed.
+     */
+    void flush() throws IOException {
+        writePending();
+    }
+
+    /**
+     * Flushes all pending changes and stops the writer thread.
+     *
+     * @throws IOException if the final write failed.
+     */
+    void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    /**
+     * Returns true if there are changes that have not been written yet.
+     */
+    synchronized boolean hasPendingChanges() {
+        return dirtyAddressBook != null;
+    }
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+        if (scheduledWrite == null && !writer.isShutdown()) {
+            scheduledWrite = writer.schedule(this::writeInBackground, maxStalenessMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void throwLastFailure() throws IOException {
+        assert Thread.holdsLock(this);
+        if (lastFailure != null) {
+            IOException failure = lastFailure;
+            lastFailure = null;
+            throw failure;
+        }
+    }
+
+    private void writeInBackground() {
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Background save failed, will retry on the next change: " + e.getMessage());
+            synchronized (this) {
+                lastFailure = e;
+            }
+        }
+    }
+
+    private void writePending() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBookToSave;
+            synchronized (this) {
+                addressBookToSave = dirtyAddressBook;
+                dirtyAddressBook = null;
+                if (scheduledWrite != null) {
+                    scheduledWrite.cancel(false);
+                    scheduledWrite = null;
+                }
+            }
+
+            try {
+                writeAddressBook(addressBookToSave);
+            } catch (IOException e) {
+                requeue(addressBookToSave);
+                throw e;
+            }
+
+            synchronized (this) {
+                lastFailure = null;
+            }
+        }
+    }
+
+    private void writeAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBook == null) {
+            return;
+        }
+        // Journal records are appended while holding the address book's lock, so every record in the journal
+        // at this point is contained in the snapshot.
+        synchronized (addressBook) {
+            addressBookStorage.saveAddressBook(addressBook);
+            if (journalStorage != null) {
+                journalStorage.clearJournal();
+            }
+        }
+    }
+
+    /**
+     * Puts an address book that failed to be written back into the pending state, unless newer changes have been
+     * marked dirty in the meantime.
+     */
+    private synchronized void requeue(ReadOnlyAddressBook addressBook) {
+        if (dirtyAddressBook == null) {
+            dirtyAddressBook = addressBook;
+        }
+    }
+}
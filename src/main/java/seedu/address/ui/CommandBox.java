@@ -1,8 +1,15 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -10,6 +17,9 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * As the user types at the end of the command, completions of the last argument are suggested below the command box,
+ * and the first suggestion can be accepted with the Tab key. The completions come from a {@link CompletionSupplier},
+ * which is asked again each time the command changes.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -17,18 +27,33 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CompletionSupplier completionSupplier;
+    private final ContextMenu suggestionMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which suggests no completions.
      */
     public CommandBox(CommandExecutor commandExecutor) {
+        this(commandExecutor, commandText -> List.of());
+    }
+
+    /**
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CompletionSupplier}.
+     */
+    public CommandBox(CommandExecutor commandExecutor, CompletionSupplier completionSupplier) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.completionSupplier = completionSupplier;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // the caret is moved after the text changes, so completions are suggested again once it has moved
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> suggestCompletions());
+        commandTextField.caretPositionProperty().addListener((unused1, unused2, unused3) -> suggestCompletions());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
+        suggestionMenu.setAutoHide(true);
     }
 
     /**
@@ -41,6 +66,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        suggestionMenu.hide();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -49,6 +75,47 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Suggests the completions of the command text below the command box, if the caret is at its end.
+     */
+    private void suggestCompletions() {
+        String commandText = commandTextField.getText();
+        List<String> completions = commandTextField.getCaretPosition() < commandText.length()
+                ? List.of()
+                : completionSupplier.complete(commandText);
+        if (completions.isEmpty()) {
+            suggestionMenu.hide();
+            return;
+        }
+
+        suggestionMenu.getItems().clear();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> acceptCompletion(completion));
+            suggestionMenu.getItems().add(item);
+        }
+        if (!suggestionMenu.isShowing()) {
+            suggestionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Accepts the first suggested completion when the Tab key is pressed while completions are suggested.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() != KeyCode.TAB || !suggestionMenu.isShowing() || suggestionMenu.getItems().isEmpty()) {
+            return;
+        }
+        acceptCompletion(suggestionMenu.getItems().get(0).getText());
+        event.consume();
+    }
+
+    private void acceptCompletion(String completion) {
+        commandTextField.setText(completion);
+        commandTextField.positionCaret(completion.length());
+        suggestionMenu.hide();
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +149,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that suggests completions of commands.
+     */
+    @FunctionalInterface
+    public interface CompletionSupplier {
+        /**
+         * Returns the completions of the command, best first.
+         *
+         * @see seedu.address.logic.Logic#getCommandCompletions(String)
+         */
+        List<String> complete(String commandText);
+    }
+
 }
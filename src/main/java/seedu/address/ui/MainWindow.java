@@ -136,16 +136,17 @@ public class MainWindow extends UiPart<Stage> {
 
         //personListPanel.setOnPersonSelectedCallback(this::showPersonOrders);
 
-        orderListPanel = new OrderListPanel(logic.getFilteredOrderList());
+        orderListPanel = new OrderListPanel(logic.getFilteredOrderList(), logic.getOrderDeadlines());
         orderListPanelPlaceholder.getChildren().add(orderListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(),
+                logic.getAddressBook().getOrderList(), logic.getOrderStatistics());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCommandCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         productMenuPanel = new ProductMenuPanel(logic.getFilteredMenuList());
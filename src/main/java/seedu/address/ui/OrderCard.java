@@ -40,16 +40,17 @@ public class OrderCard extends UiPart<Region> {
 
 
     /**
-     * Creates an {@code OrderCard} with the given {@code Order} to display.
+     * Creates an {@code OrderCard} with the given {@code Order} to display, with its deadline highlighted if
+     * {@code isUrgent}.
      */
-    public OrderCard(Order order) {
+    public OrderCard(Order order, boolean isUrgent) {
         super(FXML);
         this.order = order;
         orderId.setText("Order " + order.getId());
 
         deadline.setText("Deadline: " + order.getDeadline());
         creationDate.setText("Created On: " + order.getCreationDate());
-        setDeadlineUrgency();
+        setDeadlineUrgency(isUrgent);
         customerName.setText(order.getCustomer().getName().fullName);
         totalCost.setText("Total Cost: " + order.getTotalCost());
         totalSales.setText("Total Sales: " + order.getTotalSales());
@@ -62,12 +63,11 @@ public class OrderCard extends UiPart<Region> {
 
     /**
      * Sets the text color of the {@code deadline} label based on the urgency of the deadline.
-     * If the deadline is within 3 days from the current date, the text color is set to red,
-     * indicating urgency. Otherwise, the text color is set to white, indicating that the
-     * deadline is not urgent.
+     * If the deadline is urgent, the text color is set to red. Otherwise, the text color is set to white,
+     * indicating that the deadline is not urgent.
      */
-    public void setDeadlineUrgency() {
-        if (order.getDeadlineObject() != null && order.getDeadlineObject().isWithinDaysFromNow(3)) {
+    private void setDeadlineUrgency(boolean isUrgent) {
+        if (isUrgent) {
             deadline.setStyle("-fx-text-fill: red;");
         } else {
             deadline.setStyle("-fx-text-fill: #FFFFFF;");
@@ -1,16 +1,25 @@
 package seedu.address.ui;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderDeadlines;
 
 /**
  * Panel containing list of orders.
+ * Orders due within {@link Deadline#URGENT_DAYS} days are highlighted. Whether an order is due is looked up in the
+ * deadline index of the orders, against a last urgent deadline that only changes at midnight.
  */
 public class OrderListPanel extends UiPart<Region> {
     private static final String FXML = "OrderListPanel.fxml";
@@ -19,15 +28,38 @@ public class OrderListPanel extends UiPart<Region> {
     @javafx.fxml.FXML
     private ListView<Order> orderListView;
 
+    private final OrderDeadlines orderDeadlines;
+    private final PauseTransition dayRollover = new PauseTransition();
+    private LocalDate lastUrgentDeadline;
+
     /**
-     * Creates a {@code OrderListPanel} with the given {@code ObservableList}.
+     * Creates a {@code OrderListPanel} with the given {@code ObservableList}, whose deadlines are indexed in
+     * {@code orderDeadlines}.
      */
-    public OrderListPanel(ObservableList<Order> orderList) {
+    public OrderListPanel(ObservableList<Order> orderList, OrderDeadlines orderDeadlines) {
         super(FXML);
+        this.orderDeadlines = orderDeadlines;
+        dayRollover.setOnFinished(event -> {
+            updateLastUrgentDeadline();
+            orderListView.refresh();
+        });
+        updateLastUrgentDeadline();
         orderListView.setItems(orderList);
         orderListView.setCellFactory(listView -> new OrderListPanel.OrderListViewCell());
     }
 
+    /**
+     * Sets the last urgent deadline from today's date, and schedules it to be set again at the next midnight.
+     */
+    private void updateLastUrgentDeadline() {
+        LocalDateTime now = LocalDateTime.now();
+        lastUrgentDeadline = now.toLocalDate().plusDays(Deadline.URGENT_DAYS);
+        LocalDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay();
+        dayRollover.setDuration(Duration.millis(ChronoUnit.MILLIS.between(now, nextMidnight) + 1));
+        dayRollover.playFromStart();
+        logger.fine("Highlighting orders due by " + lastUrgentDeadline);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of an {@code Order} using an {@code OrderCard}.
      */
@@ -40,7 +72,8 @@ public class OrderListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new OrderCard(order).getRoot());
+                boolean isUrgent = orderDeadlines.isDueBy(order.getId(), lastUrgentDeadline);
+                setGraphic(new OrderCard(order, isUrgent).getRoot());
             }
         }
     }
@@ -0,0 +1,32 @@
+package seedu.address.ui;
+
+import javafx.application.Preloader;
+import javafx.stage.Stage;
+
+/**
+ * Shows a {@code StartupWindow} with the progress of loading the data file until the main window is started.
+ */
+public class StartupPreloader extends Preloader {
+
+    private StartupWindow startupWindow;
+
+    @Override
+    public void start(Stage primaryStage) {
+        startupWindow = new StartupWindow(primaryStage);
+        startupWindow.show();
+    }
+
+    @Override
+    public void handleApplicationNotification(PreloaderNotification info) {
+        if (info instanceof ProgressNotification) {
+            startupWindow.setProgress(((ProgressNotification) info).getProgress());
+        }
+    }
+
+    @Override
+    public void handleStateChangeNotification(StateChangeNotification info) {
+        if (info.getType() == StateChangeNotification.Type.BEFORE_START) {
+            startupWindow.hide();
+        }
+    }
+}
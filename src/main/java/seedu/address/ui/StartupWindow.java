@@ -0,0 +1,47 @@
+package seedu.address.ui;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.ProgressBar;
+import javafx.stage.Stage;
+
+/**
+ * Controller for the window shown while the app is loading its data on startup.
+ */
+public class StartupWindow extends UiPart<Stage> {
+
+    private static final String FXML = "StartupWindow.fxml";
+
+    @FXML
+    private ProgressBar progressBar;
+
+    /**
+     * Creates a new StartupWindow.
+     *
+     * @param root Stage to use as the root of the StartupWindow.
+     */
+    public StartupWindow(Stage root) {
+        super(FXML, root);
+    }
+
+    /**
+     * Shows the startup window.
+     */
+    public void show() {
+        getRoot().show();
+        getRoot().centerOnScreen();
+    }
+
+    /**
+     * Sets the fraction of the data loaded so far, between 0 and 1.
+     */
+    public void setProgress(double progress) {
+        progressBar.setProgress(progress);
+    }
+
+    /**
+     * Hides the startup window.
+     */
+    public void hide() {
+        getRoot().hide();
+    }
+}
@@ -3,9 +3,13 @@ package seedu.address.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderStatistics;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -17,12 +21,25 @@ public class StatusBarFooter extends UiPart<Region> {
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label orderSummaryStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, and a summary of the running totals in
+     * {@code statistics} that is refreshed whenever the unfiltered list of active {@code orders} changes.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ObservableList<Order> orders, OrderStatistics statistics) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        orders.addListener((ListChangeListener<Order>) change -> showOrderSummary(statistics));
+        showOrderSummary(statistics);
+    }
+
+    private void showOrderSummary(OrderStatistics statistics) {
+        OrderStatistics.Totals totals = statistics.getOverall();
+        orderSummaryStatus.setText("Active orders: " + totals.getOrderCount()
+                + " | Sales: $" + totals.getTotalSales()
+                + " | Profit: $" + totals.getProfit());
     }
 
 }
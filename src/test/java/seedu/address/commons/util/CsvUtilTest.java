@@ -0,0 +1,22 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseCsvLine_unquotedFields_splitAtCommas() {
+        assertEquals(List.of("product", "Cupcake", "1", ""), CsvUtil.parseCsvLine("product,Cupcake,1,"));
+        assertEquals(List.of(""), CsvUtil.parseCsvLine(""));
+    }
+
+    @Test
+    public void parseCsvLine_quotedFields_keepCommasAndEscapedQuotes() {
+        assertEquals(List.of("customer", "Blk 30, #06-40", "say \"hi\""),
+                CsvUtil.parseCsvLine("customer,\"Blk 30, #06-40\",\"say \"\"hi\"\"\""));
+    }
+}
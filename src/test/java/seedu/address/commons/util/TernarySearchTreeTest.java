@@ -0,0 +1,80 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TernarySearchTreeTest {
+
+    private final TernarySearchTree tree = new TernarySearchTree();
+
+    @BeforeEach
+    public void setUp() {
+        for (String value : List.of("Cupcake", "cookie", "Carrot Cake", "Brownie", "91234567", "91239999", "")) {
+            tree.add(value);
+        }
+    }
+
+    @Test
+    public void getStringsWithPrefix_matchingPrefix_returnsMatchesInOrder() {
+        assertEquals(List.of("Carrot Cake", "cookie", "Cupcake"), tree.getStringsWithPrefix("c", 10));
+        assertEquals(List.of("cookie"), tree.getStringsWithPrefix("CO", 10));
+        assertEquals(List.of("Cupcake"), tree.getStringsWithPrefix("cupcake", 10));
+        assertEquals(List.of("91234567", "91239999"), tree.getStringsWithPrefix("9123", 10));
+        assertEquals(List.of("Carrot Cake"), tree.getStringsWithPrefix("c", 1));
+        assertEquals(6, tree.getStringsWithPrefix("", 10).size());
+    }
+
+    @Test
+    public void getStringsWithPrefix_noMatch_returnsEmptyList() {
+        assertEquals(List.of(), tree.getStringsWithPrefix("Cupcakes", 10));
+        assertEquals(List.of(), tree.getStringsWithPrefix("d", 10));
+        assertEquals(List.of(), new TernarySearchTree().getStringsWithPrefix("c", 10));
+    }
+
+    @Test
+    public void getStringsWithPrefix_nonPositiveLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, TernarySearchTree.MESSAGE_NON_POSITIVE_LIMIT, () ->
+                tree.getStringsWithPrefix("c", 0));
+    }
+
+    @Test
+    public void getStringsWithSimilarPrefix_oneTypingError_returnsMatches() {
+        // substitution, deletion and insertion
+        assertEquals(List.of("Cupcake"), tree.getStringsWithSimilarPrefix("cupk", 1, 10, 1000));
+        assertEquals(List.of("Brownie"), tree.getStringsWithSimilarPrefix("bownie", 1, 10, 1000));
+        assertEquals(List.of("91234567"), tree.getStringsWithSimilarPrefix("912345", 1, 10, 1000));
+        assertEquals(List.of("Carrot Cake"), tree.getStringsWithSimilarPrefix("carrrot", 1, 10, 1000));
+
+        assertEquals(List.of(), tree.getStringsWithSimilarPrefix("cxxk", 1, 10, 1000));
+    }
+
+    @Test
+    public void getStringsWithSimilarPrefix_fewVisitsAllowed_returnsFewerMatches() {
+        assertEquals(List.of(), tree.getStringsWithSimilarPrefix("bownie", 1, 10, 1));
+    }
+
+    @Test
+    public void remove_addedValue_removedOnceForEachAdd() {
+        tree.add("Cupcake");
+        tree.remove("Cupcake");
+        assertEquals(List.of("Cupcake"), tree.getStringsWithPrefix("cu", 10));
+
+        tree.remove("Cupcake");
+        tree.remove("Cupcake");
+        tree.remove("Muffin");
+        assertEquals(List.of(), tree.getStringsWithPrefix("cu", 10));
+        assertEquals(List.of("Carrot Cake", "cookie"), tree.getStringsWithPrefix("c", 10));
+        assertEquals(5, tree.size());
+    }
+
+    @Test
+    public void add_sameKeyDifferentCase_bothKept() {
+        tree.add("COOKIE");
+        assertEquals(List.of("cookie", "COOKIE"), tree.getStringsWithPrefix("cook", 10));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WordMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WordMatcher(null));
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(new WordMatcher(List.of()).isEmpty());
+        assertTrue(new WordMatcher(List.of("", " \t ")).isEmpty());
+        assertFalse(new WordMatcher(List.of(" a ")).isEmpty());
+    }
+
+    @Test
+    public void matchesAnyWordIn_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WordMatcher(List.of("abc")).matchesAnyWordIn(null));
+    }
+
+    @Test
+    public void matchesAnyWordIn() {
+        WordMatcher matcher = new WordMatcher(List.of("bBb", "  Clementi\tRD ", "#02-25"));
+
+        // no words in sentence
+        assertFalse(matcher.matchesAnyWordIn(""));
+        assertFalse(matcher.matchesAnyWordIn(" \n "));
+
+        // matches a partial word only
+        assertFalse(matcher.matchesAnyWordIn("aaa bb ccc"));
+        assertFalse(matcher.matchesAnyWordIn("aaa bbbb ccc"));
+        assertFalse(matcher.matchesAnyWordIn("ClementiRd"));
+
+        // matches first, middle and last words, ignoring case and extra whitespace
+        assertTrue(matcher.matchesAnyWordIn("BBB aaa"));
+        assertTrue(matcher.matchesAnyWordIn("311, Clementi Ave 2, #02-25"));
+        assertTrue(matcher.matchesAnyWordIn("  aaa\r\n\fRd  "));
+        assertTrue(matcher.matchesAnyWordIn("bbb"));
+
+        // no keywords
+        assertFalse(new WordMatcher(List.of()).matchesAnyWordIn("aaa bbb"));
+    }
+}
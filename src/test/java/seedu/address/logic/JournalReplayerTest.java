@@ -0,0 +1,148 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AddMenuCommand;
+import seedu.address.logic.commands.AddOrderCommand;
+import seedu.address.logic.commands.AddProductCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.RestoreOrderLineCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Product;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalReplayerTest {
+
+    private static final String ADD_AMY_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+    private static final String ADD_CUPCAKE_COMMAND = AddMenuCommand.COMMAND_WORD + " pn/Cupcake pc/1 ps/2";
+
+    private final JournalReplayer journalReplayer = new JournalReplayer();
+
+    @Test
+    public void replay_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> journalReplayer.replay(null, new ModelManager()));
+        assertThrows(NullPointerException.class, () -> journalReplayer.replay(new ArrayList<>(), null));
+    }
+
+    @Test
+    public void replay_validCommands_modelUpdated() throws Exception {
+        Model model = new ModelManager();
+        List<String> journal = Arrays.asList(ClearCommand.COMMAND_WORD, ADD_AMY_COMMAND);
+
+        assertEquals(2, journalReplayer.replay(journal, model));
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void replay_invalidCommand_stopsAtInvalidCommand() {
+        Model model = new ModelManager();
+        List<String> journal = Arrays.asList(ADD_AMY_COMMAND, "uicfhmowqewca", ClearCommand.COMMAND_WORD);
+
+        assertThrows(JournalReplayException.class, "Journal record [uicfhmowqewca] could not be replayed: "
+                + MESSAGE_UNKNOWN_COMMAND, () -> journalReplayer.replay(journal, model));
+
+        // the command after the invalid one is not replayed
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void replay_batchWithInvalidCommand_noCommandOfBatchReplayed() {
+        Model model = new ModelManager();
+        List<String> journal = Arrays.asList(BatchCommand.JOURNAL_BEGIN, ADD_AMY_COMMAND, "uicfhmowqewca",
+                BatchCommand.JOURNAL_COMMIT);
+
+        assertThrows(JournalReplayException.class, "Journal record [uicfhmowqewca] could not be replayed: "
+                + MESSAGE_UNKNOWN_COMMAND, () -> journalReplayer.replay(journal, model));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void replay_unfinishedBatch_batchNotReplayed() {
+        Model model = new ModelManager();
+        List<String> journal = Arrays.asList(ClearCommand.COMMAND_WORD, BatchCommand.JOURNAL_BEGIN, ADD_AMY_COMMAND);
+
+        assertThrows(JournalReplayException.class, "Journal record [" + BatchCommand.JOURNAL_BEGIN
+                + "] could not be replayed: " + JournalReplayer.MESSAGE_UNFINISHED_BATCH, () ->
+                journalReplayer.replay(journal, model));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void replay_committedBatch_allCommandsReplayed() throws Exception {
+        Model model = new ModelManager();
+        List<String> journal = Arrays.asList(BatchCommand.JOURNAL_BEGIN, ClearCommand.COMMAND_WORD, ADD_AMY_COMMAND,
+                BatchCommand.JOURNAL_COMMIT);
+
+        assertEquals(4, journalReplayer.replay(journal, model));
+
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void replay_journalledProductCommands_orderRestoredWithoutLastOrder() throws Exception {
+        Model model = new ModelManager();
+        List<String> journal = new ArrayList<>(Arrays.asList(ADD_AMY_COMMAND, ADD_CUPCAKE_COMMAND));
+        journalReplayer.replay(journal, model);
+
+        AddressBookParser parser = new AddressBookParser();
+        for (String commandText : Arrays.asList(AddOrderCommand.COMMAND_WORD + PHONE_DESC_AMY + " by/31/12/2099",
+                AddProductCommand.COMMAND_WORD + " m/1 pq/2", AddProductCommand.COMMAND_WORD + " m/1 pq/3")) {
+            Command command = parser.parseCommand(commandText);
+            command.execute(model);
+            journal.addAll(command.getJournalEntries(commandText));
+        }
+        // the last created order is gone after a restart
+        AddProductCommand.setLastOrder(null);
+
+        Model replayedModel = new ModelManager();
+        assertEquals(journal.size(), journalReplayer.replay(journal, replayedModel));
+
+        assertEquals(model.getAddressBook(), replayedModel.getAddressBook());
+        Order order = model.getOrder(1);
+        Order replayedOrder = replayedModel.getOrder(1);
+        assertEquals(5, replayedOrder.getQuantityValue(new Product("Cupcake")));
+        assertEquals(order.getCreationDate(), replayedOrder.getCreationDate());
+        assertEquals(order.getDeadlineObject(), replayedOrder.getDeadlineObject());
+    }
+
+    @Test
+    public void replay_restoreOrderLine_creationDateKept() throws Exception {
+        Model model = new ModelManager();
+        List<String> journal = Arrays.asList(ADD_AMY_COMMAND, ADD_CUPCAKE_COMMAND,
+                RestoreOrderLineCommand.COMMAND_WORD + " o/1" + PHONE_DESC_AMY + " created/01/02/2024 pn/Cupcake pq/2");
+
+        assertEquals(3, journalReplayer.replay(journal, model));
+
+        Order order = model.getOrder(1);
+        assertEquals("01/02/2024", order.getCreationDate());
+        assertEquals(2, order.getQuantityValue(new Product("Cupcake")));
+        assertEquals(null, order.getDeadlineObject());
+    }
+}
@@ -4,22 +4,34 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -33,6 +45,7 @@ import seedu.address.storage.CsvCompletedOrderStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextJournalStorage;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -86,6 +99,116 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_journalledStorage_onlyMutatingCommandsJournalled() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(temporaryFolder.resolve("addressBook.journal"));
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new CsvCompletedOrderStorage(temporaryFolder.resolve("completedOrders.csv")),
+                journalStorage, 0, UserPrefs.DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+        logic = new LogicManager(model, storage);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(addCommand);
+
+        assertEquals(Arrays.asList(addCommand), journalStorage.readJournal());
+    }
+
+    @Test
+    public void execute_batchOfValidCommands_listsChangedOnceAndJournalledPerCommand() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(temporaryFolder.resolve("addressBook.journal"));
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new CsvCompletedOrderStorage(temporaryFolder.resolve("completedOrders.csv")),
+                journalStorage, 0, UserPrefs.DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+        logic = new LogicManager(model, storage);
+        List<Integer> changedPersonCounts = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                changedPersonCounts.add(change.getList().size()));
+
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String addBobCommand = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+                + EMAIL_DESC_BOB + ADDRESS_DESC_BOB;
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.write(scriptFile, Arrays.asList("# new customers", addAmyCommand, "", ListCommand.COMMAND_WORD,
+                addBobCommand));
+
+        CommandResult result = logic.execute(BatchCommand.COMMAND_WORD + " " + scriptFile);
+
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 3, scriptFile), result.getFeedbackToUser());
+        Model expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).withTags().build());
+        expectedModel.addPerson(new PersonBuilder(BOB).withTags().build());
+        assertEquals(expectedModel, model);
+        assertEquals(Arrays.asList(2), changedPersonCounts);
+        assertEquals(Arrays.asList(BatchCommand.JOURNAL_BEGIN, addAmyCommand, addBobCommand,
+                BatchCommand.JOURNAL_COMMIT), journalStorage.readJournal());
+    }
+
+    @Test
+    public void execute_importWithJournalledStorage_dataFileWrittenInsteadOfJournal() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(temporaryFolder.resolve("addressBook.journal"));
+        Path dataFile = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(dataFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new CsvCompletedOrderStorage(temporaryFolder.resolve("completedOrders.csv")),
+                journalStorage, 0, UserPrefs.DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+        logic = new LogicManager(model, storage);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        Path csvFile = temporaryFolder.resolve("import.csv");
+        Files.write(csvFile, Arrays.asList("product,Cupcake,1,2"));
+
+        logic.execute(ImportCommand.COMMAND_WORD + " " + csvFile);
+
+        assertEquals(Arrays.asList(), journalStorage.readJournal());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(dataFile).readAddressBook().get());
+    }
+
+    @Test
+    public void execute_importWithWriteBehindStorage_dataFileWrittenBeforeReturning() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(temporaryFolder.resolve("addressBook.journal"));
+        Path dataFile = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(dataFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new CsvCompletedOrderStorage(temporaryFolder.resolve("completedOrders.csv")),
+                journalStorage, 60_000, UserPrefs.DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+        logic = new LogicManager(model, storage);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        Path csvFile = temporaryFolder.resolve("import.csv");
+        Files.write(csvFile, Arrays.asList("product,Cupcake,1,2"));
+
+        logic.execute(ImportCommand.COMMAND_WORD + " " + csvFile);
+
+        assertEquals(Arrays.asList(), journalStorage.readJournal());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(dataFile).readAddressBook().get());
+        storage.close();
+    }
+
+    @Test
+    public void execute_batchWithFailingCommand_nothingExecuted() throws Exception {
+        String addAmyCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        String deleteCommand = "delete c/9";
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.write(scriptFile, Arrays.asList(addAmyCommand, deleteCommand));
+        List<Integer> changedPersonCounts = new ArrayList<>();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                changedPersonCounts.add(change.getList().size()));
+
+        assertCommandException(BatchCommand.COMMAND_WORD + " " + scriptFile, String.format(
+                BatchCommand.MESSAGE_LINE_FAILED, 2, deleteCommand, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(Arrays.asList(), changedPersonCounts);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -20,14 +21,20 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.CompletionIndex;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.OrderDeadlines;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -138,6 +145,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBook copyAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Model createWorkingModel(AddressBook copy) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreAddressBook(AddressBook copy) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -153,6 +175,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void importData(List<Product> products, List<Person> persons, List<Order> orders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setOrder(Order target, Order editedOrder) {
             throw new AssertionError("This method should not be called.");
@@ -208,6 +235,36 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public OrderStatistics getOrderStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderStatistics getCompletedOrderStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderDeadlines getOrderDeadlines() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getOrderListAtStage(StageState stage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderArchive getOrderArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setOrderArchive(OrderArchive orderArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasProduct(Product product) {
             throw new AssertionError("This method should not be called.");
@@ -258,6 +315,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonSearchIndex getPersonSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletionIndex getCompletionIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredOrderList(Predicate<Order> predicate) {
             throw new AssertionError("This method should not be called.");
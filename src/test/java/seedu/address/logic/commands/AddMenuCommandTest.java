@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -18,14 +19,20 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
+import seedu.address.model.CompletionIndex;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.OrderDeadlines;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.testutil.ProductBuilder;
 
 public class AddMenuCommandTest {
@@ -127,6 +134,21 @@ public class AddMenuCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBook copyAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Model createWorkingModel(AddressBook copy) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreAddressBook(AddressBook copy) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -142,6 +164,11 @@ public class AddMenuCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void importData(List<Product> products, List<Person> persons, List<Order> orders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setOrder(Order target, Order editedOrder) {
             throw new AssertionError("This method should not be called.");
@@ -187,6 +214,36 @@ public class AddMenuCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public OrderStatistics getOrderStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderStatistics getCompletedOrderStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderDeadlines getOrderDeadlines() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getOrderListAtStage(StageState stage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderArchive getOrderArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setOrderArchive(OrderArchive orderArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasProduct(Product product) {
             throw new AssertionError("This method should not be called.");
@@ -237,6 +294,16 @@ public class AddMenuCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonSearchIndex getPersonSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletionIndex getCompletionIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Product findProductByIndex(int id) {
             throw new AssertionError("This method should not be called.");
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
@@ -9,6 +10,11 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ClearCommandTest {
 
@@ -29,4 +35,19 @@ public class ClearCommandTest {
         assertCommandSuccess(new ClearCommand(), model, ClearCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_afterCompletingOrder_completedOrderTotalsCleared() throws Exception {
+        Model model = new ModelManager();
+        Person customer = new PersonBuilder().build();
+        model.addPerson(customer);
+        Order order = new OrderBuilder().withProductPriceQuantity("Cupcake", "1", "2.5", "4")
+                .withStage(new UnderPreparationState()).build();
+        model.addOrder(order, customer);
+        model.completeOrder(order.getId());
+        model.clearCompletedOrders();
+
+        new ClearCommand().execute(model);
+
+        assertEquals(0, model.getCompletedOrderStatistics().getOverall().getOrderCount());
+    }
 }
@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.TimeManager;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DueCommand}.
+ */
+public class DueCommandTest {
+
+    private static Order orderDueInDays(int days) {
+        return new OrderBuilder().withStage(new UnderPreparationState())
+                .withDeadline(TimeManager.formatter(LocalDate.now().plusDays(days))).build();
+    }
+
+    @Test
+    public void execute_ordersWithDeadlines_listsDueOrdersEarliestFirst() {
+        Model model = new ModelManager();
+        Person customer = new PersonBuilder().build();
+        model.addPerson(customer);
+        Order dueLater = orderDueInDays(2);
+        Order overdue = orderDueInDays(-1);
+        Order notDue = orderDueInDays(10);
+        Order noDeadline = new OrderBuilder().withStage(new UnderPreparationState()).build();
+        for (Order order : List.of(dueLater, overdue, notDue, noDeadline)) {
+            model.addOrder(order, customer);
+        }
+
+        String result = new DueCommand(3).execute(model).getFeedbackToUser();
+
+        String customerName = customer.getName().fullName;
+        assertEquals(String.format(DueCommand.MESSAGE_SUCCESS, 2, TimeManager.formatter(LocalDate.now().plusDays(3)))
+                + String.format(DueCommand.MESSAGE_DUE_ORDER, overdue.getId(), customerName, overdue.getDeadline())
+                + String.format(DueCommand.MESSAGE_DUE_ORDER, dueLater.getId(), customerName, dueLater.getDeadline()),
+                result);
+        assertEquals(List.of(dueLater, overdue), model.getFilteredOrderList());
+    }
+
+    @Test
+    public void execute_noDueOrders_listsNoOrders() {
+        Model model = new ModelManager();
+        Person customer = new PersonBuilder().build();
+        model.addPerson(customer);
+        model.addOrder(orderDueInDays(1), customer);
+
+        String result = new DueCommand(0).execute(model).getFeedbackToUser();
+
+        assertEquals(String.format(DueCommand.MESSAGE_SUCCESS, 0, TimeManager.formatter(LocalDate.now())), result);
+        assertTrue(model.getFilteredOrderList().isEmpty());
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new DueCommand(3).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        DueCommand dueCommand = new DueCommand(3);
+
+        assertEquals(dueCommand, dueCommand);
+        assertEquals(dueCommand, new DueCommand(3));
+        assertNotEquals(dueCommand, new DueCommand(7));
+        assertNotEquals(dueCommand, null);
+        assertNotEquals(dueCommand, new StatsCommand());
+    }
+}
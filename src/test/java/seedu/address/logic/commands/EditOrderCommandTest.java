@@ -1,9 +1,12 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.fail;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -13,15 +16,24 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.CompletionIndex;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.exceptions.OrderNotFoundException;
 import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.OrderArchive;
+import seedu.address.model.order.OrderDeadlines;
+import seedu.address.model.order.OrderStatistics;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.Quantity;
+import seedu.address.model.order.stage.StageState;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 public class EditOrderCommandTest {
 
@@ -36,6 +48,18 @@ public class EditOrderCommandTest {
         }
     }
 
+    @Test
+    public void execute_totalsOverflow_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.addProduct(new Product("Cake", "999999999999", "999999999999"));
+        EditOrderCommand.EditOrderDescriptor descriptor = new EditOrderCommand.EditOrderDescriptor();
+        descriptor.setQuantity(new Quantity(100_000));
+        EditOrderCommand command = new EditOrderCommand(Index.fromOneBased(1),
+                Index.fromOneBased(model.getFilteredMenuList().size()), descriptor);
+
+        assertCommandFailure(command, model, Order.MESSAGE_TOTALS_TOO_LARGE);
+    }
+
     /**
      * A default model stub that have all the methods failing.
      */
@@ -85,6 +109,21 @@ public class EditOrderCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public AddressBook copyAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Model createWorkingModel(AddressBook copy) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void restoreAddressBook(AddressBook copy) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -100,6 +139,11 @@ public class EditOrderCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void importData(List<Product> products, List<Person> persons, List<Order> orders) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setOrder(Order target, Order editedOrder) {
             throw new AssertionError("This method should not be called.");
@@ -155,6 +199,36 @@ public class EditOrderCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public OrderStatistics getOrderStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderStatistics getCompletedOrderStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderDeadlines getOrderDeadlines() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getOrderListAtStage(StageState stage) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OrderArchive getOrderArchive() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setOrderArchive(OrderArchive orderArchive) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasProduct(Product product) {
             throw new AssertionError("This method should not be called.");
@@ -205,6 +279,16 @@ public class EditOrderCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonSearchIndex getPersonSearchIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CompletionIndex getCompletionIndex() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredOrderList(Predicate<Order> predicate) {
             throw new AssertionError("This method should not be called.");
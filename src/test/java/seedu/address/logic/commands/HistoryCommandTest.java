@@ -0,0 +1,118 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.order.ArchivedOrder;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.model.person.Person;
+import seedu.address.storage.BinaryOrderArchiveStorage;
+import seedu.address.storage.PartitionPolicy;
+import seedu.address.testutil.OrderBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and the order archive) for {@code HistoryCommand}.
+ */
+public class HistoryCommandTest {
+
+    private static final LocalDate AUGUST_31 = LocalDate.of(2024, 8, 31);
+    private static final LocalDate SEPTEMBER_1 = LocalDate.of(2024, 9, 1);
+    private static final LocalDate SEPTEMBER_15 = LocalDate.of(2024, 9, 15);
+    private static final LocalDate SEPTEMBER_30 = LocalDate.of(2024, 9, 30);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    private static Order orderOf(int id, Person customer) {
+        Order order = new OrderBuilder().withIndex(id).withStage(new UnderPreparationState())
+                .withProductPriceQuantity("Cupcake", "1", "2.5", "4").build();
+        order.setCustomer(customer);
+        return order;
+    }
+
+    private static void archive(Path directoryPath, LocalDate completionDate, Order... orders) throws Exception {
+        new BinaryOrderArchiveStorage(directoryPath, PartitionPolicy.MONTHLY,
+                Clock.fixed(completionDate.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC))
+                .archiveOrders(List.of(orders));
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Path directoryPath = temporaryFolder.resolve("archive");
+        archive(directoryPath, AUGUST_31, orderOf(1, ALICE), orderOf(2, BENSON));
+        archive(directoryPath, SEPTEMBER_15, orderOf(3, ALICE));
+        model.setOrderArchive(new BinaryOrderArchiveStorage(directoryPath));
+    }
+
+    @Test
+    public void execute_customerAndDates_ordersOfCustomerInRangeListed() throws Exception {
+        String result = new HistoryCommand("alice pauline", SEPTEMBER_1, SEPTEMBER_30).execute(model)
+                .getFeedbackToUser();
+
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, 1)
+                + "\n" + Messages.format(ArchivedOrder.of(orderOf(3, ALICE), SEPTEMBER_15))
+                + String.format(HistoryCommand.MESSAGE_TOTALS, "10.0", "4.0", "6.0"), result);
+    }
+
+    @Test
+    public void execute_datesOnly_ordersOfAllCustomersListed() throws Exception {
+        String result = new HistoryCommand(null, LocalDate.MIN, AUGUST_31).execute(model).getFeedbackToUser();
+
+        assertTrue(result.startsWith(String.format(HistoryCommand.MESSAGE_SUCCESS, 2)), result);
+        assertTrue(result.contains(ALICE.getName().fullName), result);
+        assertTrue(result.contains(BENSON.getName().fullName), result);
+        assertTrue(result.endsWith(String.format(HistoryCommand.MESSAGE_TOTALS, "20.0", "8.0", "12.0")), result);
+    }
+
+    @Test
+    public void execute_orderId_orderListed() throws Exception {
+        String result = new HistoryCommand(2).execute(model).getFeedbackToUser();
+        assertTrue(result.startsWith(String.format(HistoryCommand.MESSAGE_SUCCESS, 1)
+                + "\n" + Messages.format(ArchivedOrder.of(orderOf(2, BENSON), AUGUST_31))), result);
+    }
+
+    @Test
+    public void execute_noMatchingOrders_noneListed() throws Exception {
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, 0),
+                new HistoryCommand(9).execute(model).getFeedbackToUser());
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, 0),
+                new HistoryCommand("Carl Kurz", LocalDate.MIN, LocalDate.MAX).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new HistoryCommand(1).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        HistoryCommand aliceInSeptember = new HistoryCommand("Alice Pauline", SEPTEMBER_1, SEPTEMBER_30);
+
+        assertEquals(aliceInSeptember, aliceInSeptember);
+        assertEquals(aliceInSeptember, new HistoryCommand("Alice Pauline", SEPTEMBER_1, SEPTEMBER_30));
+        assertNotEquals(aliceInSeptember, new HistoryCommand(null, SEPTEMBER_1, SEPTEMBER_30));
+        assertNotEquals(aliceInSeptember, new HistoryCommand("Alice Pauline", AUGUST_31, SEPTEMBER_30));
+        assertNotEquals(new HistoryCommand(1), new HistoryCommand(2));
+        assertNotEquals(aliceInSeptember, null);
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.parser.ImportCommandParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Product;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and the csv file) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    private String importFile(String... lines) throws Exception {
+        Path file = temporaryFolder.resolve("import.csv");
+        Files.write(file, Arrays.asList(lines));
+        return new ImportCommandParser().parse(file.toString()).execute(model).getFeedbackToUser();
+    }
+
+    @Test
+    public void execute_validRows_allImported() throws Exception {
+        String result = importFile("type,fields",
+                "product,Cupcake,1,2.5",
+                "# customers",
+                "customer,\"" + VALID_NAME_AMY + "\"," + VALID_PHONE_AMY + "," + VALID_EMAIL_AMY + ",\""
+                        + VALID_ADDRESS_AMY + "\",friends;regular",
+                "order," + VALID_PHONE_AMY + ",Cupcake:4,01/01/2099,Ready For Delivery,02/03/2024");
+
+        assertTrue(result.startsWith("Imported 1 products, 1 customers and 1 orders"), result);
+        assertTrue(result.contains("(3 rows in "), result);
+        assertFalse(result.contains("Rejected"), result);
+
+        Person amy = model.getFilteredPersonList().get(0);
+        assertEquals(new PersonBuilder().withName(VALID_NAME_AMY).withPhone(VALID_PHONE_AMY)
+                .withEmail(VALID_EMAIL_AMY).withAddress(VALID_ADDRESS_AMY).withTags("friends", "regular").build(),
+                new PersonBuilder(amy).build());
+        Order order = model.getFilteredOrderList().get(0);
+        assertEquals(1, order.getId());
+        assertEquals(amy, order.getCustomer());
+        assertEquals(Arrays.asList(order), amy.getOrders());
+        assertEquals(model.getFilteredMenuList().get(0), order.getProductMap().keySet().iterator().next());
+        assertEquals(1000, order.getTotalSales().getCents());
+        assertEquals("01/01/2099", order.getDeadline());
+        assertEquals("Ready For Delivery", order.getStageContext().toString());
+        assertEquals("02/03/2024", order.getCreationDate());
+        assertEquals(1, model.getOrderStatistics().getOverall().getOrderCount());
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_rejectedOthersImported() throws Exception {
+        model.addPerson(new PersonBuilder(ALICE).build());
+        String result = importFile("product,Cupcake,1,2",
+                "product,Cupcake,1,3",
+                "product,Cookie,abc,1",
+                "customer,Alice Pauline,99999999,alice@example.com,Somewhere",
+                "order," + ALICE.getPhone() + ",Cupcake:2",
+                "order," + ALICE.getPhone() + ",Muffin:2",
+                "order,12345678,Cupcake:1",
+                "refund,1");
+
+        assertTrue(result.startsWith("Imported 1 products, 0 customers and 1 orders"), result);
+        assertTrue(result.endsWith(String.format(ImportCommand.MESSAGE_REJECTED_ROWS, 6)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 2, AddMenuCommand.MESSAGE_DUPLICATE_PRODUCT)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 3, Product.MESSAGE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 4, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 6,
+                        String.format(ImportCommand.MESSAGE_PRODUCT_NOT_FOUND, "Muffin"))
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 7,
+                        String.format(ImportCommand.MESSAGE_CUSTOMER_NOT_FOUND, "12345678"))
+                + String.format(ImportCommand.MESSAGE_REJECTED_ROW, 8, ImportCommandParser.MESSAGE_UNKNOWN_ROW_TYPE)),
+                result);
+
+        Person alice = model.getFilteredPersonList().get(0);
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(alice, model.getFilteredOrderList().get(0).getCustomer());
+        assertEquals(1, alice.getOrders().size());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingFile = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missingFile), model,
+                String.format(ImportCommand.MESSAGE_UNREADABLE_FILE, missingFile));
+    }
+
+    @Test
+    public void execute_fileChangedAfterParsing_currentRowsImported() throws Exception {
+        Path file = temporaryFolder.resolve("import.csv");
+        ImportCommand importCommand = new ImportCommandParser().parse(file.toString());
+        Files.write(file, Arrays.asList("product,Cupcake,1,2"));
+
+        importCommand.execute(model);
+
+        assertTrue(model.hasProduct(new Product("Cupcake", "1", "2")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importFirstCommand = new ImportCommand(temporaryFolder.resolve("first.csv"));
+        ImportCommand importSecondCommand = new ImportCommand(temporaryFolder.resolve("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same file -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(temporaryFolder.resolve("first.csv"))));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    @Test
+    public void isReplayable() {
+        assertFalse(new ImportCommand(temporaryFolder).isReplayable());
+    }
+}
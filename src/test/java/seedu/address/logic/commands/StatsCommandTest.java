@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    private static final String NO_ORDERS = "0 orders, 0 items; Sales: $0.0; Cost: $0.0; Profit: $0.0";
+
+    @Test
+    public void execute_noOrders_showsEmptyTotals() {
+        String expectedMessage = "Active orders: " + NO_ORDERS + "\n"
+                + "By stage:\n"
+                + "  Under Preparation: " + NO_ORDERS + "\n"
+                + "  Ready For Delivery: " + NO_ORDERS + "\n"
+                + "  Sent For Delivery: " + NO_ORDERS + "\n"
+                + "  Received By Customer: " + NO_ORDERS + "\n"
+                + "By product:\n"
+                + "By customer:\n"
+                + "By creation date:\n"
+                + "Completed orders: " + NO_ORDERS;
+        assertCommandSuccess(new StatsCommand(), new ModelManager(), expectedMessage, new ModelManager());
+    }
+
+    @Test
+    public void execute_activeAndCompletedOrders_showsTotals() throws Exception {
+        Model model = new ModelManager();
+        Person customer = new PersonBuilder().build();
+        model.addPerson(customer);
+        Order cupcakes = new OrderBuilder().withProductPriceQuantity("Cupcake", "1", "2.5", "4")
+                .withStage(new UnderPreparationState()).build();
+        Order cookies = new OrderBuilder().withProductPriceQuantity("Cookie", "0.5", "1", "2")
+                .withStage(new UnderPreparationState()).build();
+        model.addOrder(cupcakes, customer);
+        model.addOrder(cookies, customer);
+        model.completeOrder(cookies.getId());
+
+        String cupcakeTotals = "1 orders, 4 items; Sales: $10.0; Cost: $4.0; Profit: $6.0";
+        String result = new StatsCommand().execute(model).getFeedbackToUser();
+
+        assertEquals("Active orders: " + cupcakeTotals + "\n"
+                + "By stage:\n"
+                + "  Under Preparation: " + cupcakeTotals + "\n"
+                + "  Ready For Delivery: " + NO_ORDERS + "\n"
+                + "  Sent For Delivery: " + NO_ORDERS + "\n"
+                + "  Received By Customer: " + NO_ORDERS + "\n"
+                + "By product:\n"
+                + "  Cupcake: " + cupcakeTotals + "\n"
+                + "By customer:\n"
+                + "  " + customer.getName().fullName + ": " + cupcakeTotals + "\n"
+                + "By creation date:\n"
+                + "  " + cupcakes.getCreationDate() + ": " + cupcakeTotals + "\n"
+                + "Completed orders: 1 orders, 2 items; Sales: $2.0; Cost: $1.0; Profit: $1.0", result);
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new StatsCommand().isMutating());
+    }
+}
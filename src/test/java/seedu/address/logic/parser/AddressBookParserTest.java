@@ -16,13 +16,16 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCustomerCommand;
+import seedu.address.logic.commands.DueCommand;
 import seedu.address.logic.commands.EditCustomerCommand;
 import seedu.address.logic.commands.EditCustomerCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindPersonCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Deadline;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -90,6 +93,18 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_due() throws Exception {
+        assertEquals(new DueCommand(Deadline.URGENT_DAYS), parser.parseCommand(DueCommand.COMMAND_WORD));
+        assertEquals(new DueCommand(7), parser.parseCommand(DueCommand.COMMAND_WORD + " 7"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -100,4 +115,36 @@ public class AddressBookParserTest {
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
+
+    @Test
+    public void parseCommand_whitespaceAfterCommandWord_parsesArguments() throws Exception {
+        assertEquals(new DueCommand(7), parser.parseCommand("  " + DueCommand.COMMAND_WORD + "\t7  "));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("due7"));
+    }
+
+    @Test
+    public void registerCommand_newCommandWordAndAliases_parsesCommand() throws Exception {
+        parser.registerCommand(arguments -> new DueCommand(Integer.parseInt(arguments.trim())), "soon", "s");
+        assertEquals(new DueCommand(3), parser.parseCommand("soon 3"));
+        assertEquals(new DueCommand(5), parser.parseCommand("s 5"));
+        assertTrue(parser.getCommandWords().containsAll(List.of("soon", "s", DueCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void registerCommand_registeredCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                String.format(AddressBookParser.MESSAGE_DUPLICATE_COMMAND_WORD, ListCommand.COMMAND_WORD), ()
+                -> parser.registerCommand(arguments -> new ListCommand(), "ls", ListCommand.COMMAND_WORD));
+
+        // no word is registered if any of them is invalid
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("ls"));
+    }
+
+    @Test
+    public void registerCommand_invalidCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                String.format(AddressBookParser.MESSAGE_INVALID_COMMAND_WORD, "list all"), ()
+                -> parser.registerCommand(arguments -> new ListCommand(), "list all"));
+        assertThrows(IllegalArgumentException.class, () -> parser.registerCommand(arguments -> new ListCommand(), ""));
+    }
 }
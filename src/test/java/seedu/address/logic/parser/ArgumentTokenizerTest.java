@@ -136,6 +136,23 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingCharacters() {
+        Prefix pQuestion = new Prefix("p?");
+        Prefix pSlashSlash = new Prefix("p//");
+        String argsString = "preamble p/ one p// two p?three p/p// four pp/ five";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pQuestion, pSlashSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, pSlash, "one", "p// four pp/ five");
+        assertArgumentPresent(argMultimap, pSlashSlash, "two");
+        assertArgumentPresent(argMultimap, pQuestion, "three");
+
+        // Same prefixes given in a different order
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlashSlash, pQuestion, pSlash);
+        assertArgumentPresent(argMultimap, pSlash, "one", "p// four pp/ five");
+        assertArgumentPresent(argMultimap, pSlashSlash, "two");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    private Path writeScript(String... lines) throws Exception {
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.write(scriptFile, Arrays.asList(lines));
+        return scriptFile;
+    }
+
+    @Test
+    public void parse_validScript_skipsBlankAndCommentLines() throws Exception {
+        Path scriptFile = writeScript("# start afresh", ClearCommand.COMMAND_WORD, "   ", ListCommand.COMMAND_WORD,
+                "  " + ClearCommand.COMMAND_WORD + "  ");
+
+        BatchCommand command = parser.parse(" " + scriptFile + " ");
+
+        // only the mutating commands are journalled, without surrounding whitespace, as one batch
+        assertEquals(List.of(BatchCommand.JOURNAL_BEGIN, ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD,
+                BatchCommand.JOURNAL_COMMIT),
+                command.getJournalEntries(BatchCommand.COMMAND_WORD + " " + scriptFile));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseException() throws Exception {
+        Path scriptFile = writeScript(ClearCommand.COMMAND_WORD, "unknown");
+        assertParseFailure(parser, scriptFile.toString(),
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2, "unknown", MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_nestedBatch_throwsParseException() throws Exception {
+        Path scriptFile = writeScript(BatchCommand.COMMAND_WORD + " other.txt");
+        assertParseFailure(parser, scriptFile.toString(), String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 1,
+                BatchCommand.COMMAND_WORD + " other.txt", BatchCommandParser.MESSAGE_NESTED_BATCH));
+    }
+
+    @Test
+    public void parse_noCommands_throwsParseException() throws Exception {
+        Path scriptFile = writeScript("# nothing to do", "");
+        assertParseFailure(parser, scriptFile.toString(),
+                String.format(BatchCommandParser.MESSAGE_EMPTY_SCRIPT, scriptFile));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        String missingFile = temporaryFolder.resolve("missing.txt").toString();
+        assertParseFailure(parser, missingFile, String.format(BatchCommandParser.MESSAGE_UNREADABLE_SCRIPT,
+                missingFile));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+
+import seedu.address.model.CompletionIndex;
+import seedu.address.testutil.ProductBuilder;
+
+public class CommandCompleterTest {
+
+    private final CommandCompleter completer = new CommandCompleter(new CompletionIndex(
+            FXCollections.observableArrayList(ALICE, BENSON),
+            FXCollections.observableArrayList(new ProductBuilder().withName("Cupcake").build())));
+
+    @Test
+    public void complete_completableArgument_completesLastArgument() {
+        assertEquals(List.of("order p/94351253"), completer.complete("order p/9435"));
+        assertEquals(List.of("find n/Alice Pauline"), completer.complete("find n/alice P"));
+        assertEquals(List.of("edit m/1 pn/ Cupcake"), completer.complete("edit m/1 pn/ cu"));
+        assertEquals(List.of("order   p/98765432"), completer.complete("order   p/98765"));
+    }
+
+    @Test
+    public void complete_nothingToComplete_returnsEmptyList() {
+        // no value typed yet
+        assertEquals(List.of(), completer.complete("order p/"));
+        // last argument cannot be completed
+        assertEquals(List.of(), completer.complete("order p/94351253 by/01/09"));
+        assertEquals(List.of(), completer.complete("find a/alice"));
+        // not an argument
+        assertEquals(List.of(), completer.complete("alice"));
+        assertEquals(List.of(), completer.complete("find xn/alice"));
+        // value already complete
+        assertEquals(List.of(), completer.complete("order p/94351253"));
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.DueCommand;
+import seedu.address.model.order.Deadline;
+
+public class DueCommandParserTest {
+
+    private final DueCommandParser parser = new DueCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDueCommand() {
+        assertParseSuccess(parser, "", new DueCommand(Deadline.URGENT_DAYS));
+        assertParseSuccess(parser, " 7 ", new DueCommand(7));
+        assertParseSuccess(parser, " 0", new DueCommand(0));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, DueCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " -1", invalidFormat);
+        assertParseFailure(parser, " 100000", invalidFormat);
+        assertParseFailure(parser, " a week", invalidFormat);
+    }
+}
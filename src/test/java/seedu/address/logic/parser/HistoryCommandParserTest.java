@@ -0,0 +1,50 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.model.person.Name;
+
+public class HistoryCommandParserTest {
+
+    private final HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_customerAndDates_success() {
+        assertParseSuccess(parser, " n/Alex Yeoh from/01/09/2024 to/2024-09-30",
+                new HistoryCommand("Alex Yeoh", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 30)));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_success() {
+        assertParseSuccess(parser, "", new HistoryCommand(null, LocalDate.MIN, LocalDate.MAX));
+        assertParseSuccess(parser, " from/01/09/2024",
+                new HistoryCommand(null, LocalDate.of(2024, 9, 1), LocalDate.MAX));
+    }
+
+    @Test
+    public void parse_orderId_success() {
+        assertParseSuccess(parser, " o/12", new HistoryCommand(12));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "Alex Yeoh", invalidFormat);
+        assertParseFailure(parser, " o/12 n/Alex Yeoh", invalidFormat);
+        assertParseFailure(parser, " o/0", ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " n/Alex*", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " from/next week", MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " from/02/09/2024 to/01/09/2024", HistoryCommandParser.MESSAGE_INVALID_DATE_RANGE);
+        assertParseFailure(parser, " to/01/09/2024 to/02/09/2024",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_TO));
+    }
+}
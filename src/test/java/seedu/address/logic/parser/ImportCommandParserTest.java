@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportCommand.ImportRows;
+import seedu.address.model.order.Product;
+
+public class ImportCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_filePath_returnsImportCommand() {
+        Path file = temporaryFolder.resolve("import.csv");
+        assertParseSuccess(parser, " " + file + " ", new ImportCommand(file));
+    }
+
+    @Test
+    public void parseRows_productRow_productParsed() throws Exception {
+        Path file = temporaryFolder.resolve("import.csv");
+        Files.write(file, List.of("type,name,cost,sales", "product,Cupcake,1,2"));
+
+        ImportRows expectedRows = new ImportRows();
+        expectedRows.addProduct(2, new Product("Cupcake", "1", "2"));
+        assertEquals(expectedRows, ImportCommandParser.parseRows(file));
+    }
+
+    @Test
+    public void parseRows_invalidRow_rowRejected() throws Exception {
+        Path file = temporaryFolder.resolve("import.csv");
+        Files.write(file, List.of("# comment", "cake,Cupcake,1,2"));
+
+        ImportRows expectedRows = new ImportRows();
+        expectedRows.reject(2, ImportCommandParser.MESSAGE_UNKNOWN_ROW_TYPE);
+        assertEquals(expectedRows, ImportCommandParser.parseRows(file));
+    }
+
+    @Test
+    public void parseRows_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> ImportCommandParser.parseRows(temporaryFolder.resolve("missing.csv")));
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.order.Quantity;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
@@ -193,4 +194,15 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseQuantity_outOfRangeInput_throwsParseException() {
+        assertThrows(ParseException.class, Quantity.MESSAGE_CONSTRAINTS, ()
+            -> ParserUtil.parseQuantity(Long.toString(Integer.MAX_VALUE + 1L)));
+    }
+
+    @Test
+    public void parseQuantity_largeInput_success() throws Exception {
+        assertEquals(new Quantity(Integer.MAX_VALUE), ParserUtil.parseQuantity(" " + Integer.MAX_VALUE + " "));
+    }
 }
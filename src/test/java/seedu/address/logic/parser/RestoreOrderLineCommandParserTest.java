@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RestoreOrderLineCommand;
+import seedu.address.model.order.CreationDate;
+import seedu.address.model.order.Deadline;
+import seedu.address.model.order.Product;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.person.Phone;
+
+public class RestoreOrderLineCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RestoreOrderLineCommand.MESSAGE_USAGE);
+
+    private RestoreOrderLineCommandParser parser = new RestoreOrderLineCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        RestoreOrderLineCommand expectedCommand = new RestoreOrderLineCommand(3, new Phone("98765432"),
+                new CreationDate("01/02/2024"), new Deadline("05/02/2024"), new Product("Cupcake"), new Quantity(4));
+
+        assertParseSuccess(parser, " o/3 p/98765432 created/01/02/2024 by/05/02/2024 pn/Cupcake pq/4",
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_noDeadline_success() {
+        RestoreOrderLineCommand expectedCommand = new RestoreOrderLineCommand(3, new Phone("98765432"),
+                new CreationDate("01/02/2024"), null, new Product("Cupcake"), new Quantity(4));
+
+        assertParseSuccess(parser, " o/3 p/98765432 created/01/02/2024 pn/Cupcake pq/4", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no creation date
+        assertParseFailure(parser, " o/3 p/98765432 pn/Cupcake pq/4", MESSAGE_INVALID_FORMAT);
+
+        // no order ID
+        assertParseFailure(parser, " p/98765432 created/01/02/2024 pn/Cupcake pq/4", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidCreationDate_failure() {
+        assertParseFailure(parser, " o/3 p/98765432 created/2024 pn/Cupcake pq/4", MESSAGE_INVALID_DATE);
+    }
+}
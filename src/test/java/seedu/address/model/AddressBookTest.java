@@ -20,8 +20,10 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.Product;
+import seedu.address.model.order.stage.UnderPreparationState;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.OrderBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -45,6 +47,43 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_afterCompletingOrder_replacesCompletedOrderTotals() {
+        Person customer = new PersonBuilder().build();
+        addressBook.addPerson(customer);
+        Order order = new OrderBuilder().withProductPriceQuantity("Cupcake", "1", "2", "3")
+                .withStage(new UnderPreparationState()).build();
+        order.setCustomer(customer);
+        addressBook.addOrder(order);
+        addressBook.completeOrder(order.getId());
+
+        addressBook.resetData(new AddressBook());
+
+        assertEquals(0, addressBook.getCompletedOrderStatistics().getOverall().getOrderCount());
+    }
+
+    @Test
+    public void copyAndRestore_copyChangedInPlace_originalUnchangedAndRestored() {
+        Person customer = new PersonBuilder().build();
+        addressBook.addPerson(customer);
+        Order order = new OrderBuilder().withProductPriceQuantity("Cupcake", "1", "2", "3")
+                .withStage(new UnderPreparationState()).build();
+        order.setCustomer(customer);
+        addressBook.addOrder(order);
+        AddressBook expectedAddressBook = addressBook.copy();
+
+        AddressBook copy = addressBook.copy();
+        copy.goToNextStage(copy.findOrderByIndex(order.getId()));
+        copy.completeOrder(order.getId());
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(new UnderPreparationState(), order.getStageContext().getState());
+        assertEquals(1, customer.getOrders().size());
+
+        addressBook.restore(copy);
+        assertEquals(copy, addressBook);
+        assertEquals(1, addressBook.getCompletedOrderStatistics().getOverall().getOrderCount());
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
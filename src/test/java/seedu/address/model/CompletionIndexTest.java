@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import seedu.address.model.CompletionIndex.Field;
+import seedu.address.model.order.Product;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ProductBuilder;
+
+public class CompletionIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE);
+    private final ObservableList<Product> products = FXCollections.observableArrayList(
+            new ProductBuilder().withName("Cupcake").build());
+    private final CompletionIndex completionIndex = new CompletionIndex(persons, products);
+
+    @Test
+    public void suggest_initialValues_suggestsCompletions() {
+        assertEquals(List.of(ALICE.getName().fullName), completionIndex.suggest(Field.NAME, "ali", 5));
+        assertEquals(List.of(ALICE.getPhone().value), completionIndex.suggest(Field.PHONE, "9435", 5));
+        assertEquals(List.of("Cupcake"), completionIndex.suggest(Field.PRODUCT_NAME, "cup", 5));
+        assertEquals(List.of(), completionIndex.suggest(Field.PRODUCT_NAME, "ali", 5));
+    }
+
+    @Test
+    public void suggest_listsChange_followsLists() {
+        persons.add(BENSON);
+        assertEquals(List.of(BENSON.getName().fullName), completionIndex.suggest(Field.NAME, "ben", 5));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("94350000").build();
+        persons.set(0, editedAlice);
+        assertEquals(List.of("94350000"), completionIndex.suggest(Field.PHONE, "9435", 5));
+
+        persons.setAll(List.of(BENSON));
+        assertEquals(List.of(), completionIndex.suggest(Field.NAME, "ali", 5));
+
+        products.add(new ProductBuilder().withName("Cookie").build());
+        assertEquals(List.of("Cookie", "Cupcake"), completionIndex.suggest(Field.PRODUCT_NAME, "c", 5));
+    }
+
+    @Test
+    public void suggest_typingError_suggestsSimilarValuesAfterMatches() {
+        products.add(new ProductBuilder().withName("Cupboard").build());
+        products.add(new ProductBuilder().withName("Cuppa").build());
+
+        assertEquals(List.of("Cuppa", "Cupboard", "Cupcake"), completionIndex.suggest(Field.PRODUCT_NAME, "cupp", 5));
+        assertEquals(List.of("Cuppa"), completionIndex.suggest(Field.PRODUCT_NAME, "cupp", 1));
+
+        // too little has been typed to suggest similar values
+        assertEquals(List.of(), completionIndex.suggest(Field.PRODUCT_NAME, "xu", 5));
+    }
+}
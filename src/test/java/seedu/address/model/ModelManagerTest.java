@@ -2,21 +2,33 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PRODUCT_CUPCAKE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_QUANTITY_ONE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.stage.ReadyForDeliveryState;
+import seedu.address.model.order.stage.UnderPreparationState;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.OrderBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +105,101 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void findPersonByPhoneNumber_personFilteredOut_returnsPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        String[] keywords = BENSON.getName().fullName.split("\\s+");
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+
+        assertEquals(Optional.of(ALICE), modelManager.findPersonByPhoneNumber(ALICE.getPhone().value));
+    }
+
+    @Test
+    public void findPersonByPhoneNumber_unknownOrInvalidPhone_returnsEmpty() {
+        modelManager.addPerson(ALICE);
+        assertEquals(Optional.empty(), modelManager.findPersonByPhoneNumber("00000000"));
+        assertEquals(Optional.empty(), modelManager.findPersonByPhoneNumber("not a phone"));
+    }
+
+    @Test
+    public void getCompletionIndex_personAddedBeforeFirstRequest_suggested() {
+        modelManager.addPerson(ALICE);
+        CompletionIndex completionIndex = modelManager.getCompletionIndex();
+        modelManager.addPerson(BENSON);
+
+        assertSame(completionIndex, modelManager.getCompletionIndex());
+        assertEquals(List.of(ALICE.getName().fullName), completionIndex.suggest(CompletionIndex.Field.NAME, "ali", 5));
+        assertEquals(List.of(BENSON.getName().fullName), completionIndex.suggest(CompletionIndex.Field.NAME, "ben", 5));
+    }
+
+    @Test
+    public void getOrderListAtStage_orderAdded_addedToItsStage() {
+        ModelManager model = createModelWithOrders();
+        ObservableList<Order> underPreparation = model.getOrderListAtStage(new UnderPreparationState());
+        Order newOrder = new OrderBuilder().withProductQuantity(VALID_PRODUCT_CUPCAKE, VALID_QUANTITY_ONE)
+                .withStage(new UnderPreparationState()).build();
+
+        model.addOrder(newOrder, model.getFilteredPersonList().get(0));
+
+        assertEquals(List.of(1, 2, 3, 4), idsOf(underPreparation));
+        assertEquals(List.of(), idsOf(model.getOrderListAtStage(new ReadyForDeliveryState())));
+    }
+
+    @Test
+    public void getOrderListAtStage_orderStaged_movedToNextStage() {
+        ModelManager model = createModelWithOrders();
+        ObservableList<Order> underPreparation = model.getOrderListAtStage(new UnderPreparationState());
+        ObservableList<Order> readyForDelivery = model.getOrderListAtStage(new ReadyForDeliveryState());
+
+        // as done by StageCommand
+        Order orderToStage = new Order(model.getOrder(2));
+        model.setOrder(orderToStage, model.goToNextStage(orderToStage));
+
+        assertEquals(List.of(1, 3), idsOf(underPreparation));
+        assertEquals(List.of(2), idsOf(readyForDelivery));
+    }
+
+    @Test
+    public void getOrderListAtStage_orderCompleted_removedFromStage() {
+        ModelManager model = createModelWithOrders();
+        ObservableList<Order> underPreparation = model.getOrderListAtStage(new UnderPreparationState());
+
+        model.completeOrder(1);
+
+        assertEquals(List.of(2, 3), idsOf(underPreparation));
+    }
+
+    @Test
+    public void getOrderListAtStage_orderDeleted_removedFromStage() {
+        ModelManager model = createModelWithOrders();
+        ObservableList<Order> underPreparation = model.getOrderListAtStage(new UnderPreparationState());
+
+        model.deleteOrder(2);
+
+        assertEquals(List.of(1, 3), idsOf(underPreparation));
+    }
+
+    @Test
+    public void getOrderListAtStage_addressBookRestored_sameViewsUpdated() {
+        ModelManager model = createModelWithOrders();
+        ObservableList<Order> underPreparation = model.getOrderListAtStage(new UnderPreparationState());
+        ObservableList<Order> readyForDelivery = model.getOrderListAtStage(new ReadyForDeliveryState());
+        AddressBook copy = model.copyAddressBook();
+        Model workingModel = model.createWorkingModel(copy);
+        Order orderToStage = new Order(workingModel.getOrder(3));
+        workingModel.setOrder(orderToStage, workingModel.goToNextStage(orderToStage));
+        workingModel.deleteOrder(1);
+
+        // the views of the model are untouched until the copy is restored
+        assertEquals(List.of(1, 2, 3), idsOf(underPreparation));
+        model.restoreAddressBook(copy);
+
+        assertSame(underPreparation, model.getOrderListAtStage(new UnderPreparationState()));
+        assertEquals(List.of(2), idsOf(underPreparation));
+        assertEquals(List.of(3), idsOf(readyForDelivery));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -129,4 +236,16 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    /**
+     * Returns a model of the typical address book, whose orders 1 to 3 are under preparation. The orders are copied
+     * so that staging them does not change the stage they share with the orders of other tests.
+     */
+    private static ModelManager createModelWithOrders() {
+        return new ModelManager(getTypicalAddressBook().copy(), new UserPrefs());
+    }
+
+    private static List<Integer> idsOf(List<Order> orders) {
+        return orders.stream().map(Order::getId).collect(Collectors.toList());
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.model.order;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -60,6 +61,14 @@ public class MatchingOrderIndexPredicateTest {
         assertFalse(predicate.test(new OrderBuilder().withIndex(56789).build()));
     }
 
+    @Test
+    public void test_emptyOrMultiWordInput_throwsIllegalArgumentException() {
+        Order order = new OrderBuilder().withIndex(12345).build();
+        assertThrows(IllegalArgumentException.class, () -> new MatchingOrderIndexPredicate(List.of(" ")).test(order));
+        assertThrows(IllegalArgumentException.class, () ->
+                new MatchingOrderIndexPredicate(List.of("12345 6789")).test(order));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> numbers = List.of("123", "456");
@@ -0,0 +1,84 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Money.parse(null));
+    }
+
+    @Test
+    public void parse_invalidMoney_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Money.parse("$5"));
+    }
+
+    @Test
+    public void parse_validMoney_roundsToNearestCent() {
+        assertEquals(500, Money.parse("5").getCents());
+        assertEquals(510, Money.parse("5.1").getCents());
+        assertEquals(-510, Money.parse("-5.1").getCents());
+        assertEquals(10, Money.parse(".1").getCents());
+        assertEquals(13, Money.parse("0.125").getCents()); // half rounds up
+        assertEquals(12, Money.parse("0.1249").getCents());
+        assertSame(Money.ZERO, Money.parse("0.00"));
+    }
+
+    @Test
+    public void isValidMoney() {
+        // null amount
+        assertThrows(NullPointerException.class, () -> Money.isValidMoney(null));
+
+        // invalid amounts
+        assertFalse(Money.isValidMoney("")); // empty string
+        assertFalse(Money.isValidMoney(" 1")); // leading space
+        assertFalse(Money.isValidMoney("1.")); // no digits after the decimal point
+        assertFalse(Money.isValidMoney("1,000")); // separators
+        assertFalse(Money.isValidMoney("1234567890123")); // too many whole units
+
+        // valid amounts
+        assertTrue(Money.isValidMoney("0"));
+        assertTrue(Money.isValidMoney("+12.5"));
+        assertTrue(Money.isValidMoney("-0.05"));
+        assertTrue(Money.isValidMoney("123456789012")); // most whole units
+        assertTrue(Money.isValidMoney("000000000000012")); // leading zeros do not count
+    }
+
+    @Test
+    public void format() {
+        assertEquals("0.0", Money.format(0));
+        assertEquals("3.0", Money.format(300));
+        assertEquals("12.5", Money.format(1250));
+        assertEquals("12.05", Money.format(1205));
+        assertEquals("-0.05", Money.format(-5));
+        assertEquals("-12.5", Money.format(-1250));
+        assertEquals("12.5", Money.parse("12.50").toString());
+    }
+
+    @Test
+    public void equals() {
+        Money money = Money.parse("2.5");
+
+        // same values -> returns true
+        assertTrue(money.equals(Money.ofCents(250)));
+
+        // same object -> returns true
+        assertTrue(money.equals(money));
+
+        // null -> returns false
+        assertFalse(money.equals(null));
+
+        // different types -> returns false
+        assertFalse(money.equals(2.5f));
+
+        // same type, different value -> returns false
+        assertFalse(money.equals(Money.ofCents(251)));
+    }
+}
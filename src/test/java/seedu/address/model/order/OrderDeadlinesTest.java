@@ -0,0 +1,83 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.OrderBuilder;
+
+public class OrderDeadlinesTest {
+
+    private static final LocalDate SEPTEMBER_1 = LocalDate.of(2024, 9, 1);
+    private static final LocalDate SEPTEMBER_2 = LocalDate.of(2024, 9, 2);
+    private static final LocalDate SEPTEMBER_3 = LocalDate.of(2024, 9, 3);
+
+    private final OrderDeadlines deadlines = new OrderDeadlines();
+
+    private static Order orderDueOn(String deadline) {
+        return new OrderBuilder().withDeadline(deadline).build();
+    }
+
+    @Test
+    public void add_ordersWithDeadlines_indexedByDeadline() {
+        deadlines.add(3, orderDueOn("03/09/2024"));
+        deadlines.add(2, orderDueOn("01/09/2024"));
+        deadlines.add(1, orderDueOn("03/09/2024"));
+
+        assertEquals(3, deadlines.size());
+        assertEquals(List.of(2, 1, 3), deadlines.getOrderIdsDueBetween(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(List.of(1, 3), deadlines.getOrderIdsDueBetween(SEPTEMBER_2, SEPTEMBER_3));
+        assertEquals(List.of(), deadlines.getOrderIdsDueBetween(SEPTEMBER_2, SEPTEMBER_2));
+        assertEquals(List.of(), deadlines.getOrderIdsDueBetween(SEPTEMBER_3, SEPTEMBER_1));
+    }
+
+    @Test
+    public void add_orderWithoutDeadline_notIndexed() {
+        deadlines.add(1, new OrderBuilder().build());
+        assertEquals(0, deadlines.size());
+        assertFalse(deadlines.isDueBy(1, LocalDate.MAX));
+    }
+
+    @Test
+    public void add_sameOrderId_replacesDeadline() {
+        deadlines.add(1, orderDueOn("01/09/2024"));
+        deadlines.add(1, orderDueOn("03/09/2024"));
+
+        assertEquals(1, deadlines.size());
+        assertEquals(List.of(1), deadlines.getOrderIdsDueBetween(SEPTEMBER_3, SEPTEMBER_3));
+        assertEquals(List.of(), deadlines.getOrderIdsDueBetween(SEPTEMBER_1, SEPTEMBER_1));
+
+        deadlines.add(1, new OrderBuilder().build());
+        assertEquals(0, deadlines.size());
+    }
+
+    @Test
+    public void remove_addedOrder_unindexed() {
+        Order order = orderDueOn("01/09/2024");
+        deadlines.add(1, order);
+        deadlines.add(2, orderDueOn("01/09/2024"));
+
+        // the deadline recorded when the order was added is removed, even if the order changed since
+        order.setDeadline(new Deadline("03/09/2024"));
+        deadlines.remove(1);
+        deadlines.remove(3);
+
+        assertEquals(List.of(2), deadlines.getOrderIdsDueBetween(LocalDate.MIN, LocalDate.MAX));
+        deadlines.clear();
+        assertEquals(0, deadlines.size());
+    }
+
+    @Test
+    public void isDueBy() {
+        deadlines.add(1, orderDueOn("02/09/2024"));
+        assertFalse(deadlines.isDueBy(1, SEPTEMBER_1));
+        assertTrue(deadlines.isDueBy(1, SEPTEMBER_2));
+        assertTrue(deadlines.isDueBy(1, SEPTEMBER_3));
+        assertFalse(deadlines.isDueBy(2, SEPTEMBER_3));
+    }
+}
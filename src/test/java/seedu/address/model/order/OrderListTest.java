@@ -8,9 +8,17 @@ import static seedu.address.testutil.TypicalOrders.CUPCAKES_ONLY;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.exceptions.OrderNotFoundException;
+import seedu.address.model.order.stage.ReadyForDeliveryState;
+import seedu.address.model.order.stage.UnderPreparationState;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.OrderBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -42,6 +50,19 @@ public class OrderListTest {
         assertTrue(orderList.contains(editedCupcakesAlice));
     }
 
+    @Test
+    public void contains_orderWithDifferentIdInList_returnsFalse() {
+        orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).build());
+        assertFalse(orderList.contains(new OrderBuilder(CUPCAKES_ONLY).withIndex(2).build()));
+    }
+
+    @Test
+    public void contains_deletedOrder_returnsFalse() {
+        orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).build());
+        orderList.deleteOrder(1);
+        assertFalse(orderList.contains(new OrderBuilder(CUPCAKES_ONLY).build()));
+    }
+
     @Test
     public void add_nullOrder_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> orderList
@@ -105,6 +126,35 @@ public class OrderListTest {
         //assertEquals(expectedOrderList, orderList);
     }
 
+    @Test
+    public void getDeadlines_orderChanges_deadlinesUpdated() {
+        orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).withDeadline("02/09/2024").build());
+        orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).withDeadline("01/09/2024").build());
+        assertEquals(List.of(2, 1), orderList.getDeadlines().getOrderIdsDueBetween(LocalDate.MIN, LocalDate.MAX));
+
+        orderList.editOrder(2, new OrderBuilder(CUPCAKES_ONLY).withDeadline("03/09/2024").build());
+        assertEquals(List.of(1, 2), orderList.getDeadlines().getOrderIdsDueBetween(LocalDate.MIN, LocalDate.MAX));
+
+        orderList.deleteOrder(1);
+        assertEquals(List.of(2), orderList.getDeadlines().getOrderIdsDueBetween(LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void getStages_orderStaged_movedToNextStage() {
+        Order first = new OrderBuilder(CUPCAKES_ONLY).withStage(new UnderPreparationState()).build();
+        Order second = new OrderBuilder(CUPCAKES_ONLY).withStage(new UnderPreparationState()).build();
+        orderList.addOrder(first);
+        orderList.addOrder(second);
+
+        Order stagedOrder = new Order(first).goToNextStage();
+        orderList.setOrder(first, stagedOrder);
+        assertEquals(List.of(second), orderList.getStages().getOrders(new UnderPreparationState()));
+        assertEquals(List.of(stagedOrder), orderList.getStages().getOrders(new ReadyForDeliveryState()));
+
+        orderList.deleteOrder(first.getId());
+        assertEquals(List.of(), orderList.getStages().getOrders(new ReadyForDeliveryState()));
+    }
+
     @Test
     public void delete_nullOrder_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> orderList.deleteOrder(0));
@@ -132,6 +182,30 @@ public class OrderListTest {
         //assertEquals(expectedPersonOrderList, customer.getOrders());
     }
 
+    @Test
+    public void delete_middleOrder_laterOrdersStillEditable() {
+        orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).build());
+        orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).build());
+        orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).build());
+        orderList.deleteOrder(2);
+
+        Order editedOrder = new OrderBuilder(CUPCAKES_ONLY).withPerson(BENSON).build();
+        orderList.editOrder(3, editedOrder);
+        assertEquals(2, orderList.asUnmodifiableObservableList().size());
+        assertEquals(editedOrder, orderList.asUnmodifiableObservableList().get(1));
+        assertEquals(editedOrder, orderList.getOrder(3));
+
+        Order replacementOrder = new OrderBuilder(CUPCAKES_ONLY).withIndex(1).withPerson(BENSON).build();
+        orderList.setOrder(orderList.getOrder(1), replacementOrder);
+        assertEquals(replacementOrder, orderList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void setOrder_targetOrderNotInList_throwsOrderNotFoundException() {
+        assertThrows(OrderNotFoundException.class, () -> orderList.setOrder(
+                new OrderBuilder(CUPCAKES_ONLY).withIndex(1).build(), new OrderBuilder(CUPCAKES_ONLY).build()));
+    }
+
     @Test
     public void size_orderList_returnsNumberOfOrders() {
         orderList.addOrder(new OrderBuilder(CUPCAKES_ONLY).build());
@@ -168,4 +242,42 @@ public class OrderListTest {
 
         assertEquals(newCustomer, orderList.getOrder(CUPCAKES_ONLY.getId()).getCustomer());
     }
+
+    @Test
+    public void refreshCustomer_onlyCustomerOrders_notifiesListenersOnce() {
+        Person alice = new PersonBuilder(ALICE).build();
+        Person benson = new PersonBuilder(BENSON).build();
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        for (Person customer : List.of(alice, benson, alice)) {
+            Order order = new OrderBuilder(CUPCAKES_ONLY).build();
+            order.setCustomer(customer);
+            orderList.addOrder(order);
+        }
+        Order bensonOrder = orderList.getOrder(2);
+
+        List<ListChangeListener.Change<? extends Order>> changes = new ArrayList<>();
+        orderList.asUnmodifiableObservableList().addListener((ListChangeListener<Order>) changes::add);
+        orderList.refreshCustomer(alice, editedAlice);
+
+        assertEquals(1, changes.size());
+        assertEquals(editedAlice, orderList.getOrder(1).getCustomer());
+        assertEquals(editedAlice, orderList.getOrder(3).getCustomer());
+        assertEquals(editedAlice, orderList.asUnmodifiableObservableList().get(2).getCustomer());
+        assertTrue(bensonOrder == orderList.asUnmodifiableObservableList().get(1));
+    }
+
+    @Test
+    public void refreshCustomer_afterSetCustomerAndDelete_tracksCustomerOrders() {
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        orderList.addOrderWithID(new OrderBuilder(CUPCAKES_ONLY).withIndex(1).build(), 1);
+        orderList.addOrderWithID(new OrderBuilder(CUPCAKES_ONLY).withIndex(2).build(), 2);
+        orderList.setCustomer(1, ALICE);
+        orderList.setCustomer(2, ALICE);
+        orderList.deleteOrder(1);
+
+        orderList.refreshCustomer(ALICE, editedAlice);
+
+        assertEquals(1, orderList.asUnmodifiableObservableList().size());
+        assertEquals(editedAlice, orderList.getOrder(2).getCustomer());
+    }
 }
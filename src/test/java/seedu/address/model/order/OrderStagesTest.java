@@ -0,0 +1,105 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.address.model.order.stage.ReadyForDeliveryState;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.testutil.OrderBuilder;
+
+public class OrderStagesTest {
+
+    private static final UnderPreparationState UNDER_PREPARATION = new UnderPreparationState();
+    private static final ReadyForDeliveryState READY_FOR_DELIVERY = new ReadyForDeliveryState();
+
+    private final OrderStages stages = new OrderStages();
+
+    private static Order orderWithId(int id) {
+        return new OrderBuilder().withIndex(id).withStage(new UnderPreparationState()).build();
+    }
+
+    @Test
+    public void add_ordersOutOfOrder_keptInSequenceOrder() {
+        Order first = orderWithId(1);
+        Order second = orderWithId(2);
+        Order third = orderWithId(3);
+        stages.add(3, 2, third);
+        stages.add(1, 0, first);
+        stages.add(2, 1, second);
+
+        assertEquals(List.of(first, second, third), stages.getOrders(UNDER_PREPARATION));
+        assertEquals(List.of(), stages.getOrders(READY_FOR_DELIVERY));
+    }
+
+    @Test
+    public void add_orderAtNextStage_movedToNextStage() {
+        Order first = orderWithId(1);
+        Order second = orderWithId(2);
+        stages.add(1, 0, first);
+        stages.add(2, 1, second);
+
+        // the stage is changed in place, so the order is removed from the stage it was added at
+        second.getStageContext().goToNextStage();
+        stages.add(2, 1, second);
+
+        assertEquals(List.of(first), stages.getOrders(UNDER_PREPARATION));
+        assertEquals(List.of(second), stages.getOrders(READY_FOR_DELIVERY));
+    }
+
+    @Test
+    public void add_orderAtSameStage_replacedInOneChange() {
+        stages.add(1, 0, orderWithId(1));
+        stages.add(2, 1, orderWithId(2));
+        List<ListChangeListener.Change<? extends Order>> changes = new ArrayList<>();
+        stages.getOrders(UNDER_PREPARATION).addListener((ListChangeListener<Order>) changes::add);
+
+        Order editedOrder = orderWithId(2);
+        stages.add(2, 1, editedOrder);
+
+        assertEquals(1, changes.size());
+        assertSame(editedOrder, stages.getOrders(UNDER_PREPARATION).get(1));
+    }
+
+    @Test
+    public void remove_addedOrder_removedFromStage() {
+        Order second = orderWithId(2);
+        stages.add(1, 0, orderWithId(1));
+        stages.add(2, 1, second);
+        stages.remove(1);
+        stages.remove(3);
+
+        assertEquals(List.of(second), stages.getOrders(UNDER_PREPARATION));
+    }
+
+    @Test
+    public void setAll_orders_replacesOrdersAndKeepsViews() {
+        List<Order> underPreparation = stages.getOrders(UNDER_PREPARATION);
+        stages.add(5, 0, orderWithId(5));
+        Order first = orderWithId(1);
+        Order ready = new OrderBuilder().withIndex(2).withStage(new ReadyForDeliveryState()).build();
+        Order last = orderWithId(3);
+
+        stages.setAll(List.of(first, ready, last));
+
+        assertSame(underPreparation, stages.getOrders(UNDER_PREPARATION));
+        assertEquals(List.of(first, last), underPreparation);
+        assertEquals(List.of(ready), stages.getOrders(READY_FOR_DELIVERY));
+
+        stages.clear();
+        assertEquals(List.of(), underPreparation);
+    }
+
+    @Test
+    public void getOrders_modifyView_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                stages.getOrders(UNDER_PREPARATION).add(orderWithId(1)));
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.order.OrderStatistics.Totals;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.testutil.OrderBuilder;
+
+public class OrderStatisticsTest {
+
+    private static final String UNDER_PREPARATION = "Under Preparation";
+    private static final String READY_FOR_DELIVERY = "Ready For Delivery";
+
+    private final OrderList orderList = new OrderList();
+    private final OrderStatistics statistics = orderList.getStatistics();
+
+    private Order buildOrder(String product, String cost, String sales, String quantity) {
+        return new OrderBuilder().withProductPriceQuantity(product, cost, sales, quantity)
+                .withStage(new UnderPreparationState()).build();
+    }
+
+    private void assertTotals(int orderCount, long quantity, long costCents, long salesCents, Totals totals) {
+        assertEquals(orderCount, totals.getOrderCount());
+        assertEquals(quantity, totals.getQuantity());
+        assertEquals(Money.ofCents(costCents), totals.getTotalCost());
+        assertEquals(Money.ofCents(salesCents), totals.getTotalSales());
+        assertEquals(Money.ofCents(salesCents - costCents), totals.getProfit());
+    }
+
+    @Test
+    public void constructor_noOrders_allStagesEmpty() {
+        assertTotals(0, 0, 0, 0, statistics.getOverall());
+        assertEquals(List.of(UNDER_PREPARATION, READY_FOR_DELIVERY, "Sent For Delivery", "Received By Customer"),
+                new ArrayList<>(statistics.getTotalsByStage().keySet()));
+        assertTrue(statistics.getTotalsByProduct().isEmpty());
+        assertTrue(statistics.getTotalsByCustomer().isEmpty());
+        assertTrue(statistics.getTotalsByCreationDate().isEmpty());
+    }
+
+    @Test
+    public void addOrder_ordersOfDifferentCustomers_totalsByBucket() {
+        Order cupcakes = buildOrder("Cupcake", "1", "2.5", "4");
+        cupcakes.setCustomer(ALICE);
+        Order cookies = buildOrder("Cookie", "0.5", "1", "10");
+        cookies.addProduct(new Product("Cupcake", "1", "2.5"), new Quantity(1));
+        cookies.setCustomer(BENSON);
+        orderList.addOrder(cupcakes);
+        orderList.addOrder(cookies);
+
+        assertTotals(2, 15, 400 + 500 + 100, 1000 + 1000 + 250, statistics.getOverall());
+        assertTotals(2, 15, 1000, 2250, statistics.getTotalsByStage().get(UNDER_PREPARATION));
+        assertTotals(2, 5, 500, 1250, statistics.getTotalsByProduct().get("Cupcake"));
+        assertTotals(1, 10, 500, 1000, statistics.getTotalsByProduct().get("Cookie"));
+        assertTotals(1, 4, 400, 1000, statistics.getTotalsByCustomer().get(ALICE.getName()));
+        assertTotals(1, 11, 600, 1250, statistics.getTotalsByCustomer().get(BENSON.getName()));
+        assertTotals(2, 15, 1000, 2250, statistics.getTotalsByCreationDate()
+                .get(cupcakes.getCreationDateObject().getDate()));
+    }
+
+    @Test
+    public void setOrder_stageChangedInPlace_movesOrderToNextStage() {
+        Order order = buildOrder("Cupcake", "1", "2", "3");
+        orderList.addOrder(order);
+
+        // the copy shares its stage with the order in the list, so the stage changes in place
+        Order orderToUpdate = new Order(order);
+        Order updatedOrder = orderToUpdate.goToNextStage();
+        orderList.setOrder(orderToUpdate, updatedOrder);
+
+        assertTotals(0, 0, 0, 0, statistics.getTotalsByStage().get(UNDER_PREPARATION));
+        assertTotals(1, 3, 300, 600, statistics.getTotalsByStage().get(READY_FOR_DELIVERY));
+        assertTotals(1, 3, 300, 600, statistics.getOverall());
+    }
+
+    @Test
+    public void setOrder_productAddedInPlace_updatesTotals() {
+        Order order = buildOrder("Cupcake", "1", "2", "3");
+        orderList.addOrder(order);
+
+        order.addProduct(new Product("Cookie", "1", "3"), new Quantity(2));
+        orderList.setOrder(order, order);
+
+        assertTotals(1, 5, 500, 1200, statistics.getOverall());
+        assertTotals(1, 2, 200, 600, statistics.getTotalsByProduct().get("Cookie"));
+    }
+
+    @Test
+    public void deleteOrder_lastOrderOfBuckets_removesBuckets() {
+        Order order = buildOrder("Cupcake", "1", "2", "3");
+        order.setCustomer(ALICE);
+        orderList.addOrder(order);
+        orderList.deleteOrder(order.getId());
+
+        assertTotals(0, 0, 0, 0, statistics.getOverall());
+        assertTotals(0, 0, 0, 0, statistics.getTotalsByStage().get(UNDER_PREPARATION));
+        assertFalse(statistics.getTotalsByProduct().containsKey("Cupcake"));
+        assertFalse(statistics.getTotalsByCustomer().containsKey(ALICE.getName()));
+        assertTrue(statistics.getTotalsByCreationDate().isEmpty());
+    }
+
+    @Test
+    public void setCustomer_orderAddedWithoutCustomer_countsCustomer() {
+        orderList.addOrderWithID(buildOrder("Cupcake", "1", "2", "3"), 5);
+        orderList.setCustomer(5, BENSON);
+
+        assertTotals(1, 3, 300, 600, statistics.getTotalsByCustomer().get(BENSON.getName()));
+        assertTotals(1, 3, 300, 600, statistics.getOverall());
+    }
+
+    @Test
+    public void setOrders_replacesOrders_recountsOrders() {
+        orderList.addOrder(buildOrder("Cupcake", "1", "2", "3"));
+        Order cookies = buildOrder("Cookie", "1", "2", "7");
+        cookies.setID(9);
+        orderList.setOrders(List.of(cookies));
+
+        assertTotals(1, 7, 700, 1400, statistics.getOverall());
+        assertFalse(statistics.getTotalsByProduct().containsKey("Cupcake"));
+
+        orderList.clearOrders();
+        assertTotals(0, 0, 0, 0, statistics.getOverall());
+    }
+
+    @Test
+    public void listChange_listenersNotified_seeUpdatedTotals() {
+        List<Integer> orderCounts = new ArrayList<>();
+        orderList.asUnmodifiableObservableList().addListener((ListChangeListener<Order>) change ->
+                orderCounts.add(statistics.getOverall().getOrderCount()));
+        Order order = buildOrder("Cupcake", "1", "2", "3");
+
+        orderList.addOrder(order);
+        orderList.setOrder(order, new Order(order));
+        orderList.deleteOrder(order.getId());
+        orderList.setOrders(List.of(order));
+        orderList.clearOrders();
+
+        assertEquals(List.of(1, 1, 0, 1, 0), orderCounts);
+    }
+}
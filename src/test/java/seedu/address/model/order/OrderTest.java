@@ -9,6 +9,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_PRODUCT_CUPCAKE
 import static seedu.address.logic.commands.CommandTestUtil.VALID_QUANTITY_ONE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_QUANTITY_THREE;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_QUANTITY_TWO;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalOrders.COOKIES_ONLY;
 import static seedu.address.testutil.TypicalOrders.CUPCAKES_ONLY;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -94,23 +95,23 @@ public class OrderTest {
 
         Order order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "0", "0", "5")
                 .build();
-        assertEquals(0, order.getTotalSales());
+        assertEquals(0, order.getTotalSales().getCents());
 
         order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "0", "10", "5")
                 .build();
-        assertEquals(10 * 5, order.getTotalSales());
+        assertEquals(10 * 5 * 100, order.getTotalSales().getCents());
 
         //add product
         order.addProduct(new Product("Cookies", "10", "20"), new Quantity(3));
-        assertEquals(10 * 5 + 20 * 3, order.getTotalSales());
+        assertEquals((10 * 5 + 20 * 3) * 100, order.getTotalSales().getCents());
 
         //remove product
         order = order.deleteProduct(new Product("Cookies"));
-        assertEquals(10 * 5, order.getTotalSales());
+        assertEquals(10 * 5 * 100, order.getTotalSales().getCents());
 
         //update product
         order = order.updateOrder(new Product("Cupcakes"), new Quantity(7));
-        assertEquals(7 * 10, order.getTotalSales());
+        assertEquals(7 * 10 * 100, order.getTotalSales().getCents());
     }
 
     @Test
@@ -118,24 +119,24 @@ public class OrderTest {
         //cost 0, sales non-zero
         Order order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "0", "5", "5")
                 .build();
-        assertEquals(0, order.getTotalCost());
+        assertEquals(0, order.getTotalCost().getCents());
 
         //cost 5, sales 0
         order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "5", "0", "5")
                 .build();
-        assertEquals(25, order.getTotalCost());
+        assertEquals(25 * 100, order.getTotalCost().getCents());
 
         //add product
         order.addProduct(new Product("Cookies", "10", "20"), new Quantity(3));
-        assertEquals(5 * 5 + 10 * 3, order.getTotalCost());
+        assertEquals((5 * 5 + 10 * 3) * 100, order.getTotalCost().getCents());
 
         //remove product
         order = order.deleteProduct(new Product("Cookies"));
-        assertEquals(5 * 5, order.getTotalCost());
+        assertEquals(5 * 5 * 100, order.getTotalCost().getCents());
 
         //update product
         order = order.updateOrder(new Product("Cupcakes"), new Quantity(7));
-        assertEquals(7 * 5, order.getTotalCost());
+        assertEquals(7 * 5 * 100, order.getTotalCost().getCents());
     }
 
     @Test
@@ -143,29 +144,39 @@ public class OrderTest {
         //cost 0, sales 0
         Order order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "0", "0", "5")
                 .build();
-        assertEquals(0, order.getProfit());
+        assertEquals(0, order.getProfit().getCents());
 
         //cost 5, sales 0
         order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "5", "0", "5")
                 .build();
-        assertEquals(-25, order.getProfit());
+        assertEquals(-25 * 100, order.getProfit().getCents());
 
         //cost 0, sales 5
         order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "0", "5", "5")
                 .build();
-        assertEquals(25, order.getProfit());
+        assertEquals(25 * 100, order.getProfit().getCents());
 
         //add product
         order.addProduct(new Product("Cookies", "10", "20"), new Quantity(3));
-        assertEquals(5 * 5 + 10 * 3, order.getProfit());
+        assertEquals((5 * 5 + 10 * 3) * 100, order.getProfit().getCents());
 
         //remove product
         order = order.deleteProduct(new Product("Cookies"));
-        assertEquals(5 * 5, order.getProfit());
+        assertEquals(5 * 5 * 100, order.getProfit().getCents());
 
         //update product
         order = order.updateOrder(new Product("Cupcakes"), new Quantity(7));
-        assertEquals(7 * 5, order.getProfit());
+        assertEquals(7 * 5 * 100, order.getProfit().getCents());
+    }
+
+    @Test
+    public void updateNumbers_decimalPrices_exactTotals() {
+        Order order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "0.1", "0.7", "3")
+                .build();
+        order.addProduct(new Product("Cookies", "1.05", "2.2"), new Quantity(7));
+        assertEquals(Money.parse("7.65"), order.getTotalCost());
+        assertEquals(Money.parse("17.5"), order.getTotalSales());
+        assertEquals(Money.parse("9.85"), order.getProfit());
     }
 
     @Test
@@ -175,4 +186,56 @@ public class OrderTest {
         Order copiedOrder = new Order(order);
         assertEquals(order, copiedOrder);
     }
+
+    @Test
+    public void updateOrder_sharedProductLines_originalUnchanged() {
+        Order order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "1", "2", "5")
+                .withProductPriceQuantity("Cookies", "3", "5", "2").build();
+        Order moreCupcakes = order.updateOrder(new Product("Cupcakes"), new Quantity(7));
+        Order noCookies = moreCupcakes.updateOrder(new Product("Cookies"), new Quantity(0));
+
+        assertEquals(7, noCookies.getQuantityValue(new Product("Cupcakes")));
+        assertFalse(noCookies.getProductMap().containsKey(new Product("Cookies")));
+        assertEquals(7 * 100, noCookies.getTotalCost().getCents());
+
+        // earlier versions keep their own product lines and totals
+        assertEquals(5, order.getQuantityValue(new Product("Cupcakes")));
+        assertEquals(2, order.getQuantityValue(new Product("Cookies")));
+        assertEquals((5 * 1 + 2 * 3) * 100, order.getTotalCost().getCents());
+        assertEquals(7, moreCupcakes.getQuantityValue(new Product("Cupcakes")));
+        assertEquals((7 * 2 + 2 * 5) * 100, moreCupcakes.getTotalSales().getCents());
+        assertNotEquals(order, moreCupcakes);
+        assertEquals(moreCupcakes.getTotalSales().getCents() - 2 * 5 * 100, noCookies.getTotalSales().getCents());
+    }
+
+    @Test
+    public void updateOrder_largeQuantity_exactTotals() {
+        Order order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "1.5", "2", "5").build();
+        Order updatedOrder = order.updateOrder(new Product("Cupcakes"), new Quantity(Integer.MAX_VALUE));
+
+        assertEquals(Integer.MAX_VALUE * 150L, updatedOrder.getTotalCost().getCents());
+        assertEquals(Integer.MAX_VALUE * 200L, updatedOrder.getTotalSales().getCents());
+    }
+
+    @Test
+    public void addProduct_totalsOverflow_throwsArithmeticExceptionAndOrderUnchanged() {
+        Order order = new OrderBuilder().withProductPriceQuantity("Cupcakes", "1", "2", "5").build();
+        Product cake = new Product("Cake", "999999999999", "999999999999");
+
+        assertThrows(ArithmeticException.class, () -> order.addProduct(cake, new Quantity(100_000)));
+        assertFalse(order.getProductMap().containsKey(cake));
+        assertEquals(5 * 100, order.getTotalCost().getCents());
+        assertEquals(5 * 200, order.getTotalSales().getCents());
+    }
+
+    @Test
+    public void addProduct_sumOfLinesOverflows_throwsArithmeticException() {
+        Order order = new OrderBuilder().build();
+        // each line is just below half of Long.MAX_VALUE cents
+        order.addProduct(new Product("Cake", "999999999999", "999999999999"), new Quantity(50_000));
+
+        assertThrows(ArithmeticException.class, () ->
+                order.addProduct(new Product("Pie", "999999999999", "999999999999"), new Quantity(50_000)));
+        assertEquals(99_999_999_999_900L * 50_000, order.getTotalCost().getCents());
+    }
 }
@@ -102,6 +102,23 @@ public class ProductMenuTest {
         assertEquals(expectedProductMenu, productMenu);
     }
 
+    @Test
+    public void contains_afterEditDeleteAndSetProducts_tracksMenu() {
+        productMenu.addProduct(new ProductBuilder().build());
+        productMenu.editProduct(new ProductBuilder().build(), new ProductBuilder().withName("Tart").build());
+        assertFalse(productMenu.contains(new ProductBuilder().build()));
+        assertTrue(productMenu.contains(new ProductBuilder().withName("Tart").build()));
+
+        productMenu.deleteProduct(new ProductBuilder().withName("Tart").build());
+        assertFalse(productMenu.contains(new ProductBuilder().withName("Tart").build()));
+
+        productMenu.setProducts(Collections.singletonList(new ProductBuilder().withName("Pie").build()));
+        assertTrue(productMenu.contains(new ProductBuilder().withName("Pie").build()));
+        productMenu.addProduct(new ProductBuilder().build());
+        assertThrows(DuplicateProductException.class, () -> productMenu
+                .addProduct(new ProductBuilder().withName("Pie").build()));
+    }
+
     @Test
     public void setProducts_nullList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> productMenu.setProducts(null));
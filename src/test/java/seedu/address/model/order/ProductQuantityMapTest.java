@@ -0,0 +1,110 @@
+package seedu.address.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class ProductQuantityMapTest {
+
+    private static final Product CUPCAKE = new Product("Cupcake", "1", "2");
+    private static final Product COOKIE = new Product("Cookie", "3", "4");
+
+    @Test
+    public void with_existingProduct_keepsStoredProduct() {
+        ProductQuantityMap map = ProductQuantityMap.empty().with(CUPCAKE, new Quantity(1));
+        ProductQuantityMap updatedMap = map.with(new Product("Cupcake"), new Quantity(2));
+
+        assertSame(CUPCAKE, updatedMap.getLine(new Product("Cupcake")).getKey());
+        assertEquals(new Quantity(2), updatedMap.get(CUPCAKE));
+    }
+
+    @Test
+    public void without_absentProduct_returnsSameMap() {
+        ProductQuantityMap map = ProductQuantityMap.empty().with(CUPCAKE, new Quantity(1));
+        assertSame(map, map.without(COOKIE));
+    }
+
+    @Test
+    public void withAndWithout_earlierVersions_unchanged() {
+        ProductQuantityMap empty = ProductQuantityMap.empty();
+        ProductQuantityMap cupcakes = empty.with(CUPCAKE, new Quantity(1));
+        ProductQuantityMap cupcakesAndCookies = cupcakes.with(COOKIE, new Quantity(2));
+        ProductQuantityMap moreCupcakes = cupcakesAndCookies.with(CUPCAKE, new Quantity(3));
+        ProductQuantityMap cookies = moreCupcakes.without(CUPCAKE);
+
+        // read the versions out of order, so that the backing map moves back and forth between them
+        assertEquals(Map.of(COOKIE, new Quantity(2)), cookies);
+        assertTrue(empty.isEmpty());
+        assertEquals(Map.of(CUPCAKE, new Quantity(3), COOKIE, new Quantity(2)), moreCupcakes);
+        assertEquals(Map.of(CUPCAKE, new Quantity(1)), cupcakes);
+        assertNull(cookies.get(CUPCAKE));
+        assertEquals(new Quantity(1), cupcakes.get(CUPCAKE));
+        assertEquals(2, cupcakesAndCookies.size());
+
+        // derive from a version that no longer holds the backing map
+        ProductQuantityMap branch = cupcakes.with(CUPCAKE, new Quantity(5));
+        assertEquals(Map.of(CUPCAKE, new Quantity(5)), branch);
+        assertEquals(Map.of(COOKIE, new Quantity(2)), cookies);
+    }
+
+    @Test
+    public void entrySet_iteratingWhileReadingOtherVersion_iteratesOwnLines() {
+        ProductQuantityMap cupcakes = ProductQuantityMap.empty().with(CUPCAKE, new Quantity(1));
+        ProductQuantityMap cupcakesAndCookies = cupcakes.with(COOKIE, new Quantity(2));
+
+        List<Product> products = new ArrayList<>();
+        for (Map.Entry<Product, Quantity> line : cupcakesAndCookies.entrySet()) {
+            products.add(line.getKey());
+            assertEquals(1, cupcakes.size());
+        }
+        assertEquals(2, products.size());
+    }
+
+    @Test
+    public void copyOf_hashMap_sameIterationOrder() {
+        Map<Product, Quantity> hashMap = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            hashMap.put(new Product("Product " + i), new Quantity(i));
+        }
+        ProductQuantityMap map = ProductQuantityMap.copyOf(hashMap);
+
+        assertEquals(new ArrayList<>(hashMap.keySet()), new ArrayList<>(map.keySet()));
+        assertSame(map, ProductQuantityMap.copyOf(map));
+    }
+
+    @Test
+    public void modify_unmodifiable_throwsUnsupportedOperationException() {
+        ProductQuantityMap map = ProductQuantityMap.empty().with(CUPCAKE, new Quantity(1));
+        assertThrows(UnsupportedOperationException.class, () -> map.put(COOKIE, new Quantity(1)));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().remove());
+        assertThrows(UnsupportedOperationException.class, () -> map.clear());
+    }
+
+    @Test
+    public void equals() {
+        ProductQuantityMap cupcakes = ProductQuantityMap.empty().with(CUPCAKE, new Quantity(1));
+        ProductQuantityMap cupcakesAndCookies = cupcakes.with(COOKIE, new Quantity(2));
+        ProductQuantityMap cupcakesAgain = cupcakesAndCookies.without(COOKIE);
+
+        // same lines in other versions or other maps -> returns true
+        assertTrue(cupcakes.equals(cupcakesAgain));
+        assertTrue(cupcakes.equals(Map.of(CUPCAKE, new Quantity(1))));
+        assertEquals(cupcakes.hashCode(), cupcakesAgain.hashCode());
+
+        // different lines -> returns false
+        assertFalse(cupcakes.equals(cupcakesAndCookies));
+
+        // null -> returns false
+        assertFalse(cupcakes.equals(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.order;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -42,6 +43,20 @@ public class ProductTest {
                 new Product("Cupcakes", invalidProductCost, "18"));
     }
 
+    @Test
+    public void setSales_invalidSales_throwsIllegalArgumentException() {
+        Product product = new Product("Cupcakes", "15", "18");
+        assertThrows(IllegalArgumentException.class, () -> product.setSales("free"));
+    }
+
+    @Test
+    public void setCost_validCost_updatesUnitCost() {
+        Product product = new Product("Cupcakes", "15", "18");
+        product.setCost("2.5");
+        assertEquals("2.5", product.getCost());
+        assertEquals(Money.ofCents(250), product.getUnitCost());
+    }
+
     @Test
     public void isValidProduct() {
         // null product
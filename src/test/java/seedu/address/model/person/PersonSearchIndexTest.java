@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonSearchIndex.Field;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void toWords() {
+        assertEquals(List.of("alice", "pauline"), List.copyOf(PersonSearchIndex.toWords("  Alice\tPAULINE alice ")));
+        assertEquals(Set.of(), PersonSearchIndex.toWords(" "));
+        assertEquals(List.of("hans", "bo", "yang"),
+                List.copyOf(PersonSearchIndex.toWords(List.of("Hans Bo", "yang"))));
+    }
+
+    /**
+     * Returns the names of the typical persons that the predicate of {@code index} for {@code field} and
+     * {@code keywords} accepts.
+     */
+    private Set<Name> getNamesMatching(Field field, List<String> keywords) {
+        Predicate<Person> predicate = index.getPredicate(field, keywords);
+        return Stream.of(ALICE, BENSON, DANIEL).filter(predicate).map(Person::getName).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void getPredicate_indexedPersons_acceptsUnionOfMatches() {
+        index.add(ALICE);
+        index.add(BENSON);
+        index.add(DANIEL);
+
+        assertEquals(Set.of(BENSON.getName(), DANIEL.getName()),
+                getNamesMatching(Field.NAME, List.of("MEIER")));
+        assertEquals(Set.of(ALICE.getName(), BENSON.getName()),
+                getNamesMatching(Field.NAME, List.of("alice", "benson")));
+        assertEquals(Set.of(ALICE.getName()), getNamesMatching(Field.ADDRESS, List.of("Jurong West")));
+        assertEquals(Set.of(DANIEL.getName()), getNamesMatching(Field.EMAIL, List.of("cornelia@example.com")));
+        assertEquals(Set.of(BENSON.getName()), getNamesMatching(Field.PHONE, List.of("98765432")));
+
+        // only full words are matched, in the field searched
+        assertEquals(Set.of(), getNamesMatching(Field.NAME, List.of("Meie")));
+        assertEquals(Set.of(), getNamesMatching(Field.ADDRESS, List.of("Alice")));
+        assertEquals(Set.of(), getNamesMatching(Field.NAME, List.of()));
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerMatched() {
+        index.add(BENSON);
+        index.add(DANIEL);
+        index.remove(BENSON);
+
+        assertEquals(Set.of(DANIEL.getName()), getNamesMatching(Field.NAME, List.of("Meier")));
+        assertEquals(Set.of(), getNamesMatching(Field.PHONE, List.of(BENSON.getPhone().value)));
+
+        index.clear();
+        assertEquals(Set.of(), getNamesMatching(Field.NAME, List.of("Meier")));
+    }
+
+    @Test
+    public void getPredicate_indexChangesAfterwards_notFollowed() {
+        Predicate<Person> predicate = index.getPredicate(Field.NAME, List.of("meier"));
+        index.add(BENSON);
+        assertFalse(predicate.test(BENSON));
+
+        predicate = index.getPredicate(Field.NAME, List.of("meier"));
+        index.remove(BENSON);
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(ALICE));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -12,9 +13,14 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.PersonSearchIndex.Field;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -162,6 +168,89 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void contains_afterSetPersonAndRemove_tracksList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+        uniquePersonList.add(BOB);
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void findByPhone_nullPhone_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findByPhone(null));
+    }
+
+    @Test
+    public void findByPhone_afterAddSetAndRemove_tracksList() {
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByPhone(ALICE.getPhone()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findByPhone(editedAlice.getPhone()));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(editedAlice.getPhone()));
+    }
+
+    /**
+     * Returns the names of the persons in {@code uniquePersonList} that its search index finds with {@code field}
+     * containing any of {@code keywords}.
+     */
+    private Set<Name> getNamesMatching(Field field, List<String> keywords) {
+        Predicate<Person> predicate = uniquePersonList.getSearchIndex().getPredicate(field, keywords);
+        return uniquePersonList.asUnmodifiableObservableList().stream()
+                .filter(predicate).map(Person::getName).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void getSearchIndex_afterAddSetAndRemove_tracksList() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Set.of(ALICE.getName()),
+                getNamesMatching(Field.ADDRESS, List.of("jurong")));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(), getNamesMatching(Field.ADDRESS, List.of("jurong")));
+
+        uniquePersonList.setPersons(List.of(BOB));
+        assertEquals(Set.of(BOB.getName()),
+                getNamesMatching(Field.ADDRESS, List.of(VALID_ADDRESS_BOB)));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Set.of(),
+                getNamesMatching(Field.ADDRESS, List.of(VALID_ADDRESS_BOB)));
+    }
+
+    @Test
+    public void findByPhone_sharedPhone_returnsFirstRemaining() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, bobWithAlicePhone));
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByPhone(ALICE.getPhone()));
+
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.of(bobWithAlicePhone), uniquePersonList.findByPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void findByPhone_afterSetPersons_reindexed() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.setPersons(replacement);
+        assertEquals(Optional.empty(), uniquePersonList.findByPhone(ALICE.getPhone()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findByPhone(BOB.getPhone()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.order.ArchivedOrder;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.stage.UnderPreparationState;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.OrderBuilder;
+
+public class BinaryOrderArchiveStorageTest {
+
+    private static final LocalDate AUGUST_31 = LocalDate.of(2024, 8, 31);
+    private static final LocalDate SEPTEMBER_1 = LocalDate.of(2024, 9, 1);
+    private static final LocalDate SEPTEMBER_15 = LocalDate.of(2024, 9, 15);
+    private static final LocalDate SEPTEMBER_30 = LocalDate.of(2024, 9, 30);
+
+    @TempDir
+    public Path testFolder;
+
+    private static Clock clockAt(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    }
+
+    private static Order orderOf(int id, Person customer) {
+        Order order = new OrderBuilder().withIndex(id).withStage(new UnderPreparationState())
+                .withProductPriceQuantity("Cupcake", "1", "2.5", "4")
+                .withProductPriceQuantity("Cookie", "0.5", "1", "2").build();
+        order.setCustomer(customer);
+        return order;
+    }
+
+    private static List<Integer> idsOf(List<ArchivedOrder> archivedOrders) {
+        return archivedOrders.stream().map(ArchivedOrder::getId).collect(Collectors.toList());
+    }
+
+    private static BinaryOrderArchiveStorage archiveAt(Path directoryPath, LocalDate today) {
+        return new BinaryOrderArchiveStorage(directoryPath, PartitionPolicy.MONTHLY, clockAt(today));
+    }
+
+    @Test
+    public void find_missingDirectory_emptyResult() throws Exception {
+        Path directoryPath = testFolder.resolve("NonExistentDirectory");
+        BinaryOrderArchiveStorage archive = new BinaryOrderArchiveStorage(directoryPath);
+
+        assertEquals(0, archive.size());
+        assertEquals(Optional.empty(), archive.findById(1));
+        assertTrue(archive.findByCompletionDate(LocalDate.MIN, LocalDate.MAX).isEmpty());
+        assertFalse(Files.exists(directoryPath));
+    }
+
+    @Test
+    public void archiveOrders_emptyList_directoryNotCreated() throws Exception {
+        Path directoryPath = testFolder.resolve("archive");
+        new BinaryOrderArchiveStorage(directoryPath).archiveOrders(List.of());
+        assertFalse(Files.exists(directoryPath));
+    }
+
+    @Test
+    public void archiveOrders_thenFind_returnsArchivedOrders() throws Exception {
+        Path directoryPath = testFolder.resolve("nested").resolve("archive");
+        archiveAt(directoryPath, AUGUST_31).archiveOrders(List.of(orderOf(1, ALICE), orderOf(2, BENSON)));
+
+        // A fresh instance lists the partitions already in the directory before appending to it
+        BinaryOrderArchiveStorage archive = archiveAt(directoryPath, SEPTEMBER_15);
+        archive.archiveOrders(List.of(orderOf(3, ALICE)));
+
+        assertEquals(3, archive.size());
+        assertEquals(Optional.of(ArchivedOrder.of(orderOf(2, BENSON), AUGUST_31)), archive.findById(2));
+        assertEquals(Optional.empty(), archive.findById(4));
+        assertEquals(List.of(ArchivedOrder.of(orderOf(3, ALICE), SEPTEMBER_15)),
+                archive.findByCustomer("alice pauline", SEPTEMBER_1, SEPTEMBER_30));
+        assertEquals(List.of(1, 3), idsOf(archive.findByCustomer(ALICE.getName().fullName, AUGUST_31, SEPTEMBER_30)));
+        assertTrue(archive.findByCustomer("Carl Kurz", LocalDate.MIN, LocalDate.MAX).isEmpty());
+        assertEquals(List.of(1, 2), idsOf(archive.findByCompletionDate(AUGUST_31, AUGUST_31)));
+        assertTrue(archive.findByCompletionDate(SEPTEMBER_30, SEPTEMBER_1).isEmpty());
+    }
+
+    @Test
+    public void archiveOrders_newPeriod_closedPartitionCompressed() throws Exception {
+        Path directoryPath = testFolder.resolve("archive");
+        archiveAt(directoryPath, AUGUST_31).archiveOrders(List.of(orderOf(1, ALICE)));
+        assertTrue(Files.exists(directoryPath.resolve("2024-08.archive")));
+
+        archiveAt(directoryPath, SEPTEMBER_1).archiveOrders(List.of(orderOf(2, BENSON)));
+        assertFalse(Files.exists(directoryPath.resolve("2024-08.archive")));
+        assertTrue(Files.exists(directoryPath.resolve("2024-08.archive.gz")));
+        assertTrue(Files.exists(directoryPath.resolve("2024-09.archive")));
+
+        assertEquals(List.of(1, 2), idsOf(new BinaryOrderArchiveStorage(directoryPath)
+                .findByCompletionDate(LocalDate.MIN, LocalDate.MAX)));
+    }
+
+    @Test
+    public void archiveOrders_severalMonthsPerPartition_onePartitionPerPeriod() throws Exception {
+        Path directoryPath = testFolder.resolve("archive");
+        PartitionPolicy quarterly = new PartitionPolicy(3, 0);
+        new BinaryOrderArchiveStorage(directoryPath, quarterly, clockAt(AUGUST_31))
+                .archiveOrders(List.of(orderOf(1, ALICE)));
+        new BinaryOrderArchiveStorage(directoryPath, quarterly, clockAt(SEPTEMBER_30))
+                .archiveOrders(List.of(orderOf(2, BENSON)));
+
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            assertEquals(List.of(directoryPath.resolve("2024-07_2024-09.archive")), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void archiveOrders_retentionMonths_expiredPartitionsRemoved() throws Exception {
+        Path directoryPath = testFolder.resolve("archive");
+        PartitionPolicy keepOneMonth = new PartitionPolicy(1, 1);
+        new BinaryOrderArchiveStorage(directoryPath, keepOneMonth, clockAt(AUGUST_31))
+                .archiveOrders(List.of(orderOf(1, ALICE)));
+        new BinaryOrderArchiveStorage(directoryPath, keepOneMonth, clockAt(SEPTEMBER_30))
+                .archiveOrders(List.of(orderOf(2, BENSON)));
+        assertTrue(Files.exists(directoryPath.resolve("2024-08.archive.gz")));
+
+        BinaryOrderArchiveStorage archive = new BinaryOrderArchiveStorage(directoryPath, keepOneMonth,
+                clockAt(LocalDate.of(2024, 10, 1)));
+        assertEquals(List.of(2), idsOf(archive.findByCompletionDate(LocalDate.MIN, LocalDate.MAX)));
+        assertFalse(Files.exists(directoryPath.resolve("2024-08.archive.gz")));
+    }
+
+    @Test
+    public void findByCompletionDate_onlyReadsPartitionsOfRange() throws Exception {
+        Path directoryPath = testFolder.resolve("archive");
+        archiveAt(directoryPath, AUGUST_31).archiveOrders(List.of(orderOf(1, ALICE)));
+        archiveAt(directoryPath, SEPTEMBER_15).archiveOrders(List.of(orderOf(2, BENSON)));
+        Files.writeString(directoryPath.resolve("2024-08.archive.gz"), "not compressed");
+
+        BinaryOrderArchiveStorage archive = archiveAt(directoryPath, SEPTEMBER_15);
+        assertEquals(List.of(2), idsOf(archive.findByCompletionDate(SEPTEMBER_1, SEPTEMBER_30)));
+        assertEquals(List.of(2), idsOf(archive.findByCustomer(BENSON.getName().fullName, SEPTEMBER_1, SEPTEMBER_30)));
+        assertThrows(IOException.class, () -> archive.findByCompletionDate(AUGUST_31, SEPTEMBER_30));
+    }
+
+    @Test
+    public void archiveOrders_preservesPricesAtCompletion() throws Exception {
+        BinaryOrderArchiveStorage archive = archiveAt(testFolder.resolve("archive"), AUGUST_31);
+        archive.archiveOrders(List.of(orderOf(1, ALICE)));
+
+        ArchivedOrder archivedOrder = archive.findById(1).get();
+        assertEquals(ALICE.getPhone().value, archivedOrder.getCustomerPhone());
+        assertEquals(1200, archivedOrder.getTotalSales().getCents());
+        assertEquals(500, archivedOrder.getTotalCost().getCents());
+        assertEquals(700, archivedOrder.getProfit().getCents());
+    }
+
+    @Test
+    public void find_incompleteLastRecord_recordRemoved() throws Exception {
+        Path directoryPath = testFolder.resolve("archive");
+        archiveAt(directoryPath, AUGUST_31).archiveOrders(List.of(orderOf(1, ALICE), orderOf(2, BENSON)));
+        try (FileChannel channel = FileChannel.open(directoryPath.resolve("2024-08.archive"),
+                StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        BinaryOrderArchiveStorage archive = archiveAt(directoryPath, AUGUST_31);
+        assertEquals(1, archive.size());
+        assertEquals(Optional.empty(), archive.findById(2));
+
+        archive.archiveOrders(List.of(orderOf(3, BENSON)));
+        assertEquals(List.of(1, 3), idsOf(new BinaryOrderArchiveStorage(directoryPath)
+                .findByCompletionDate(LocalDate.MIN, LocalDate.MAX)));
+    }
+
+    @Test
+    public void find_notAnArchive_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("2024-09.archive");
+        Files.writeString(filePath, "OrderID,Customer Name");
+        BinaryOrderArchiveStorage archive = archiveAt(testFolder, SEPTEMBER_1);
+        assertThrows(IOException.class, String.format(BinaryOrderArchiveStorage.MESSAGE_NOT_AN_ARCHIVE, filePath),
+                archive::size);
+    }
+}
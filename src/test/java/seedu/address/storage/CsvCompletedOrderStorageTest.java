@@ -1,18 +1,29 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
 import seedu.address.testutil.TypicalPersons;
 
 public class CsvCompletedOrderStorageTest {
@@ -38,14 +49,31 @@ public class CsvCompletedOrderStorageTest {
      * Saves {@code addressBook}'s completed order list at the specified {@code filePath}.
      */
     private void saveCompletedOrders(ReadOnlyAddressBook addressBook, Path filePath) {
+        CsvCompletedOrderStorage storage = new CsvCompletedOrderStorage(filePath);
         try {
-            new CsvCompletedOrderStorage(filePath)
-                    .saveCompletedOrders(addressBook);
+            storage.saveCompletedOrders(addressBook);
+            storage.close();
         } catch (IOException ioe) {
             throw new AssertionError("There should not be an error writing to the file.", ioe);
         }
     }
 
+    /**
+     * Saves {@code addressBook}'s completed order list at the specified {@code filePath} on {@code today}, rolling
+     * the file over by month.
+     */
+    private void saveCompletedOrders(ReadOnlyAddressBook addressBook, Path filePath, LocalDate today)
+            throws IOException {
+        CsvCompletedOrderStorage storage = new CsvCompletedOrderStorage(filePath, 1, PartitionPolicy.MONTHLY,
+                clockAt(today));
+        storage.saveCompletedOrders(addressBook);
+        storage.close();
+    }
+
+    private static Clock clockAt(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+    }
+
     @Test
     public void saveCompletedOrder_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveCompletedOrders(null,
@@ -66,4 +94,122 @@ public class CsvCompletedOrderStorageTest {
                 Files.readAllLines(testDataPath("CompletedOrderStorageTestOneCompletedOrder.csv")));
     }
 
+    @Test
+    public void saveCompletedOrder_noCompletedOrders_fileNotCreated() {
+        Path filePath = testFolder.resolve("NoCompletedOrders.csv");
+        saveCompletedOrders(TypicalPersons.getTypicalAddressBook(), filePath);
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveCompletedOrder_defaultFlushRowCountNotClosed_rowsWritten() throws IOException {
+        Path filePath = testFolder.resolve("CompletedOrderStorageTest.csv");
+        CsvCompletedOrderStorage storage = new CsvCompletedOrderStorage(filePath,
+                UserPrefs.DEFAULT_COMPLETED_ORDER_FLUSH_ROW_COUNT);
+
+        storage.saveCompletedOrders(addressBookContainingCompletedOrder());
+
+        // the storage is not flushed or closed, as when the app crashes
+        assertEquals(Files.readAllLines(testDataPath("CompletedOrderStorageTestOneCompletedOrder.csv")),
+                Files.readAllLines(filePath));
+        storage.close();
+    }
+
+    @Test
+    public void saveCompletedOrder_flushOnlyOnClose_rowsWrittenOnFlush() throws IOException {
+        Path filePath = testFolder.resolve("CompletedOrderStorageTest.csv");
+        CsvCompletedOrderStorage storage = new CsvCompletedOrderStorage(filePath, 0);
+
+        storage.saveCompletedOrders(addressBookContainingCompletedOrder());
+        assertEquals(0, Files.size(filePath));
+
+        storage.flush();
+        assertEquals(Files.readAllLines(testDataPath("CompletedOrderStorageTestOneCompletedOrder.csv")),
+                Files.readAllLines(filePath));
+        storage.close();
+    }
+
+    @Test
+    public void saveCompletedOrder_flushEveryTwoRows_rowsWrittenOnceTwoAreBuffered() throws IOException {
+        Path filePath = testFolder.resolve("CompletedOrderStorageTest.csv");
+        CsvCompletedOrderStorage storage = new CsvCompletedOrderStorage(filePath, 2);
+
+        storage.saveCompletedOrders(addressBookContainingCompletedOrder());
+        assertEquals(0, Files.size(filePath));
+
+        storage.saveCompletedOrders(addressBookContainingCompletedOrder());
+        assertEquals(3, Files.readAllLines(filePath).size());
+        storage.close();
+    }
+
+    @Test
+    public void saveCompletedOrder_reopenedFile_headersWrittenOnce() throws IOException {
+        Path filePath = testFolder.resolve("CompletedOrderStorageTest.csv");
+        saveCompletedOrders(addressBookContainingCompletedOrder(), filePath);
+        saveCompletedOrders(addressBookContainingCompletedOrder(), filePath);
+
+        List<String> expectedLines = new ArrayList<>(
+                Files.readAllLines(testDataPath("CompletedOrderStorageTestOneCompletedOrder.csv")));
+        expectedLines.add(expectedLines.get(1));
+        assertEquals(expectedLines, Files.readAllLines(filePath));
+    }
+
+    @Test
+    public void saveCompletedOrder_newPeriod_previousPeriodRolledOver() throws IOException {
+        Path filePath = testFolder.resolve("completedorders.csv");
+        saveCompletedOrders(addressBookContainingCompletedOrder(), filePath, LocalDate.of(2024, 8, 31));
+        Files.setLastModifiedTime(filePath, FileTime.from(Instant.parse("2024-08-31T12:00:00Z")));
+        List<String> augustLines = Files.readAllLines(filePath);
+
+        saveCompletedOrders(addressBookContainingCompletedOrder(), filePath, LocalDate.of(2024, 9, 1));
+
+        assertEquals(Files.readAllLines(testDataPath("CompletedOrderStorageTestOneCompletedOrder.csv")),
+                Files.readAllLines(filePath));
+        Path augustFilePath = testFolder.resolve("completedorders-2024-08.csv.gz");
+        assertEquals(augustLines, List.of(new String(PartitionPolicy.readAllBytes(augustFilePath),
+                StandardCharsets.UTF_8).split(System.lineSeparator())));
+    }
+
+    @Test
+    public void saveCompletedOrder_newPeriodWithExistingPeriodFile_existingFileKept() throws IOException {
+        Path filePath = testFolder.resolve("completedorders.csv");
+        Path existingAugustFilePath = testFolder.resolve("completedorders-2024-08.csv.gz");
+        Files.writeString(existingAugustFilePath, "existing");
+        saveCompletedOrders(addressBookContainingCompletedOrder(), filePath, LocalDate.of(2024, 8, 31));
+        Files.setLastModifiedTime(filePath, FileTime.from(Instant.parse("2024-08-31T12:00:00Z")));
+        List<String> augustLines = Files.readAllLines(filePath);
+
+        saveCompletedOrders(addressBookContainingCompletedOrder(), filePath, LocalDate.of(2024, 9, 1));
+
+        assertEquals("existing", Files.readString(existingAugustFilePath));
+        Path augustFilePath = testFolder.resolve("completedorders-2024-08.2.csv.gz");
+        assertEquals(augustLines, List.of(new String(PartitionPolicy.readAllBytes(augustFilePath),
+                StandardCharsets.UTF_8).split(System.lineSeparator())));
+    }
+
+    @Test
+    public void saveCompletedOrder_retentionMonths_expiredPeriodFilesRemoved() throws IOException {
+        Path filePath = testFolder.resolve("completedorders.csv");
+        Path julyFilePath = testFolder.resolve("completedorders-2024-07.csv.gz");
+        Path numberedJulyFilePath = testFolder.resolve("completedorders-2024-07.2.csv.gz");
+        Path augustFilePath = testFolder.resolve("completedorders-2024-08.csv");
+        Files.writeString(julyFilePath, "");
+        Files.writeString(numberedJulyFilePath, "");
+        Files.writeString(augustFilePath, "");
+
+        CsvCompletedOrderStorage storage = new CsvCompletedOrderStorage(filePath, 1, new PartitionPolicy(1, 1),
+                clockAt(LocalDate.of(2024, 9, 30)));
+        storage.saveCompletedOrders(addressBookContainingCompletedOrder());
+        storage.close();
+
+        assertFalse(Files.exists(julyFilePath));
+        assertFalse(Files.exists(numberedJulyFilePath));
+        assertTrue(Files.exists(augustFilePath));
+    }
+
+    @Test
+    public void constructor_negativeFlushRowCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvCompletedOrderStorage(testFolder, -1));
+    }
+
 }
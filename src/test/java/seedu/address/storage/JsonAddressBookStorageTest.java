@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -12,11 +13,14 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.order.Order;
@@ -105,6 +109,51 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_streamed_sameAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_progressListener_progressReportedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        List<Double> progressReported = new ArrayList<>();
+        jsonAddressBookStorage.readAddressBook(progressReported::add);
+
+        assertFalse(progressReported.isEmpty());
+        for (int i = 1; i < progressReported.size(); i++) {
+            assertTrue(progressReported.get(i - 1) <= progressReported.get(i));
+        }
+        assertEquals(1.0, (double) progressReported.get(progressReported.size() - 1));
+    }
+
+    @Test
+    public void readAddressBook_personsBeforeOrdersAndMenu_sameAsBoundFile() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "legacyOrdersAddressBook.json");
+        AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get()
+                .toModelType();
+
+        ReadOnlyAddressBook streamed = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, new AddressBook(streamed));
+        assertEquals(expected.getMenuList(), streamed.getMenuList());
+        assertEquals(expected.getOrderListCounter(), streamed.getOrderListCounter());
+        for (Person person : streamed.getPersonList()) {
+            for (Order order : person.getOrders()) {
+                assertEquals(person, order.getCustomer());
+            }
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,6 +1,10 @@
 package seedu.address.storage;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -9,6 +13,9 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Product;
 
 public class JsonSerializableAddressBookTest {
 
@@ -16,6 +23,11 @@ public class JsonSerializableAddressBookTest {
     // private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path LEGACY_ORDERS_FILE = TEST_DATA_FOLDER.resolve("legacyOrdersAddressBook.json");
+    private static final Path UNSUPPORTED_SCHEMA_VERSION_FILE =
+            TEST_DATA_FOLDER.resolve("unsupportedSchemaVersionAddressBook.json");
+    private static final Path ORDER_PRODUCT_NOT_ON_MENU_FILE =
+            TEST_DATA_FOLDER.resolve("orderProductNotOnMenuAddressBook.json");
 
     //    @Test
     //    public void toModelType_typicalAddressBook_success() throws Exception {
@@ -42,4 +54,74 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_legacyOrdersFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LEGACY_ORDERS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Order secondOrder = addressBookFromFile.getOrderListClass().getOrder(2);
+        assertEquals(2, secondOrder.getProductMap().size());
+        assertEquals(2, secondOrder.getQuantityValue(new Product("Cookie")));
+        Product cookie = secondOrder.getProductMap().keySet().stream()
+                .filter(product -> product.getName().equals("Cookie")).findFirst().get();
+        assertEquals("2", cookie.getCost());
+        assertEquals("4", cookie.getSales());
+        assertEquals("Ready For Delivery", secondOrder.getStageContext().toString());
+    }
+
+    @Test
+    public void toModelType_typicalAddressBookRoundTrip_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        assertFalse(json.contains("productMap"));
+
+        AddressBook addressBookFromJson = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class)
+                .toModelType();
+        assertEquals(original, addressBookFromJson);
+    }
+
+    @Test
+    public void toModelType_legacyOrdersFileRoundTrip_orderProductsReferToMenu() throws Exception {
+        AddressBook legacyAddressBook = JsonUtil.readJsonFile(LEGACY_ORDERS_FILE,
+                JsonSerializableAddressBook.class).get().toModelType();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(legacyAddressBook));
+
+        AddressBook addressBookFromJson = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class)
+                .toModelType();
+        Product menuCupcake = addressBookFromJson.getMenuList().get(0);
+        for (Order order : addressBookFromJson.getOrderList()) {
+            Order legacyOrder = legacyAddressBook.getOrderListClass().getOrder(order.getId());
+            assertEquals(legacyOrder.getProductMap(), order.getProductMap());
+            for (Product product : order.getProductMap().keySet()) {
+                if (product.equals(menuCupcake)) {
+                    // products matching the menu are stored by reference and share the menu's instance
+                    assertSame(menuCupcake, product);
+                } else {
+                    // products off the menu keep their own prices
+                    assertEquals("2", product.getCost());
+                    assertEquals("4", product.getSales());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void toModelType_unsupportedSchemaVersion_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNSUPPORTED_SCHEMA_VERSION_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class,
+                String.format(JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_SCHEMA_VERSION, 99),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_orderProductNotOnMenu_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(ORDER_PRODUCT_NOT_ON_MENU_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedOrderItem.MESSAGE_PRODUCT_NOT_ON_MENU, "Cupcake"),
+                dataFromFile::toModelType);
+    }
+
 }
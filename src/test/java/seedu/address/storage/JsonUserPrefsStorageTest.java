@@ -70,6 +70,15 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_outOfRangeValuesInFile_defaultValuesUsed() throws DataLoadingException {
+        UserPrefs expected = new UserPrefs();
+        expected.setAddressBookFilePath(Paths.get("addressbook.json"));
+        UserPrefs actual = readUserPrefs("InvalidValuesUserPref.json").get();
+
+        assertEquals(expected, actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100));
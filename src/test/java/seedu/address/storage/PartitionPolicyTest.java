@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.storage.PartitionPolicy.Period;
+
+public class PartitionPolicyTest {
+
+    private static final Period AUGUST = new Period(YearMonth.of(2024, 8), YearMonth.of(2024, 8));
+    private static final Period THIRD_QUARTER = new Period(YearMonth.of(2024, 7), YearMonth.of(2024, 9));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidMonths_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, PartitionPolicy.MESSAGE_NON_POSITIVE_PARTITION_MONTHS, () ->
+                new PartitionPolicy(0, 0));
+        assertThrows(IllegalArgumentException.class, PartitionPolicy.MESSAGE_NEGATIVE_RETENTION_MONTHS, () ->
+                new PartitionPolicy(1, -1));
+    }
+
+    @Test
+    public void periodOf() {
+        assertEquals(AUGUST, PartitionPolicy.MONTHLY.periodOf(LocalDate.of(2024, 8, 31)));
+        assertEquals(THIRD_QUARTER, new PartitionPolicy(3, 0).periodOf(LocalDate.of(2024, 7, 1)));
+        assertEquals(THIRD_QUARTER, new PartitionPolicy(3, 0).periodOf(LocalDate.of(2024, 9, 30)));
+        assertEquals(new Period(YearMonth.of(2024, 1), YearMonth.of(2024, 12)),
+                new PartitionPolicy(12, 0).periodOf(LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    public void isExpired() {
+        PartitionPolicy keepOneMonth = new PartitionPolicy(1, 1);
+        assertFalse(keepOneMonth.isExpired(AUGUST, LocalDate.of(2024, 9, 30)));
+        assertTrue(keepOneMonth.isExpired(AUGUST, LocalDate.of(2024, 10, 1)));
+
+        // partitions are kept forever without a retention policy
+        assertFalse(PartitionPolicy.MONTHLY.isExpired(AUGUST, LocalDate.MAX));
+    }
+
+    @Test
+    public void compress_thenReadAllBytes_returnsContent() throws Exception {
+        Path file = testFolder.resolve("2024-08.csv");
+        byte[] content = "OrderID,Customer Name".getBytes(StandardCharsets.UTF_8);
+        Files.write(file, content);
+
+        Path compressedFile = PartitionPolicy.compress(file);
+
+        assertEquals(testFolder.resolve("2024-08.csv.gz"), compressedFile);
+        assertFalse(Files.exists(file));
+        assertArrayEquals(content, PartitionPolicy.readAllBytes(compressedFile));
+    }
+
+    @Test
+    public void periodParse() {
+        assertEquals(Optional.of(AUGUST), Period.parse(AUGUST.toString()));
+        assertEquals(Optional.of(THIRD_QUARTER), Period.parse(THIRD_QUARTER.toString()));
+        assertEquals("2024-07_2024-09", THIRD_QUARTER.toString());
+        assertEquals(Optional.empty(), Period.parse("2024-13"));
+        assertEquals(Optional.empty(), Period.parse("2024-09_2024-07"));
+        assertEquals(Optional.empty(), Period.parse("completedorders"));
+    }
+
+    @Test
+    public void periodOverlaps() {
+        assertTrue(AUGUST.overlaps(LocalDate.of(2024, 8, 31), LocalDate.MAX));
+        assertTrue(AUGUST.overlaps(LocalDate.MIN, LocalDate.of(2024, 8, 1)));
+        assertFalse(AUGUST.overlaps(LocalDate.of(2024, 9, 1), LocalDate.MAX));
+        assertFalse(AUGUST.overlaps(LocalDate.MIN, LocalDate.of(2024, 7, 31)));
+    }
+
+    @Test
+    public void equals() {
+        assertEquals(PartitionPolicy.MONTHLY, new PartitionPolicy(1, 0));
+        assertNotEquals(PartitionPolicy.MONTHLY, new PartitionPolicy(1, 1));
+        assertNotEquals(PartitionPolicy.MONTHLY, new PartitionPolicy(3, 0));
+        assertNotEquals(PartitionPolicy.MONTHLY, null);
+    }
+}
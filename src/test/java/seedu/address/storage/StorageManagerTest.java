@@ -1,19 +1,27 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.JournalReplayer;
 import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.order.OrderArchive;
 
 public class StorageManagerTest {
 
@@ -62,6 +70,129 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_journalBelowThreshold_dataFileNotWritten() throws Exception {
+        StorageManager journalledStorageManager = createJournalledStorageManager(2);
+        AddressBook original = getTypicalAddressBook();
+
+        journalledStorageManager.appendToJournal("clear");
+        journalledStorageManager.saveAddressBook(original);
+
+        assertFalse(journalledStorageManager.readAddressBook().isPresent());
+        assertEquals(Arrays.asList("clear"), journalledStorageManager.readJournal());
+    }
+
+    @Test
+    public void saveAddressBook_journalReachesThreshold_journalCompacted() throws Exception {
+        StorageManager journalledStorageManager = createJournalledStorageManager(2);
+        AddressBook original = getTypicalAddressBook();
+
+        journalledStorageManager.appendToJournal("clear");
+        journalledStorageManager.appendToJournal("clear");
+        journalledStorageManager.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(journalledStorageManager.readAddressBook().get()));
+        assertTrue(journalledStorageManager.readJournal().isEmpty());
+    }
+
+    @Test
+    public void close_journalNotEmpty_journalCompacted() throws Exception {
+        StorageManager journalledStorageManager = createJournalledStorageManager(10);
+        AddressBook original = getTypicalAddressBook();
+
+        journalledStorageManager.appendToJournal("clear");
+        journalledStorageManager.saveAddressBook(original);
+        journalledStorageManager.close();
+
+        assertEquals(original, new AddressBook(journalledStorageManager.readAddressBook().get()));
+        assertTrue(journalledStorageManager.readJournal().isEmpty());
+    }
+
+    @Test
+    public void close_afterJournalReplayed_journalCompacted() throws Exception {
+        StorageManager crashedStorageManager = createJournalledStorageManager(10);
+        crashedStorageManager.appendToJournal("clear");
+
+        // the journal is replayed on the next launch, as the first storage manager was never closed
+        StorageManager replayingStorageManager = createJournalledStorageManager(10);
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new JournalReplayer().replay(replayingStorageManager.readJournal(), model);
+        replayingStorageManager.saveAddressBook(model.getAddressBook());
+        replayingStorageManager.close();
+
+        StorageManager reopenedStorageManager = createJournalledStorageManager(10);
+        assertTrue(reopenedStorageManager.readJournal().isEmpty());
+        assertEquals(new AddressBook(model.getAddressBook()),
+                new AddressBook(reopenedStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readJournal_noJournal_emptyResult() throws Exception {
+        storageManager.appendToJournal("clear");
+        assertTrue(storageManager.readJournal().isEmpty());
+    }
+
+    @Test
+    public void saveCompletedOrders_withOrderArchive_completedOrdersArchived() throws Exception {
+        StorageManager archivingStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new CsvCompletedOrderStorage(getTempFilePath("completedOrders")),
+                new BinaryOrderArchiveStorage(getTempFilePath("archive")), null, 0, 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.completeOrder(1);
+
+        archivingStorageManager.saveCompletedOrders(addressBook);
+
+        assertEquals(1, archivingStorageManager.getOrderArchive().size());
+        assertTrue(archivingStorageManager.getOrderArchive().findById(1).isPresent());
+    }
+
+    @Test
+    public void saveCompletedOrders_writeBehind_completedOrdersWrittenBeforeReturning() throws Exception {
+        Path completedOrdersFile = getTempFilePath("completedOrders");
+        StorageManager writeBehindStorageManager = new StorageManager(
+                new JsonAddressBookStorage(getTempFilePath("ab")), new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new CsvCompletedOrderStorage(completedOrdersFile), 60_000);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.completeOrder(1);
+
+        writeBehindStorageManager.saveCompletedOrders(addressBook);
+
+        assertTrue(Files.size(completedOrdersFile) > 0);
+        writeBehindStorageManager.close();
+    }
+
+    @Test
+    public void saveCompletedOrders_crashAfterJournalled_completedOrdersOnDisk() throws Exception {
+        StorageManager journalledStorageManager = createJournalledStorageManager(1000);
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.completeOrder(1);
+
+        journalledStorageManager.saveCompletedOrders(addressBook);
+        journalledStorageManager.appendToJournal("complete 1");
+
+        // the storage manager is not closed, as when the app crashes, and replaying the journal does not save the
+        // completed order again
+        assertEquals(2, Files.readAllLines(getTempFilePath("completedOrders")).size());
+    }
+
+    @Test
+    public void getOrderArchive_noOrderArchive_emptyArchive() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.completeOrder(1);
+
+        storageManager.saveCompletedOrders(addressBook);
+
+        assertEquals(OrderArchive.EMPTY, storageManager.getOrderArchive());
+    }
+
+    private StorageManager createJournalledStorageManager(int journalCompactionThreshold) {
+        return new StorageManager(new JsonAddressBookStorage(getTempFilePath("journalledAb")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new CsvCompletedOrderStorage(getTempFilePath("completedOrders")),
+                new TextJournalStorage(getTempFilePath("journal")), 0, journalCompactionThreshold);
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TextJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJournal_missingFile_emptyResult() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(testFolder.resolve("NonExistentFile.journal"));
+        assertTrue(journalStorage.readJournal().isEmpty());
+        assertEquals(0, journalStorage.getJournalSize());
+    }
+
+    @Test
+    public void appendToJournal_nullCommandText_throwsNullPointerException() {
+        TextJournalStorage journalStorage = new TextJournalStorage(testFolder.resolve("addressbook.journal"));
+        assertThrows(NullPointerException.class, () -> journalStorage.appendToJournal(null));
+    }
+
+    @Test
+    public void appendToJournal_multilineCommandText_throwsIllegalArgumentException() {
+        TextJournalStorage journalStorage = new TextJournalStorage(testFolder.resolve("addressbook.journal"));
+        assertThrows(IllegalArgumentException.class, () -> journalStorage.appendToJournal("clear\nclear"));
+    }
+
+    @Test
+    public void appendAndReadJournal_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("nested").resolve("addressbook.journal");
+        TextJournalStorage journalStorage = new TextJournalStorage(filePath);
+
+        journalStorage.appendToJournal("clear");
+        journalStorage.appendToJournal("delete c/1");
+        assertEquals(2, journalStorage.getJournalSize());
+        assertEquals(Arrays.asList("clear", "delete c/1"), journalStorage.readJournal());
+
+        // A fresh instance counts the records already in the file
+        TextJournalStorage reopenedJournalStorage = new TextJournalStorage(filePath);
+        assertEquals(2, reopenedJournalStorage.getJournalSize());
+        reopenedJournalStorage.appendToJournal("delete o/1");
+        assertEquals(Arrays.asList("clear", "delete c/1", "delete o/1"), reopenedJournalStorage.readJournal());
+    }
+
+    @Test
+    public void clearJournal_existingRecords_emptiesJournal() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(testFolder.resolve("addressbook.journal"));
+        journalStorage.appendToJournal("clear");
+
+        journalStorage.clearJournal();
+        assertEquals(0, journalStorage.getJournalSize());
+        assertTrue(journalStorage.readJournal().isEmpty());
+    }
+
+    @Test
+    public void setAsideJournal_existingRecords_recordsMovedToNewFile() throws Exception {
+        TextJournalStorage journalStorage = new TextJournalStorage(testFolder.resolve("addressbook.journal"));
+        journalStorage.appendToJournal("clear");
+        journalStorage.appendToJournal("list");
+
+        Path setAsideFilePath = journalStorage.setAsideJournal();
+        assertEquals(0, journalStorage.getJournalSize());
+        assertTrue(journalStorage.readJournal().isEmpty());
+        assertEquals(Arrays.asList("clear", "list"), new TextJournalStorage(setAsideFilePath).readJournal());
+    }
+}
@@ -0,0 +1,140 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindPersistenceTest {
+
+    /** Long enough that no background write happens while a test runs. */
+    private static final long LONG_STALENESS_MILLIS = 60_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void markDirty_nullAddressBook_throwsNullPointerException() throws IOException {
+        WriteBehindPersistence persistence = createPersistence(new CountingAddressBookStorage(), 10);
+        assertThrows(NullPointerException.class, () -> persistence.markDirty(null));
+        persistence.close();
+    }
+
+    @Test
+    public void flush_pendingChanges_writesLatestAddressBook() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        WriteBehindPersistence persistence = createPersistence(addressBookStorage, LONG_STALENESS_MILLIS);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        persistence.markDirty(addressBook);
+        assertTrue(persistence.hasPendingChanges());
+        persistence.flush();
+
+        assertFalse(persistence.hasPendingChanges());
+        assertEquals(addressBook, addressBookStorage.readAddressBook().get());
+        persistence.close();
+    }
+
+    @Test
+    public void flush_burstOfChanges_coalescedIntoSingleWrite() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        WriteBehindPersistence persistence = createPersistence(addressBookStorage, LONG_STALENESS_MILLIS);
+
+        for (int i = 0; i < 10; i++) {
+            persistence.markDirty(getTypicalAddressBook());
+        }
+        persistence.flush();
+        persistence.flush();
+
+        assertEquals(1, addressBookStorage.saveCount);
+        persistence.close();
+    }
+
+    @Test
+    public void markDirty_shortStaleness_writtenInBackground() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        WriteBehindPersistence persistence = createPersistence(addressBookStorage, 10);
+
+        persistence.markDirty(getTypicalAddressBook());
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (addressBookStorage.saveCount == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertFalse(persistence.hasPendingChanges());
+        assertEquals(1, addressBookStorage.saveCount);
+        persistence.close();
+    }
+
+    @Test
+    public void flush_failingStorage_throwsAndKeepsChangesPending() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        addressBookStorage.failing = true;
+        WriteBehindPersistence persistence = createPersistence(addressBookStorage, LONG_STALENESS_MILLIS);
+
+        persistence.markDirty(getTypicalAddressBook());
+        assertThrows(IOException.class, persistence::flush);
+        assertTrue(persistence.hasPendingChanges());
+
+        addressBookStorage.failing = false;
+        persistence.close();
+        assertFalse(persistence.hasPendingChanges());
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void markDirty_previousBackgroundWriteFailed_throwsIoException() throws Exception {
+        CountingAddressBookStorage addressBookStorage = new CountingAddressBookStorage();
+        addressBookStorage.failing = true;
+        WriteBehindPersistence persistence = createPersistence(addressBookStorage, 10);
+
+        persistence.markDirty(getTypicalAddressBook());
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (addressBookStorage.attemptCount == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+
+        addressBookStorage.failing = false;
+        assertThrows(IOException.class, () -> persistence.markDirty(getTypicalAddressBook()));
+        persistence.close();
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
+    private WriteBehindPersistence createPersistence(AddressBookStorage addressBookStorage, long stalenessMillis) {
+        return new WriteBehindPersistence(addressBookStorage, stalenessMillis);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that counts the writes it receives and can be made to fail.
+     */
+    private class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile boolean failing = false;
+        private volatile int attemptCount = 0;
+        private volatile int saveCount = 0;
+
+        CountingAddressBookStorage() {
+            super(testFolder.resolve("addressBook.json"));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            attemptCount++;
+            if (failing) {
+                throw new IOException("dummy IO exception");
+            }
+            super.saveAddressBook(addressBook, filePath);
+            saveCount++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Product;
+import seedu.address.model.order.Quantity;
+import seedu.address.model.order.util.SampleDataUtil;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * A utility class to generate large {@code AddressBook} objects for benchmarks, with customers based on the
+ * sample persons in {@link SampleDataUtil}.
+ */
+public class LargeAddressBookGenerator {
+
+    public static final int MENU_SIZE = 20;
+    public static final int PRODUCTS_PER_ORDER = 3;
+
+    /**
+     * Returns an {@code AddressBook} with {@code customerCount} customers who each placed
+     * {@code ordersPerCustomer} orders of {@code PRODUCTS_PER_ORDER} products from a menu of
+     * {@code MENU_SIZE} products. Every tenth order includes a product that is no longer on the menu.
+     */
+    public static AddressBook generate(int customerCount, int ordersPerCustomer) {
+        AddressBook addressBook = new AddressBook();
+        List<Product> menu = new ArrayList<>();
+        for (int i = 0; i < MENU_SIZE; i++) {
+            Product product = new ProductBuilder().withName("Product " + i)
+                    .withCost(Integer.toString(i + 1)).withSales(Integer.toString(2 * i + 2)).build();
+            menu.add(product);
+            addressBook.addProduct(product);
+        }
+
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        for (int i = 0; i < customerCount; i++) {
+            Person customer = generateCustomer(samplePersons[i % samplePersons.length], i);
+            addressBook.addPerson(customer);
+            for (int j = 0; j < ordersPerCustomer; j++) {
+                Order order = new Order();
+                for (int k = 0; k < PRODUCTS_PER_ORDER; k++) {
+                    order.addProduct(menu.get((i + j + k) % MENU_SIZE), new Quantity(k + 1));
+                }
+                if ((i * ordersPerCustomer + j) % 10 == 0) {
+                    order.addProduct(new Product("Discontinued " + j, "5", "9"), new Quantity(1));
+                }
+                order.setCustomer(customer);
+                addressBook.addOrder(order);
+            }
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a customer with the address and tags of {@code samplePerson}, and a name, phone number and email
+     * that are unique to {@code index}.
+     */
+    public static Person generateCustomer(Person samplePerson, int index) {
+        return new Person(new Name(samplePerson.getName().fullName + " " + index),
+                new Phone(Integer.toString(80000000 + index)), new Email("customer" + index + "@example.com"),
+                samplePerson.getAddress(), samplePerson.getTags());
+    }
+}
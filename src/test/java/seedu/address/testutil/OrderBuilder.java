@@ -3,6 +3,7 @@ package seedu.address.testutil;
 import java.util.HashMap;
 import java.util.Map;
 
+import seedu.address.model.order.Deadline;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.Product;
 import seedu.address.model.order.Quantity;
@@ -24,6 +25,7 @@ public class OrderBuilder {
     private Map<Product, Quantity> productMap;
     private Person person;
     private StageContext stageContext;
+    private Deadline deadline;
 
     /**
      * Creates a {@code OrderBuilder} with the default details.
@@ -39,10 +41,11 @@ public class OrderBuilder {
      * Initializes the OrderBuilder with the data of {@code orderToCopy}.
      */
     public OrderBuilder(Order orderToCopy) {
-        productMap = orderToCopy.getProductMap();
+        productMap = new HashMap<>(orderToCopy.getProductMap());
         id = orderToCopy.getId();
         person = orderToCopy.getCustomer();
         stageContext = orderToCopy.getStageContext();
+        deadline = orderToCopy.getDeadlineObject();
     }
 
     /**
@@ -95,6 +98,14 @@ public class OrderBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code Deadline} of the {@code Order} that we are building.
+     */
+    public OrderBuilder withDeadline(String deadline) {
+        this.deadline = new Deadline(deadline);
+        return this;
+    }
+
     /**
      * Builds the order
      *
@@ -104,6 +115,7 @@ public class OrderBuilder {
         Order order = new Order(this.id);
         order.setProductMap(this.productMap);
         order.setStageContext(this.stageContext);
+        order.setDeadline(this.deadline);
         return order;
     }
 }